@@ -0,0 +1,84 @@
+package org.example.statistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the servlet and the reactive stack under {@link #connections} concurrent clients. Every
+ * operation is a burst of that many simultaneous requests, each on its own keep-alive connection,
+ * and its score is the time until the last response. The p50/p99 of the individual requests of each
+ * iteration are printed after it.
+ * <p>
+ * Client and server share the benchmark JVM, so it needs about two file descriptors per connection:
+ * {@code ulimit -n} has to be well above twice the connection count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConcurrentConnectionsBenchmark {
+
+	@Param("10000")
+	public int connections;
+
+	private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+	@Benchmark
+	public int serverMatchesForDay(HttpDatasetState dataset) {
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+
+		for (int i = 0; i < connections; i++) {
+			String endpoint = dataset.endpoints.get(i % dataset.endpoints.size());
+			HttpRequest request = HttpRequest.newBuilder(dataset.baseUri.resolve("/servers/" + endpoint + "/matches/" + dataset.today))
+					.header("Authorization", dataset.adminAuthorization)
+					.timeout(Duration.ofMinutes(1))
+					.build();
+
+			long started = System.nanoTime();
+			responses[i] = dataset.client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+					.thenAccept(response -> {
+						if (response.statusCode() != 200) {
+							throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+						}
+						latencies.add(System.nanoTime() - started);
+					});
+		}
+
+		CompletableFuture.allOf(responses).join();
+		return connections;
+	}
+
+	@TearDown(Level.Iteration)
+	public void printLatencies() {
+		long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		latencies.clear();
+
+		if (sorted.length > 0) {
+			System.out.printf("%nrequests=%d p50=%.1f ms p99=%.1f ms%n", sorted.length,
+					percentile(sorted, 0.5), percentile(sorted, 0.99));
+		}
+	}
+
+	private static double percentile(long[] sorted, double quantile) {
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+	}
+}
@@ -0,0 +1,61 @@
+package org.example.statistics.benchmark;
+
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Save and load latency of the {@link Server} and {@link Player} hashes. Match membership is kept in
+ * the day indexes, so these should not move between the datasets of {@link RedisDatasetState}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EntityStorageBenchmark {
+
+	private ServerRepository serverRepository;
+	private PlayerRepository playerRepository;
+	private List<Server> servers;
+	private List<Player> players;
+	private int next;
+
+	@Setup
+	public void setUp(RedisDatasetState dataset) {
+		serverRepository = dataset.bean(ServerRepository.class);
+		playerRepository = dataset.bean(PlayerRepository.class);
+		servers = dataset.endpoints.stream().map(endpoint -> serverRepository.findById(endpoint).orElseThrow()).toList();
+		players = dataset.playerNames.stream().limit(servers.size()).map(name -> playerRepository.findById(name).orElseThrow()).toList();
+	}
+
+	@Benchmark
+	public Object serverFindById() {
+		return serverRepository.findById(servers.get(next++ % servers.size()).getEndpoint());
+	}
+
+	@Benchmark
+	public Object serverSave() {
+		return serverRepository.save(servers.get(next++ % servers.size()));
+	}
+
+	@Benchmark
+	public Object playerFindById() {
+		return playerRepository.findById(players.get(next++ % players.size()).getName());
+	}
+}
@@ -0,0 +1,69 @@
+package org.example.statistics.benchmark;
+
+import org.example.statistics.domain.Session;
+import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the dataset of {@link RedisDatasetState} over HTTP, from Spring MVC on Tomcat or from the
+ * reactive profile on Netty, and a client with tokens for an admin and for the first player.
+ * {@link #virtualThreads} picks the threads Tomcat handles requests on; the reactive stack only
+ * uses them for its few blocking endpoints.
+ */
+public class HttpDatasetState extends RedisDatasetState {
+
+	@Param({"servlet", "reactive"})
+	public String stack;
+
+	@Param({"true", "false"})
+	public boolean virtualThreads;
+
+	public HttpClient client;
+	public URI baseUri;
+	public String adminAuthorization;
+	public String playerAuthorization;
+	public String playerName;
+
+	@Override
+	protected List<String> properties() {
+		List<String> properties = new ArrayList<>(super.properties());
+		properties.add("spring.threads.virtual.enabled=" + virtualThreads);
+		// Tomcat refuses connections beyond 8192 by default; Netty has no such limit
+		properties.add("server.tomcat.max-connections=-1");
+		if (stack.equals("reactive")) {
+			properties.add("spring.profiles.active=reactive");
+		}
+		return properties;
+	}
+
+	@Override
+	protected void loaded() {
+		// The server needs its authentication per request thread again
+		SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_THREADLOCAL);
+
+		playerName = playerNames.getFirst();
+		adminAuthorization = authorization("Admin", "ADMIN");
+		playerAuthorization = authorization(playerName, "PLAYER");
+		baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	}
+
+	private String authorization(String userName, String role) {
+		bean(SessionRepository.class).save(Session.builder().id(userName).userName(userName).sessionId("load").build());
+		return "Bearer " + bean(JwtUtil.class).generateToken(userName, role, "load");
+	}
+
+	@TearDown(Level.Trial)
+	public void disconnect() {
+		client.close();
+	}
+}
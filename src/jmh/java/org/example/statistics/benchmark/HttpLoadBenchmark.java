@@ -0,0 +1,59 @@
+package org.example.statistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request latency distribution of the hot read endpoints under concurrent clients, with Tomcat on
+ * virtual or platform threads. Every benchmark thread is one client with one request in flight;
+ * raise the client count with {@code -t} until p0.99 degrades to compare the capacity of both modes.
+ * <p>
+ * Pinned virtual threads are reported on stdout through {@code -Djdk.tracePinnedThreads=short}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djdk.tracePinnedThreads=short"})
+public class HttpLoadBenchmark {
+
+	private int next;
+
+	@Benchmark
+	public int playerStats(HttpDatasetState dataset) throws IOException, InterruptedException {
+		return get(dataset, "/players/" + dataset.playerName + "/stats", dataset.playerAuthorization);
+	}
+
+	@Benchmark
+	public int serverMatchesForDay(HttpDatasetState dataset) throws IOException, InterruptedException {
+		String endpoint = dataset.endpoints.get(next++ % dataset.endpoints.size());
+		return get(dataset, "/servers/" + endpoint + "/matches/" + dataset.today, dataset.adminAuthorization);
+	}
+
+	private static int get(HttpDatasetState dataset, String path, String authorization) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(dataset.baseUri.resolve(path))
+				.header("Authorization", authorization)
+				.build();
+		int status = dataset.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+
+		if (status != 200) {
+			throw new IllegalStateException(path + " returned " + status);
+		}
+		return status;
+	}
+}
@@ -0,0 +1,102 @@
+package org.example.statistics.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.statistics.domain.Session;
+import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.security.JwtFilter;
+import org.example.statistics.security.SessionCache;
+import org.example.statistics.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-request token handling cost of {@link JwtFilter}.
+ * {@code legacyTokenHandling} repeats what the filter did before claims were parsed once:
+ * four verifications, each with a freshly built verifier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+	private final Algorithm algorithm = Algorithm.HMAC256("secretKey");
+
+	private JwtUtil cachingJwtUtil;
+	private JwtUtil nonCachingJwtUtil;
+	private JwtFilter jwtFilter;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		cachingJwtUtil = new JwtUtil(10_000);
+		nonCachingJwtUtil = new JwtUtil(0);
+		token = cachingJwtUtil.generateToken("Admin", "ADMIN", "sid");
+
+		SessionRepository sessionRepository = mock(SessionRepository.class);
+		when(sessionRepository.findByUserName("Admin"))
+				.thenReturn(Optional.of(Session.builder().id("Admin").userName("Admin").sessionId("sid").build()));
+		SessionCache sessionCache = new SessionCache(sessionRepository, mock(StringRedisTemplate.class),
+				new SimpleMeterRegistry(), 1000, Duration.ofMinutes(1));
+		jwtFilter = new JwtFilter(cachingJwtUtil, sessionCache);
+	}
+
+	@Benchmark
+	public void legacyTokenHandling(Blackhole blackhole) {
+		blackhole.consume(JWT.require(algorithm).build().verify(token).getExpiresAt());
+		blackhole.consume(JWT.require(algorithm).build().verify(token).getSubject());
+		blackhole.consume(JWT.require(algorithm).build().verify(token).getClaim("role").asString());
+		blackhole.consume(JWT.require(algorithm).build().verify(token).getClaim("sessionId").asString());
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return cachingJwtUtil.generateToken("Admin", "ADMIN", "sid");
+	}
+
+	@Benchmark
+	public Object verifyWithoutCache() {
+		return nonCachingJwtUtil.verify(token);
+	}
+
+	@Benchmark
+	public Object verifyCached() {
+		return cachingJwtUtil.verify(token);
+	}
+
+	@Benchmark
+	public Object filterCached() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/best-players");
+		request.addHeader("Authorization", "Bearer " + token);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		jwtFilter.doFilter(request, response, new MockFilterChain());
+		SecurityContextHolder.clearContext();
+		return response;
+	}
+}
@@ -0,0 +1,70 @@
+package org.example.statistics.benchmark;
+
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.domain.ServerDistribution;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.mapper.player.PlayerMapper;
+import org.example.statistics.mapper.player.PlayerMapperImpl;
+import org.example.statistics.mapper.server.ServerMapper;
+import org.example.statistics.mapper.server.ServerMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+	private final PlayerMapper playerMapper = new PlayerMapperImpl();
+	private final ServerMapper serverMapper = new ServerMapperImpl();
+
+	private Player player;
+	private Server server;
+	private ServerDistribution distribution;
+
+	@Setup
+	public void setUp() {
+		player = Player.builder()
+				.name("PlayerOne")
+				.totalScore(12_345)
+				.matchesPlayed(420)
+				.winRate(57)
+				.build();
+		server = Server.builder()
+				.endpoint("127.0.0.1:27015")
+				.name("Main")
+				.region("eu")
+				.rating(4.5)
+				.build();
+		distribution = new ServerDistribution();
+		for (int i = 0; i < 1_000; i++) {
+			distribution.getScores().add(i % 97);
+			distribution.getMargins().add(i % 13);
+			distribution.getMatchesPerHour().add(i % 31);
+		}
+	}
+
+	@Benchmark
+	public Object playerStats() {
+		return playerMapper.toPlayerStatsDto(player);
+	}
+
+	@Benchmark
+	public Object serverStats() {
+		return serverMapper.toServerStatsDto(server, 420, 180, TimeWindow.ALL, distribution);
+	}
+}
@@ -0,0 +1,152 @@
+package org.example.statistics.benchmark;
+
+import org.example.statistics.StatisticsApplication;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.repository.LeaderboardRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRankingRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.service.match.MatchRecordingService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Starts the application against its own embedded Redis and loads a synthetic dataset of
+ * {@link #matches} matches spread over the last week, recorded through the production write path.
+ * <p>
+ * The 10M dataset needs several GB of memory for Redis and takes minutes to load; pick a size
+ * with {@code -p matches=10000} while iterating on a change.
+ */
+@State(Scope.Benchmark)
+public class RedisDatasetState {
+
+	private static final int SERVERS = 100;
+	private static final int PLAYERS = 10_000;
+	private static final int BATCH_SIZE = 1000;
+
+	@Param({"10000", "1000000", "10000000"})
+	public int matches;
+
+	public ConfigurableApplicationContext context;
+	public List<String> endpoints;
+	public List<String> playerNames;
+	public String today;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// Passed as arguments: default properties would lose against application.properties
+		context = new SpringApplicationBuilder(StatisticsApplication.class)
+				.run(properties().stream().map(property -> "--" + property).toArray(String[]::new));
+
+		// Benchmark threads share the caller's authentication for the per-user service checks
+		SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				"Admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+		bean(StringRedisTemplate.class).execute((RedisCallback<Object>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+
+		load();
+
+		Properties memory = bean(StringRedisTemplate.class).execute(
+				(RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+		System.out.printf("%nLoaded %d matches, Redis used_memory=%s%n", matches, memory.getProperty("used_memory"));
+		loaded();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	protected List<String> properties() {
+		return List.of(
+				"server.port=0",
+				"spring.data.redis.port=6391",
+				"match.generator.cron=-",
+				"leaderboard.reconcile.cron=-");
+	}
+
+	/**
+	 * Called once the dataset is in Redis; JMH gives no order to the setup methods of a state hierarchy.
+	 */
+	protected void loaded() {
+	}
+
+	public <T> T bean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	private void load() {
+		endpoints = new ArrayList<>(SERVERS);
+		List<Server> servers = new ArrayList<>(SERVERS);
+		for (int i = 0; i < SERVERS; i++) {
+			String endpoint = "10.0.%d.%d:27015".formatted(i / 256, i % 256);
+			endpoints.add(endpoint);
+			servers.add(Server.builder().endpoint(endpoint).name("Server " + i).region("region-" + i % 5).build());
+		}
+		bean(ServerRepository.class).saveAll(servers);
+		bean(ServerRankingRepository.class).registerAll(servers);
+
+		playerNames = new ArrayList<>(PLAYERS);
+		List<Player> players = new ArrayList<>(PLAYERS);
+		for (int i = 0; i < PLAYERS; i++) {
+			String name = "Player" + i;
+			playerNames.add(name);
+			players.add(Player.builder().name(name).build());
+		}
+		bean(PlayerRepository.class).saveAll(players);
+		bean(LeaderboardRepository.class).updateAll(players);
+
+		MatchRecordingService matchRecordingService = bean(MatchRecordingService.class);
+		Random random = new Random(42);
+		LocalDateTime now = LocalDateTime.now();
+		today = LocalDate.now().toString();
+
+		List<Match> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < matches; i++) {
+			int first = random.nextInt(PLAYERS);
+			int second = (first + 1 + random.nextInt(PLAYERS - 1)) % PLAYERS;
+
+			Map<String, Integer> scores = new LinkedHashMap<>();
+			scores.put(playerNames.get(first), random.nextInt(21));
+			scores.put(playerNames.get(second), random.nextInt(21));
+
+			batch.add(Match.builder()
+					.id("bench-" + i)
+					.serverEndpoint(endpoints.get(random.nextInt(SERVERS)))
+					.timestamp(now.minusSeconds(random.nextInt(7 * 24 * 3600)))
+					.playerScores(scores)
+					.build());
+
+			if (batch.size() == BATCH_SIZE || i == matches - 1) {
+				matchRecordingService.recordAll(batch);
+				batch.clear();
+			}
+		}
+	}
+}
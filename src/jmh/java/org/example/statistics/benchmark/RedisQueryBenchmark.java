@@ -0,0 +1,72 @@
+package org.example.statistics.benchmark;
+
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.service.player.PlayerService;
+import org.example.statistics.service.report.ReportService;
+import org.example.statistics.service.server.ServerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the services behind the hot read endpoints, against the datasets of {@link RedisDatasetState}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RedisQueryBenchmark {
+
+	private ReportService reportService;
+	private ServerService serverService;
+	private PlayerService playerService;
+	private int next;
+
+	@Setup
+	public void setUp(RedisDatasetState dataset) {
+		reportService = dataset.bean(ReportService.class);
+		serverService = dataset.bean(ServerService.class);
+		playerService = dataset.bean(PlayerService.class);
+	}
+
+	@Benchmark
+	public Object recentMatches() {
+		return reportService.getRecentMatches(50, null, null);
+	}
+
+	@Benchmark
+	public Object bestPlayers() {
+		return reportService.getBestPlayers(50);
+	}
+
+	@Benchmark
+	public Object popularServersAllTime() {
+		return reportService.getPopularServers(10, TimeWindow.ALL);
+	}
+
+	@Benchmark
+	public Object popularServersLastDay() {
+		return reportService.getPopularServers(10, TimeWindow.DAY);
+	}
+
+	@Benchmark
+	public Object serverMatchesForDay(RedisDatasetState dataset) {
+		return serverService.getMatches(dataset.endpoints.get(next++ % dataset.endpoints.size()), dataset.today);
+	}
+
+	@Benchmark
+	public Object playerStats(RedisDatasetState dataset) {
+		return playerService.getStats(dataset.playerNames.get(next++ % dataset.playerNames.size()), 20, null);
+	}
+}
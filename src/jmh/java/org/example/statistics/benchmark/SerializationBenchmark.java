@@ -0,0 +1,129 @@
+package org.example.statistics.benchmark;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.statistics.codec.CompactReadingConverter;
+import org.example.statistics.codec.CompactRedisSerializer;
+import org.example.statistics.codec.CompactWritingConverter;
+import org.example.statistics.codec.MatchCodec;
+import org.example.statistics.codec.PlayerCodec;
+import org.example.statistics.codec.ServerCodec;
+import org.example.statistics.domain.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.convert.RedisCustomConversions;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a {@link Match} in every format it can be stored in: as a template value
+ * ({@code json} or {@code compact}) and as a repository hash ({@code hash} or {@code compactHash}).
+ * The encoded size of each format is printed once per trial.
+ * <p>
+ * For the effect on Redis memory, compare the {@code used_memory} that {@link RedisDatasetState}
+ * logs after loading with and without {@code -jvmArgsAppend -Dredis.serialization.format=legacy}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+	@Param({"json", "compact", "hash", "compactHash"})
+	public String format;
+
+	private RedisSerializer<Object> serializer;
+	private MappingRedisConverter converter;
+	private Match match;
+	private byte[] encoded;
+	private Map<byte[], byte[]> encodedHash;
+
+	@Setup
+	public void setUp() {
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put("PlayerOne", 17);
+		scores.put("PlayerTwo", 9);
+		match = Match.builder()
+				.id("6f1c2a4e-8d3b-4f5a-9c7e-2b1d0a3f4e5c")
+				.serverEndpoint("10.0.0.1:27015")
+				.timestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 5, 123_000_000))
+				.playerScores(scores)
+				.build();
+
+		// The JSON serializer as configured in production cannot write LocalDateTime without the time module
+		GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer()
+				.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+
+		switch (format) {
+			case "json" -> serializer = json;
+			case "compact" -> serializer = new CompactRedisSerializer(
+					List.of(new MatchCodec(), new ServerCodec(), new PlayerCodec()), json, true);
+			case "hash" -> converter = converter(false);
+			case "compactHash" -> converter = converter(true);
+			default -> throw new IllegalArgumentException("Unknown format " + format);
+		}
+
+		int size;
+		if (serializer != null) {
+			encoded = serializer.serialize(match);
+			size = encoded.length;
+		}
+		else {
+			encodedHash = hash();
+			size = encodedHash.entrySet().stream().mapToInt(field -> field.getKey().length + field.getValue().length).sum();
+		}
+		System.out.printf("%n%s: %d bytes per match%n", format, size);
+	}
+
+	@Benchmark
+	public Object encode() {
+		return serializer != null ? serializer.serialize(match) : hash();
+	}
+
+	@Benchmark
+	public Object decode() {
+		if (serializer != null) {
+			return serializer.deserialize(encoded);
+		}
+
+		RedisData data = new RedisData(encodedHash);
+		data.setId(match.getId());
+		data.setKeyspace("Match");
+		return converter.read(Match.class, data);
+	}
+
+	private Map<byte[], byte[]> hash() {
+		RedisData data = new RedisData();
+		converter.write(match, data);
+		return data.getBucket().rawMap();
+	}
+
+	private static MappingRedisConverter converter(boolean compact) {
+		MappingRedisConverter converter = new MappingRedisConverter(new RedisMappingContext());
+		MatchCodec codec = new MatchCodec();
+		converter.setCustomConversions(new RedisCustomConversions(compact
+				? List.of(new CompactReadingConverter<>(codec), new CompactWritingConverter<>(codec))
+				: List.of(new CompactReadingConverter<>(codec))));
+		converter.afterPropertiesSet();
+		return converter;
+	}
+}
@@ -0,0 +1,81 @@
+package org.example.statistics.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads values written by {@link CompactWriter}, failing with an {@link IllegalArgumentException}
+ * on a truncated or malformed payload.
+ */
+final class CompactReader {
+
+	private final byte[] buffer;
+	private int position;
+
+	CompactReader(byte[] buffer) {
+		this.buffer = buffer;
+	}
+
+	int readByte() {
+		require(1);
+		return buffer[position++] & 0xFF;
+	}
+
+	long readVarLong() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint in compact payload");
+	}
+
+	int readVarInt() {
+		return (int) readVarLong();
+	}
+
+	long readSignedVarLong() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	int readSignedVarInt() {
+		return (int) readSignedVarLong();
+	}
+
+	double readDouble() {
+		require(Long.BYTES);
+		long bits = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			bits = (bits << 8) | (buffer[position++] & 0xFF);
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	String readString() {
+		int length = readVarInt() - 1;
+		if (length < 0) {
+			return null;
+		}
+
+		require(length);
+		String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+		position += length;
+		return value;
+	}
+
+	byte[] readRemaining() {
+		byte[] rest = Arrays.copyOfRange(buffer, position, buffer.length);
+		position = buffer.length;
+		return rest;
+	}
+
+	private void require(int bytes) {
+		if (bytes > buffer.length - position) {
+			throw new IllegalArgumentException("Truncated compact payload");
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package org.example.statistics.codec;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads an entity hash in either format: the compact {@code _raw} payload, or the field-per-property
+ * layout written without a codec. Spring Data sets the id from the key afterwards.
+ */
+@ReadingConverter
+public class CompactReadingConverter<T> implements GenericConverter {
+
+	static final String RAW_FIELD = "_raw";
+
+	private final EntityCodec<T> codec;
+
+	public CompactReadingConverter(EntityCodec<T> codec) {
+		this.codec = codec;
+	}
+
+	@Override
+	public Set<ConvertiblePair> getConvertibleTypes() {
+		return Set.of(new ConvertiblePair(Map.class, codec.type()));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		if (source == null) {
+			return null;
+		}
+
+		Map<String, byte[]> fields = (Map<String, byte[]>) source;
+		byte[] raw = fields.get(RAW_FIELD);
+		return raw != null ? codec.decode(raw) : codec.decodeLegacy(fields);
+	}
+}
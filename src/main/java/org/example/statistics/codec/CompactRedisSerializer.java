@@ -0,0 +1,86 @@
+package org.example.statistics.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+
+/**
+ * Value serializer for {@code RedisTemplate} that writes entities with an {@link EntityCodec} and
+ * everything else with {@code fallback}. A compact value is a marker byte, the index of its codec,
+ * the id and the codec payload; the marker cannot start a JSON document, so values written by the
+ * JSON fallback, including those from before the codec existed, still read.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+	private static final int MARKER = 0xC5;
+
+	private final List<EntityCodec<?>> codecs;
+	private final RedisSerializer<Object> fallback;
+	private final boolean writeCompact;
+
+	/**
+	 * @param writeCompact whether entities are written compact; when {@code false} only reads understand the format
+	 */
+	public CompactRedisSerializer(List<EntityCodec<?>> codecs, RedisSerializer<Object> fallback, boolean writeCompact) {
+		this.codecs = List.copyOf(codecs);
+		this.fallback = fallback;
+		this.writeCompact = writeCompact;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (value == null) {
+			return null;
+		}
+
+		if (writeCompact) {
+			for (int tag = 0; tag < codecs.size(); tag++) {
+				if (codecs.get(tag).type() == value.getClass()) {
+					return serialize(tag, codecs.get(tag), value);
+				}
+			}
+		}
+
+		return fallback.serialize(value);
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0 || (bytes[0] & 0xFF) != MARKER) {
+			return fallback.deserialize(bytes);
+		}
+
+		try {
+			CompactReader reader = new CompactReader(bytes);
+			reader.readByte();
+			int tag = reader.readByte();
+
+			if (tag >= codecs.size()) {
+				throw new SerializationException("Unknown compact type tag " + tag);
+			}
+
+			return deserialize(codecs.get(tag), reader.readString(), reader.readRemaining());
+		}
+		catch (IllegalArgumentException e) {
+			throw new SerializationException("Could not read compact value", e);
+		}
+	}
+
+	private static <T> byte[] serialize(int tag, EntityCodec<T> codec, Object value) {
+		T entity = codec.type().cast(value);
+
+		CompactWriter writer = new CompactWriter();
+		writer.writeByte(MARKER);
+		writer.writeByte(tag);
+		writer.writeString(codec.getId(entity));
+		writer.writeBytes(codec.encode(entity));
+		return writer.toByteArray();
+	}
+
+	private static <T> T deserialize(EntityCodec<T> codec, String id, byte[] payload) {
+		T entity = codec.decode(payload);
+		codec.setId(entity, id);
+		return entity;
+	}
+}
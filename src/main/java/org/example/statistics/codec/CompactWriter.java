@@ -0,0 +1,78 @@
+package org.example.statistics.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer for the compact format: unsigned LEB128 varints, zigzag-encoded signed
+ * varints and length-prefixed UTF-8 strings.
+ */
+final class CompactWriter {
+
+	private byte[] buffer = new byte[64];
+	private int size;
+
+	void writeByte(int value) {
+		ensure(1);
+		buffer[size++] = (byte) value;
+	}
+
+	void writeVarLong(long value) {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[size++] = (byte) value;
+	}
+
+	void writeVarInt(int value) {
+		writeVarLong(value & 0xFFFFFFFFL);
+	}
+
+	void writeSignedVarLong(long value) {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	void writeSignedVarInt(int value) {
+		writeSignedVarLong(value);
+	}
+
+	void writeDouble(double value) {
+		long bits = Double.doubleToLongBits(value);
+		ensure(Long.BYTES);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			buffer[size++] = (byte) (bits >>> shift);
+		}
+	}
+
+	/**
+	 * Writes the UTF-8 length plus one, so that 0 can stand for {@code null}.
+	 */
+	void writeString(String value) {
+		if (value == null) {
+			writeVarInt(0);
+			return;
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length + 1);
+		writeBytes(bytes);
+	}
+
+	void writeBytes(byte[] value) {
+		ensure(value.length);
+		System.arraycopy(value, 0, buffer, size, value.length);
+		size += value.length;
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(buffer, size);
+	}
+
+	private void ensure(int bytes) {
+		if (size + bytes > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package org.example.statistics.codec;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.Set;
+
+/**
+ * Makes Spring Data store an entity as a single {@code _raw} hash field holding its compact payload.
+ */
+@WritingConverter
+public class CompactWritingConverter<T> implements GenericConverter {
+
+	private final EntityCodec<T> codec;
+
+	public CompactWritingConverter(EntityCodec<T> codec) {
+		this.codec = codec;
+	}
+
+	@Override
+	public Set<ConvertiblePair> getConvertibleTypes() {
+		return Set.of(new ConvertiblePair(codec.type(), byte[].class));
+	}
+
+	@Override
+	public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return source == null ? null : codec.encode(codec.type().cast(source));
+	}
+}
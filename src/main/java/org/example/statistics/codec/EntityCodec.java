@@ -0,0 +1,27 @@
+package org.example.statistics.codec;
+
+import java.util.Map;
+
+/**
+ * Compact binary encoding of one entity type. Every payload starts with the schema version it was
+ * written with, so a codec can keep reading older versions after its format changes.
+ * <p>
+ * The id is not part of the payload: Redis already stores it in the key.
+ */
+public interface EntityCodec<T> {
+
+	Class<T> type();
+
+	byte[] encode(T value);
+
+	T decode(byte[] payload);
+
+	/**
+	 * Reads the field-per-property hash Spring Data writes without a codec.
+	 */
+	T decodeLegacy(Map<String, byte[]> fields);
+
+	String getId(T value);
+
+	void setId(T value, String id);
+}
@@ -0,0 +1,46 @@
+package org.example.statistics.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Typed access to the fields of a hash written by Spring Data's default mapping.
+ */
+final class LegacyHash {
+
+	private final Map<String, byte[]> fields;
+
+	LegacyHash(Map<String, byte[]> fields) {
+		this.fields = fields;
+	}
+
+	String getString(String field) {
+		byte[] value = fields.get(field);
+		return value == null ? null : new String(value, StandardCharsets.UTF_8);
+	}
+
+	int getInt(String field) {
+		String value = getString(field);
+		return value == null ? 0 : Integer.parseInt(value);
+	}
+
+	double getDouble(String field) {
+		String value = getString(field);
+		return value == null ? 0 : Double.parseDouble(value);
+	}
+
+	/**
+	 * Spring Data flattens a map property into {@code property.[key]} fields.
+	 */
+	Map<String, String> getMap(String property, Map<String, String> target) {
+		String prefix = property + ".[";
+
+		fields.forEach((field, value) -> {
+			if (field.startsWith(prefix) && field.endsWith("]")) {
+				target.put(field.substring(prefix.length(), field.length() - 1), new String(value, StandardCharsets.UTF_8));
+			}
+		});
+
+		return target;
+	}
+}
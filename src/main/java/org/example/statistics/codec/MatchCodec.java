@@ -0,0 +1,101 @@
+package org.example.statistics.codec;
+
+import org.example.statistics.domain.Match;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Version 1: server endpoint, timestamp as zigzag epoch seconds (UTC) plus nanos, then the
+ * number of players and a name and zigzag score per player. Players keep their order.
+ */
+public class MatchCodec implements EntityCodec<Match> {
+
+	private static final int VERSION = 1;
+
+	@Override
+	public Class<Match> type() {
+		return Match.class;
+	}
+
+	@Override
+	public byte[] encode(Match match) {
+		CompactWriter writer = new CompactWriter();
+		writer.writeByte(VERSION);
+		writer.writeString(match.getServerEndpoint());
+
+		LocalDateTime timestamp = match.getTimestamp();
+		writer.writeByte(timestamp == null ? 0 : 1);
+		if (timestamp != null) {
+			writer.writeSignedVarLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+			writer.writeVarInt(timestamp.getNano());
+		}
+
+		// Null scores are left out, the same as in Spring Data's default mapping
+		Map<String, Integer> scores = match.getPlayerScores() == null ? Map.of() : match.getPlayerScores();
+		writer.writeVarInt((int) scores.values().stream().filter(score -> score != null).count());
+		scores.forEach((name, score) -> {
+			if (score != null) {
+				writer.writeString(name);
+				writer.writeSignedVarInt(score);
+			}
+		});
+
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Match decode(byte[] payload) {
+		CompactReader reader = new CompactReader(payload);
+		int version = reader.readByte();
+
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported Match payload version " + version);
+		}
+
+		Match match = new Match();
+		match.setServerEndpoint(reader.readString());
+
+		if (reader.readByte() == 1) {
+			match.setTimestamp(LocalDateTime.ofEpochSecond(reader.readSignedVarLong(), reader.readVarInt(), ZoneOffset.UTC));
+		}
+
+		int players = reader.readVarInt();
+		Map<String, Integer> scores = new LinkedHashMap<>(players * 2);
+		for (int i = 0; i < players; i++) {
+			scores.put(reader.readString(), reader.readSignedVarInt());
+		}
+		match.setPlayerScores(scores);
+
+		return match;
+	}
+
+	@Override
+	public Match decodeLegacy(Map<String, byte[]> fields) {
+		LegacyHash hash = new LegacyHash(fields);
+
+		Match match = new Match();
+		match.setServerEndpoint(hash.getString("serverEndpoint"));
+
+		String timestamp = hash.getString("timestamp");
+		match.setTimestamp(timestamp == null ? null : LocalDateTime.parse(timestamp));
+
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		hash.getMap("playerScores", new LinkedHashMap<>()).forEach((name, score) -> scores.put(name, Integer.valueOf(score)));
+		match.setPlayerScores(scores);
+
+		return match;
+	}
+
+	@Override
+	public String getId(Match match) {
+		return match.getId();
+	}
+
+	@Override
+	public void setId(Match match, String id) {
+		match.setId(id);
+	}
+}
@@ -0,0 +1,90 @@
+package org.example.statistics.codec;
+
+import org.example.statistics.domain.Player;
+
+import java.util.Map;
+
+/**
+ * Version 2: total score as a zigzag varint, then matches played and win rate as varints, then a
+ * presence flag for each of wins and losses (varints) and the rating (IEEE 754 double).
+ * Version 1 payloads end after the win rate.
+ */
+public class PlayerCodec implements EntityCodec<Player> {
+
+	private static final int VERSION = 2;
+	private static final int WITHOUT_RATING_VERSION = 1;
+
+	@Override
+	public Class<Player> type() {
+		return Player.class;
+	}
+
+	@Override
+	public byte[] encode(Player player) {
+		CompactWriter writer = new CompactWriter();
+		writer.writeByte(VERSION);
+		writer.writeSignedVarInt(player.getTotalScore());
+		writer.writeVarInt(player.getMatchesPlayed());
+		writer.writeVarInt(player.getWinRate());
+
+		writer.writeByte(player.getWins() == null ? 0 : 1);
+		if (player.getWins() != null) {
+			writer.writeVarInt(player.getWins());
+		}
+		writer.writeByte(player.getLosses() == null ? 0 : 1);
+		if (player.getLosses() != null) {
+			writer.writeVarInt(player.getLosses());
+		}
+		writer.writeByte(player.getRating() == null ? 0 : 1);
+		if (player.getRating() != null) {
+			writer.writeDouble(player.getRating());
+		}
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Player decode(byte[] payload) {
+		CompactReader reader = new CompactReader(payload);
+		int version = reader.readByte();
+
+		if (version != VERSION && version != WITHOUT_RATING_VERSION) {
+			throw new IllegalArgumentException("Unsupported Player payload version " + version);
+		}
+
+		Player player = new Player();
+		player.setTotalScore(reader.readSignedVarInt());
+		player.setMatchesPlayed(reader.readVarInt());
+		player.setWinRate(reader.readVarInt());
+
+		if (version == VERSION) {
+			player.setWins(reader.readByte() == 0 ? null : reader.readVarInt());
+			player.setLosses(reader.readByte() == 0 ? null : reader.readVarInt());
+			player.setRating(reader.readByte() == 0 ? null : reader.readDouble());
+		}
+		return player;
+	}
+
+	@Override
+	public Player decodeLegacy(Map<String, byte[]> fields) {
+		LegacyHash hash = new LegacyHash(fields);
+
+		Player player = new Player();
+		player.setTotalScore(hash.getInt("totalScore"));
+		player.setMatchesPlayed(hash.getInt("matchesPlayed"));
+		player.setWinRate(hash.getInt("winRate"));
+		player.setWins(hash.getString("wins") == null ? null : hash.getInt("wins"));
+		player.setLosses(hash.getString("losses") == null ? null : hash.getInt("losses"));
+		player.setRating(hash.getString("rating") == null ? null : hash.getDouble("rating"));
+		return player;
+	}
+
+	@Override
+	public String getId(Player player) {
+		return player.getName();
+	}
+
+	@Override
+	public void setId(Player player, String id) {
+		player.setName(id);
+	}
+}
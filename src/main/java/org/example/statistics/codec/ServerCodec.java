@@ -0,0 +1,65 @@
+package org.example.statistics.codec;
+
+import org.example.statistics.domain.Server;
+
+import java.util.Map;
+
+/**
+ * Version 1: name, region and the rating as an IEEE 754 double.
+ */
+public class ServerCodec implements EntityCodec<Server> {
+
+	private static final int VERSION = 1;
+
+	@Override
+	public Class<Server> type() {
+		return Server.class;
+	}
+
+	@Override
+	public byte[] encode(Server server) {
+		CompactWriter writer = new CompactWriter();
+		writer.writeByte(VERSION);
+		writer.writeString(server.getName());
+		writer.writeString(server.getRegion());
+		writer.writeDouble(server.getRating());
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Server decode(byte[] payload) {
+		CompactReader reader = new CompactReader(payload);
+		int version = reader.readByte();
+
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported Server payload version " + version);
+		}
+
+		Server server = new Server();
+		server.setName(reader.readString());
+		server.setRegion(reader.readString());
+		server.setRating(reader.readDouble());
+		return server;
+	}
+
+	@Override
+	public Server decodeLegacy(Map<String, byte[]> fields) {
+		LegacyHash hash = new LegacyHash(fields);
+
+		Server server = new Server();
+		server.setName(hash.getString("name"));
+		server.setRegion(hash.getString("region"));
+		server.setRating(hash.getDouble("rating"));
+		return server;
+	}
+
+	@Override
+	public String getId(Server server) {
+		return server.getEndpoint();
+	}
+
+	@Override
+	public void setId(Server server, String id) {
+		server.setEndpoint(id);
+	}
+}
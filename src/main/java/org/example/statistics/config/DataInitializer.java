@@ -1,31 +1,59 @@
 package org.example.statistics.config;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
 import org.example.statistics.domain.User;
+import org.example.statistics.repository.DataImportCheckpointRepository;
+import org.example.statistics.repository.LeaderboardRepository;
 import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRankingRepository;
 import org.example.statistics.repository.ServerRepository;
 import org.example.statistics.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.io.Resource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
+/**
+ * Seeds Redis from the JSON files on first start. Files are stream-parsed and written in pipelined
+ * batches, so their size is bounded by Redis rather than by the heap. After every batch the number
+ * of imported entities is checkpointed; a restart after a crash resumes with the next batch.
+ * <p>
+ * Runs after {@link SnapshotRestorer}, so a restored snapshot makes the import a no-op.
+ */
+@Slf4j
 @Component
+@DependsOn("snapshotRestorer")
 @RequiredArgsConstructor
 public class DataInitializer {
 
+	private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
 	private final ObjectMapper objectMapper;
 	private final ServerRepository serverRepository;
+	private final ServerRankingRepository serverRankingRepository;
 	private final PlayerRepository playerRepository;
+	private final LeaderboardRepository leaderboardRepository;
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final DataImportCheckpointRepository checkpointRepository;
 
 	@Value("${data.init.servers}")
 	private Resource dataServers;
@@ -36,38 +64,133 @@ public class DataInitializer {
 	@Value("${data.init.users}")
 	private Resource dataUsers;
 
+	@Value("${data.init.batch-size}")
+	private int batchSize;
+
+	@Value("${data.init.hash-threads}")
+	private int hashThreads;
+
 	@PostConstruct
 	public void initData() throws IOException {
-		if (serverRepository.count() > 0 || playerRepository.count() > 0) {
-			System.out.println("Redis already has data, skipping init.");
+		if (checkpointRepository.isCompleted()) {
+			log.info("Seed data already imported, skipping init.");
+			return;
+		}
+
+		boolean resuming = checkpointRepository.exists();
+		if (!resuming && (serverRepository.count() > 0 || playerRepository.count() > 0)) {
+			log.info("Redis already has data, skipping init.");
 			return;
 		}
 
-		System.out.println("Initializing data from JSON...");
-		List<Server> servers = objectMapper.readValue(
-				dataServers.getInputStream(),
-				objectMapper.getTypeFactory().constructCollectionType(List.class, Server.class)
-		);
-		serverRepository.saveAll(servers);
-
-		List<Player> players = objectMapper.readValue(
-				dataPlayers.getInputStream(),
-				objectMapper.getTypeFactory().constructCollectionType(List.class, Player.class)
-		);
-		playerRepository.saveAll(players);
-
-		List<User> users = objectMapper.readValue(
-				dataUsers.getInputStream(),
-				objectMapper.getTypeFactory().constructCollectionType(List.class, User.class)
-		);
-
-		// Hash passwords before saving
-		for (User user : users) {
-			user.setPassword(passwordEncoder.encode(user.getPassword()));
+		log.info(resuming ? "Resuming data initialization from JSON..." : "Initializing data from JSON...");
+		checkpointRepository.markStarted();
+
+		importFile("servers", dataServers, Server.class, batch -> {
+			serverRepository.saveAllPipelined(batch);
+			serverRankingRepository.registerAll(batch);
+		});
+
+		importFile("players", dataPlayers, Player.class, batch -> {
+			playerRepository.saveAllPipelined(batch);
+			leaderboardRepository.updateAll(batch);
+		});
+
+		// BCrypt is deliberately slow and dominates the user import, so passwords are hashed in parallel
+		try (ExecutorService hashPool = Executors.newFixedThreadPool(hashThreads)) {
+			importFile("users", dataUsers, User.class, batch -> {
+				hashPasswords(batch, hashPool);
+				userRepository.saveAllPipelined(batch);
+			});
+		}
+
+		checkpointRepository.markCompleted();
+		log.info("Data initialization completed.");
+	}
+
+	/**
+	 * Streams the JSON array in {@code resource} and hands its elements to {@code writer} in batches,
+	 * skipping the elements a previous run already imported.
+	 */
+	private <T> void importFile(String dataSet, Resource resource, Class<T> type, Consumer<List<T>> writer) throws IOException {
+		long imported = checkpointRepository.getImported(dataSet);
+		Progress progress = new Progress(dataSet, imported);
+
+		try (JsonParser parser = objectMapper.getFactory().createParser(resource.getInputStream())) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new IllegalStateException(resource.getDescription() + " must contain a JSON array");
+			}
+
+			for (long skipped = 0; skipped < imported && parser.nextToken() == JsonToken.START_OBJECT; skipped++) {
+				parser.skipChildren();
+			}
+			parser.clearCurrentToken();
+
+			MappingIterator<T> entities = objectMapper.readerFor(type).readValues(parser);
+			List<T> batch = new ArrayList<>(batchSize);
+
+			while (entities.hasNextValue()) {
+				batch.add(entities.nextValue());
+
+				if (batch.size() == batchSize || !entities.hasNextValue()) {
+					writer.accept(batch);
+					imported += batch.size();
+					checkpointRepository.setImported(dataSet, imported);
+					progress.add(batch.size());
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+		}
+
+		progress.finish();
+	}
+
+	private void hashPasswords(List<User> users, ExecutorService hashPool) {
+		CompletableFuture.allOf(users.stream()
+						.map(user -> CompletableFuture.runAsync(
+								() -> user.setPassword(passwordEncoder.encode(user.getPassword())), hashPool))
+						.toArray(CompletableFuture[]::new))
+				.join();
+	}
+
+	/**
+	 * Logs the number of imported entities and the throughput of this run every {@link #PROGRESS_INTERVAL}.
+	 */
+	private static class Progress {
+
+		private final String dataSet;
+		private final long resumedFrom;
+		private final long started = System.nanoTime();
+		private long lastReport = started;
+		private long imported;
+
+		Progress(String dataSet, long resumedFrom) {
+			this.dataSet = dataSet;
+			this.resumedFrom = resumedFrom;
+
+			if (resumedFrom > 0) {
+				log.info("Resuming {} import after {} entities", dataSet, resumedFrom);
+			}
+		}
+
+		void add(int count) {
+			imported += count;
+
+			long now = System.nanoTime();
+			if (now - lastReport >= PROGRESS_INTERVAL.toNanos()) {
+				lastReport = now;
+				log.info("Imported {} {} ({} per second)", resumedFrom + imported, dataSet, ratePerSecond(now));
+			}
 		}
 
-		userRepository.saveAll(users);
+		void finish() {
+			log.info("Imported {} {} in {} ms ({} per second)", resumedFrom + imported, dataSet,
+					Duration.ofNanos(System.nanoTime() - started).toMillis(), ratePerSecond(System.nanoTime()));
+		}
 
-		System.out.println("Data initialization completed.");
+		private long ratePerSecond(long now) {
+			long elapsed = Math.max(now - started, 1);
+			return imported * 1_000_000_000L / elapsed;
+		}
 	}
 }
@@ -0,0 +1,49 @@
+package org.example.statistics.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.repository.LeaderboardRepository;
+import org.example.statistics.repository.MatchIndexRepository;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges for the number of stored entities and the size of the match indexes. Each is a single
+ * {@code SCARD} or {@code ZCARD}, read when the metrics are scraped.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityMetrics implements MeterBinder {
+
+	private final ServerRepository serverRepository;
+	private final PlayerRepository playerRepository;
+	private final MatchRepository matchRepository;
+	private final MatchIndexRepository matchIndexRepository;
+	private final LeaderboardRepository leaderboardRepository;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		entityCount(registry, "Server", serverRepository);
+		entityCount(registry, "Player", playerRepository);
+		entityCount(registry, "Match", matchRepository);
+
+		Gauge.builder("match.index.recent.size", matchIndexRepository, MatchIndexRepository::recentSize)
+				.description("Match ids in the recent-matches timeline")
+				.register(registry);
+		Gauge.builder("player.leaderboard.size", leaderboardRepository, LeaderboardRepository::size)
+				.description("Players on the total score leaderboard")
+				.register(registry);
+	}
+
+	private static void entityCount(MeterRegistry registry, String type, CrudRepository<?, ?> repository) {
+		Gauge.builder("redis.entities", repository, CrudRepository::count)
+				.description("Entities stored in Redis")
+				.tag("type", type)
+				.register(registry);
+	}
+}
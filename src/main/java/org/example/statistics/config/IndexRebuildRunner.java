@@ -0,0 +1,66 @@
+package org.example.statistics.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.repository.MatchIndexRepository;
+import org.example.statistics.repository.RedisBatchReader;
+import org.example.statistics.repository.ServerDistributionRepository;
+import org.example.statistics.repository.ServerPlayersRepository;
+import org.example.statistics.repository.ServerRankingRepository;
+import org.example.statistics.service.server.ServerDistributionRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One-time rebuild of the secondary indexes from the entities already stored in Redis.
+ * Start the application with {@code --index.rebuild=true} to run it.
+ * <p>
+ * All-time server match counters are reset to the number of stored matches per server; the
+ * windowed popularity buckets are short-lived and simply fill up again. Score distribution sketches
+ * are rebuilt from scratch, for all time and for the buckets that are still in some window, and the
+ * stored players are added to the distinct player counts of their servers.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "index.rebuild", havingValue = "true")
+public class IndexRebuildRunner implements ApplicationRunner {
+
+	private final RedisBatchReader redisBatchReader;
+	private final MatchIndexRepository matchIndexRepository;
+	private final ServerRankingRepository serverRankingRepository;
+	private final ServerDistributionRepository serverDistributionRepository;
+	private final ServerDistributionRecorder serverDistributionRecorder;
+	private final ServerPlayersRepository serverPlayersRepository;
+
+	@Value("${index.rebuild.batch-size}")
+	private int batchSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		log.info("Rebuilding match indexes...");
+		serverDistributionRepository.deleteAll();
+		Map<String, Integer> matchCounts = new HashMap<>();
+		long indexed = redisBatchReader.forEachBatch(Match.class, batchSize, batch -> {
+			matchIndexRepository.indexAll(batch);
+			serverDistributionRecorder.record(batch);
+			serverPlayersRepository.addAll(batch);
+			batch.forEach(match -> matchCounts.merge(match.getServerEndpoint(), 1, Integer::sum));
+		});
+		serverDistributionRecorder.flush();
+		log.info("Match indexes and score distributions rebuilt for {} matches", indexed);
+
+		long servers = redisBatchReader.forEachBatch(Server.class, batchSize, batch -> serverRankingRepository.replaceCounts(
+				batch.stream().collect(Collectors.toMap(Server::getEndpoint, server -> matchCounts.getOrDefault(server.getEndpoint(), 0)))));
+		log.info("Server match counters rebuilt for {} servers", servers);
+	}
+}
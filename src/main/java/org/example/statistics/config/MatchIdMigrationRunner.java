@@ -0,0 +1,53 @@
+package org.example.statistics.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.repository.LegacyMatchIdRepository;
+import org.example.statistics.repository.MatchIndexRepository;
+import org.example.statistics.repository.RedisBatchReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One-time migration of data written while {@code Server} and {@code Player} still stored their match ids.
+ * Start the application with {@code --migration.match-ids=true} to run it.
+ * <p>
+ * Every stored match is indexed into the per-day server and player indexes first, then the old id
+ * lists are stripped from the server and player hashes. Both steps are idempotent, so an interrupted
+ * run can simply be started again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migration.match-ids", havingValue = "true")
+public class MatchIdMigrationRunner implements ApplicationRunner {
+
+	private final RedisBatchReader redisBatchReader;
+	private final MatchIndexRepository matchIndexRepository;
+	private final LegacyMatchIdRepository legacyMatchIdRepository;
+
+	@Value("${migration.match-ids.batch-size}")
+	private int batchSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		log.info("Migrating match ids to the day indexes...");
+		long indexed = redisBatchReader.forEachBatch(Match.class, batchSize, matchIndexRepository::indexAll);
+		log.info("Indexed {} matches", indexed);
+
+		AtomicLong removed = new AtomicLong();
+		long servers = redisBatchReader.forEachBatch(Server.class, batchSize, batch -> removed.addAndGet(
+				legacyMatchIdRepository.stripAll(Server.class, batch.stream().map(Server::getEndpoint).toList())));
+		long players = redisBatchReader.forEachBatch(Player.class, batchSize, batch -> removed.addAndGet(
+				legacyMatchIdRepository.stripAll(Player.class, batch.stream().map(Player::getName).toList())));
+		log.info("Removed {} legacy match id fields from {} servers and {} players", removed.get(), servers, players);
+	}
+}
@@ -0,0 +1,111 @@
+package org.example.statistics.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.Match;
+import org.example.statistics.repository.PlayerRatingRepository;
+import org.example.statistics.repository.RedisBatchReader;
+import org.example.statistics.service.player.EloRating;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Recomputes every player rating from the stored match history, for instance after changing
+ * {@code rating.elo.k-factor}. Start the application with {@code --rating.replay=true} to run it,
+ * with no other node recording matches: a match recorded during the replay is lost from the ratings.
+ * <p>
+ * An Elo update depends on the ratings before it, so the matches are applied one at a time in the
+ * order they were played. Loading the matches and writing the ratings back are split into batches
+ * that run on {@code rating.replay.threads} threads; the rating leaderboard is swapped in at the end.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rating.replay", havingValue = "true")
+public class RatingReplayRunner implements ApplicationRunner {
+
+	private final RedisBatchReader redisBatchReader;
+	private final PlayerRatingRepository playerRatingRepository;
+	private final EloRating eloRating;
+
+	@Value("${rating.replay.batch-size}")
+	private int batchSize;
+
+	@Value("${rating.replay.threads}")
+	private int threads;
+
+	@Override
+	public void run(ApplicationArguments args) throws InterruptedException, ExecutionException {
+		log.info("Replaying player ratings...");
+
+		try (ExecutorService workers = Executors.newFixedThreadPool(threads)) {
+			Match[] matches = loadMatches(workers);
+			// Matches played in the same millisecond are replayed in a stable order
+			Arrays.parallelSort(matches, Comparator.comparing(Match::getTimestamp).thenComparing(Match::getId));
+
+			Map<String, Double> ratings = new HashMap<>();
+			for (Match match : matches) {
+				eloRating.apply(match.getPlayerScores(), ratings);
+			}
+
+			writeRatings(workers, ratings);
+			log.info("Ratings of {} players replayed from {} matches", ratings.size(), matches.length);
+		}
+	}
+
+	private Match[] loadMatches(ExecutorService workers) throws InterruptedException, ExecutionException {
+		List<Future<List<Match>>> batches = new ArrayList<>();
+		redisBatchReader.forEachIdBatch(Match.class, batchSize,
+				ids -> batches.add(workers.submit(() -> redisBatchReader.findAllById(Match.class, ids))));
+
+		List<Match> matches = new ArrayList<>();
+		for (Future<List<Match>> batch : batches) {
+			matches.addAll(batch.get());
+		}
+		return matches.toArray(Match[]::new);
+	}
+
+	private void writeRatings(ExecutorService workers, Map<String, Double> ratings) throws InterruptedException, ExecutionException {
+		List<Future<?>> writes = new ArrayList<>();
+		Map<String, Double> batch = new HashMap<>();
+
+		for (Map.Entry<String, Double> rating : ratings.entrySet()) {
+			batch.put(rating.getKey(), rating.getValue());
+
+			if (batch.size() == batchSize) {
+				Map<String, Double> full = batch;
+				writes.add(workers.submit(() -> playerRatingRepository.stage(full)));
+				batch = new HashMap<>();
+			}
+		}
+
+		Map<String, Double> last = batch;
+		writes.add(workers.submit(() -> playerRatingRepository.stage(last)));
+
+		try {
+			for (Future<?> write : writes) {
+				write.get();
+			}
+		}
+		catch (InterruptedException | ExecutionException e) {
+			playerRatingRepository.discardStaged();
+			throw e;
+		}
+
+		playerRatingRepository.publishStaged();
+	}
+}
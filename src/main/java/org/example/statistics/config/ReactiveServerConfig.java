@@ -0,0 +1,20 @@
+package org.example.statistics.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Serves the reactive profile from Reactor Netty. Tomcat is on the classpath for the servlet stack
+ * and would otherwise be picked to host WebFlux as well.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+	@Bean
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+}
@@ -1,28 +1,66 @@
 package org.example.statistics.config;
 
+import io.lettuce.core.resource.ClientResources;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.codec.CompactReadingConverter;
+import org.example.statistics.codec.CompactRedisSerializer;
+import org.example.statistics.codec.CompactWritingConverter;
+import org.example.statistics.codec.EntityCodec;
+import org.example.statistics.codec.MatchCodec;
+import org.example.statistics.codec.PlayerCodec;
+import org.example.statistics.codec.ServerCodec;
+import org.example.statistics.enums.SerializationFormat;
+import org.example.statistics.security.SessionCache;
+import org.example.statistics.service.match.MatchFeed;
+import org.example.statistics.service.report.ReportCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.convert.RedisCustomConversions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import redis.embedded.RedisServer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Configuration
 public class RedisConfig {
 
+	@Value("${spring.data.redis.host}")
+	private String host;
+
+	@Value("${spring.data.redis.port}")
+	private int port;
+
+	@Value("${redis.serialization.format}")
+	private SerializationFormat serializationFormat;
+
+	@Value("${spring.threads.virtual.enabled}")
+	private boolean virtualThreads;
+
 	private RedisServer redisServer;
 
 	@PostConstruct
 	public void startRedis() {
-		redisServer = new RedisServer(6379);
+		redisServer = new RedisServer(port);
 		redisServer.start();
-		log.info("Embedded Redis started on port 6379");
+		log.info("Embedded Redis started on port {}", port);
 	}
 
 	@PreDestroy
@@ -33,19 +71,77 @@ public class RedisConfig {
 		}
 	}
 
+	// Declared as Lettuce so that the reactive templates see a ReactiveRedisConnectionFactory as well. The shared
+	// client resources carry the command latency metrics
 	@Bean
-	public RedisConnectionFactory redisConnectionFactory() {
-		return new LettuceConnectionFactory("localhost", 6379);
+	public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+		LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+				.clientResources(clientResources)
+				.build();
+		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
+	}
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+																	   SessionCache sessionCache,
+																	   ReportCache reportCache,
+																	   MatchFeed matchFeed) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		// Every message is handed to a new thread; a virtual one unless the platform thread mode is configured
+		SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+		listenerExecutor.setVirtualThreads(virtualThreads);
+		container.setTaskExecutor(listenerExecutor);
+		container.addMessageListener(sessionCache, new ChannelTopic(SessionCache.INVALIDATION_CHANNEL));
+		container.addMessageListener(reportCache, new ChannelTopic(ReportCache.INVALIDATION_CHANNEL));
+		container.addMessageListener(matchFeed, new ChannelTopic(MatchFeed.CHANNEL));
+		return container;
+	}
+
+	/**
+	 * Match and Server hashes are always readable in both formats, but only written compact when configured.
+	 * Player hashes stay field-per-property: the match recording script increments their counters in place.
+	 */
+	@Bean
+	public RedisCustomConversions redisCustomConversions() {
+		List<Object> converters = new ArrayList<>();
+
+		for (EntityCodec<?> codec : List.of(new MatchCodec(), new ServerCodec())) {
+			converters.add(new CompactReadingConverter<>(codec));
+
+			if (serializationFormat == SerializationFormat.COMPACT) {
+				converters.add(new CompactWritingConverter<>(codec));
+			}
+		}
+
+		return new RedisCustomConversions(converters);
 	}
 
 	@Bean
 	public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+		// The position of a codec is its type tag in stored values, so new codecs go at the end
+		CompactRedisSerializer valueSerializer = new CompactRedisSerializer(
+				List.of(new MatchCodec(), new ServerCodec(), new PlayerCodec()),
+				new GenericJackson2JsonRedisSerializer(),
+				serializationFormat == SerializationFormat.COMPACT);
+
 		RedisTemplate<String, Object> template = new RedisTemplate<>();
 		template.setConnectionFactory(connectionFactory);
 		template.setKeySerializer(new StringRedisSerializer());
-		template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+		template.setValueSerializer(valueSerializer);
 		template.setHashKeySerializer(new StringRedisSerializer());
-		template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+		template.setHashValueSerializer(valueSerializer);
 		return template;
 	}
+
+	/**
+	 * String keys and raw values, for the reactive read path that decodes entity hashes itself.
+	 */
+	@Bean
+	public ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+		return new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext
+				.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+				.key(RedisSerializer.string())
+				.build());
+	}
 }
@@ -1,15 +1,24 @@
 package org.example.statistics.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.example.statistics.security.JwtFilter;
+import org.example.statistics.security.ReactiveJwtFilter;
+import org.example.statistics.security.SessionCache;
+import org.example.statistics.utils.JwtUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
 
 @Configuration
 @RequiredArgsConstructor
@@ -18,13 +27,20 @@ public class SecurityConfig {
 	private final JwtFilter jwtFilter;
 
 	@Bean
+	@Profile("!reactive")
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		return http
 				.csrf(AbstractHttpConfigurer::disable)
 				.cors(AbstractHttpConfigurer::disable)
 				.authorizeHttpRequests(auth -> auth
+						// Live feeds dispatch again when they end; the request was authorized when it started
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.requestMatchers(
 								"/auth/login",
+								"/error",
+								// Scraped by Prometheus, which cannot log in
+								"/actuator/health",
+								"/actuator/prometheus",
 								"/swagger-resources/**",
 								"/swagger-ui/**",
 								"/v3/api-docs/**",
@@ -40,6 +56,38 @@ public class SecurityConfig {
 
 	}
 
+	/**
+	 * The same rules for the reactive read API. Requests carry their token every time, so no
+	 * security context is stored between them.
+	 */
+	@Bean
+	@Profile("reactive")
+	public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwtUtil, SessionCache sessionCache) {
+		return http
+				.csrf(ServerHttpSecurity.CsrfSpec::disable)
+				.cors(ServerHttpSecurity.CorsSpec::disable)
+				.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+				.formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+				.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+				.authorizeExchange(exchange -> exchange
+						.pathMatchers(
+								"/auth/login",
+								"/actuator/health",
+								"/actuator/prometheus",
+								"/swagger-resources/**",
+								"/swagger-ui/**",
+								"/v3/api-docs/**",
+								"/v3/api-docs",
+								"/swagger-ui.html"
+						).permitAll()
+						.pathMatchers("/players/**").hasRole("PLAYER")
+						.pathMatchers("/**").hasRole("ADMIN")
+						.anyExchange().authenticated()
+				)
+				.addFilterAt(new ReactiveJwtFilter(jwtUtil, sessionCache), SecurityWebFiltersOrder.AUTHENTICATION)
+				.build();
+	}
+
 	@Bean
 	public PasswordEncoder passwordEncoder() {
 		return new BCryptPasswordEncoder();
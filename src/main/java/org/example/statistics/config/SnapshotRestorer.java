@@ -0,0 +1,51 @@
+package org.example.statistics.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.repository.RedisSnapshotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Loads the snapshot written by {@code SnapshotJob} when the application starts with
+ * {@code snapshot.enabled=true}. Runs while the context is created, so before {@link DataInitializer}
+ * and before the web server accepts requests. Only an empty Redis is restored into.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotRestorer {
+
+	private final RedisSnapshotRepository snapshotRepository;
+
+	@Value("${snapshot.enabled}")
+	private boolean enabled;
+
+	@Value("${snapshot.file}")
+	private String file;
+
+	@PostConstruct
+	public void restore() throws IOException {
+		Path snapshot = Path.of(file);
+
+		if (!enabled || !Files.exists(snapshot)) {
+			return;
+		}
+
+		if (!snapshotRepository.isDatabaseEmpty()) {
+			log.info("Redis already has data, not restoring snapshot {}", snapshot);
+			return;
+		}
+
+		long started = System.nanoTime();
+		long restored = snapshotRepository.restore(snapshot);
+		log.info("Restored {} keys from {} in {} ms", restored, snapshot,
+				Duration.ofNanos(System.nanoTime() - started).toMillis());
+	}
+}
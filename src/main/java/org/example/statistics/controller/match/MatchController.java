@@ -0,0 +1,45 @@
+package org.example.statistics.controller.match;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.statistics.dto.match.MatchBatchResultDto;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Tag(name = "Match", description = "Operations related to matches")
+@RequestMapping("/matches")
+public interface MatchController {
+
+	@Operation(
+			summary = "Record matches",
+			description = "Record a JSON array of matches. Every item gets its own result; "
+					+ "invalid items, unknown servers or players and duplicate ids do not reject the rest of the batch."
+	)
+	@PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<MatchBatchResultDto> recordBatch(InputStream body) throws IOException;
+
+	@Operation(
+			summary = "Stream matches",
+			description = "Record newline-delimited JSON matches, one per line, as they are read from the request body. "
+					+ "Results are reported per line like for the JSON array."
+	)
+	@PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<MatchBatchResultDto> recordStream(InputStream body) throws IOException;
+
+	@Operation(
+			summary = "Live match feed",
+			description = "Server-Sent Events stream of the matches recorded from now on by any node, optionally only those "
+					+ "on one server or with one player. Each match is a 'match' event; a client that reads too slowly "
+					+ "loses matches and is told how many by a 'dropped' event."
+	)
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	SseEmitter stream(@RequestParam(required = false) String server, @RequestParam(required = false) String player);
+}
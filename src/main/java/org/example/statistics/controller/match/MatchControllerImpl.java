@@ -0,0 +1,37 @@
+package org.example.statistics.controller.match;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.dto.match.MatchBatchResultDto;
+import org.example.statistics.service.match.MatchFeed;
+import org.example.statistics.service.match.MatchIngestionService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class MatchControllerImpl implements MatchController {
+
+	private final MatchIngestionService matchIngestionService;
+	private final MatchFeed matchFeed;
+
+	@Override
+	public ResponseEntity<MatchBatchResultDto> recordBatch(InputStream body) throws IOException {
+		return ResponseEntity.ok(matchIngestionService.ingestJsonArray(body));
+	}
+
+	@Override
+	public ResponseEntity<MatchBatchResultDto> recordStream(InputStream body) throws IOException {
+		return ResponseEntity.ok(matchIngestionService.ingestNdjson(body));
+	}
+
+	@Override
+	public SseEmitter stream(String server, String player) {
+		return matchFeed.subscribe(server, player);
+	}
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Player", description = "Operations related to players")
 @RequestMapping("/players")
@@ -14,8 +15,13 @@ public interface PlayerController
 {
 	@Operation(
 			summary = "Get player statistics",
-			description = "Retrieve detailed statistics for the specified player by name."
+			description = "Retrieve detailed statistics for the specified player by name. "
+					+ "Recent matches are returned a page at a time, latest page first; pass nextCursor as cursor to load older ones. "
+					+ "The cursor is opaque; it marks the oldest match already returned."
 	)
 	@GetMapping("/{playerName}/stats")
-	ResponseEntity<PlayerStatsDto> getStats(@PathVariable String playerName);
+	ResponseEntity<PlayerStatsDto> getStats(
+			@PathVariable String playerName,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
 }
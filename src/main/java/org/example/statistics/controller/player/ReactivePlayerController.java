@@ -0,0 +1,29 @@
+package org.example.statistics.controller.player;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.statistics.dto.player.PlayerStatsDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PlayerController} on the reactive stack.
+ */
+@Tag(name = "Player", description = "Operations related to players")
+@RequestMapping("/players")
+public interface ReactivePlayerController {
+
+	@Operation(
+			summary = "Get player statistics",
+			description = "Retrieve detailed statistics for the specified player by name, with a page of recent matches. "
+					+ "Pass nextCursor as cursor to load older ones."
+	)
+	@GetMapping("/{playerName}/stats")
+	Mono<PlayerStatsDto> getStats(
+			@PathVariable String playerName,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
+}
@@ -0,0 +1,21 @@
+package org.example.statistics.controller.player;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.dto.player.PlayerStatsDto;
+import org.example.statistics.service.player.ReactivePlayerService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactivePlayerControllerImpl implements ReactivePlayerController {
+
+	private final ReactivePlayerService reactivePlayerService;
+
+	@Override
+	public Mono<PlayerStatsDto> getStats(String playerName, Integer limit, String cursor) {
+		return reactivePlayerService.getStats(playerName, limit, cursor);
+	}
+}
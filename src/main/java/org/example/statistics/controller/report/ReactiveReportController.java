@@ -0,0 +1,52 @@
+package org.example.statistics.controller.report;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link ReportController} on the reactive stack. Reports are read from Redis on every request and
+ * streamed as they arrive, rather than served from the report cache.
+ */
+@Tag(name = "Report", description = "Operations related to game reports")
+@RequestMapping("/reports")
+public interface ReactiveReportController {
+
+	@Operation(
+			summary = "Get recent matches",
+			description = "Retrieve recent matches, newest first. Pass the timestamp of the last match received as 'before' to fetch the next page."
+	)
+	@GetMapping(value = "/recent-matches", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	Flux<Match> getRecentMatches(
+			@RequestParam(defaultValue = "5") Integer count,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before);
+
+	@Operation(summary = "Get best players", description = "Retrieve best players. Optionally limit by count.")
+	@GetMapping(value = "/best-players", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	Flux<Player> getBestPlayers(@RequestParam(defaultValue = "5") Integer count);
+
+	@Operation(summary = "Get top rated players", description = "Retrieve the players with the highest Elo rating. Optionally limit by count.")
+	@GetMapping(value = "/top-rated-players", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	Flux<Player> getTopRatedPlayers(@RequestParam(defaultValue = "5") Integer count);
+
+	@Operation(
+			summary = "Get popular servers",
+			description = "Retrieve popular servers. Optionally limit by count and rank only the matches of the last HOUR, DAY or WEEK."
+	)
+	@GetMapping(value = "/popular-servers", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	Flux<Server> getPopularServers(
+			@RequestParam(defaultValue = "5") Integer count,
+			@RequestParam(defaultValue = "ALL") TimeWindow window);
+}
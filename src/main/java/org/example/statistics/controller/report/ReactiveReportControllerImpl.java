@@ -0,0 +1,41 @@
+package org.example.statistics.controller.report;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.service.report.ReactiveReportService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReportControllerImpl implements ReactiveReportController {
+
+	private final ReactiveReportService reactiveReportService;
+
+	@Override
+	public Flux<Match> getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before) {
+		return reactiveReportService.getRecentMatches(count, since, before);
+	}
+
+	@Override
+	public Flux<Player> getBestPlayers(Integer count) {
+		return reactiveReportService.getBestPlayers(count);
+	}
+
+	@Override
+	public Flux<Player> getTopRatedPlayers(Integer count) {
+		return reactiveReportService.getTopRatedPlayers(count);
+	}
+
+	@Override
+	public Flux<Server> getPopularServers(Integer count, TimeWindow window) {
+		return reactiveReportService.getPopularServers(count, window);
+	}
+}
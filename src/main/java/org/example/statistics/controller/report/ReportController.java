@@ -1,30 +1,85 @@
 package org.example.statistics.controller.report;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+/**
+ * Reports are served as cached, pre-serialized JSON, hence the {@code byte[]} bodies. Passing {@code limit} or
+ * {@code cursor} returns a page of the report together with the cursor of the next one instead of a plain list.
+ * Recent matches can also be streamed uncached as newline-delimited JSON.
+ */
 @Tag(name = "Report", description = "Operations related to game reports")
 @RequestMapping("/reports")
 public interface ReportController {
 
-	@Operation(summary = "Get recent matches", description = "Retrieve recent matches. Optionally limit by count.")
-	@GetMapping("/recent-matches")
-	ResponseEntity<List<Match>> getRecentMatches(@RequestParam(defaultValue = "5") Integer count);
+	@Operation(
+			summary = "Get recent matches",
+			description = "Retrieve recent matches, newest first. Optionally limit by count. "
+					+ "Pass 'limit' or 'cursor' to get a page with the cursor of the next page instead."
+	)
+	@ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = Match.class))))
+	@GetMapping(value = "/recent-matches", produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<byte[]> getRecentMatches(
+			@RequestParam(defaultValue = "5") Integer count,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
 
-	@Operation(summary = "Get best players", description = "Retrieve best players. Optionally limit by count.")
-	@GetMapping("/best-players")
-	ResponseEntity<List<Player>> getBestPlayers(@RequestParam(defaultValue = "5") Integer count);
+	@Operation(
+			summary = "Stream recent matches",
+			description = "Stream recent matches as newline-delimited JSON, newest first, as they are read. Without count, "
+					+ "every match of the timeline within 'since' and 'before' is streamed."
+	)
+	@GetMapping(value = "/recent-matches", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamRecentMatches(
+			@RequestParam(required = false) Integer count,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before);
 
-	@Operation(summary = "Get popular servers", description = "Retrieve popular servers. Optionally limit by count.")
-	@GetMapping("/popular-servers")
-	ResponseEntity<List<Server>> getPopularServers(@RequestParam(defaultValue = "5") Integer count);
+	@Operation(summary = "Get best players", description = "Retrieve best players. Optionally limit by count, or page with 'limit' and 'cursor'.")
+	@ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = Player.class))))
+	@GetMapping(value = "/best-players", produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<byte[]> getBestPlayers(
+			@RequestParam(defaultValue = "5") Integer count,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
+
+	@Operation(summary = "Get top rated players", description = "Retrieve the players with the highest Elo rating. Optionally limit by count, or page with 'limit' and 'cursor'.")
+	@ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = Player.class))))
+	@GetMapping(value = "/top-rated-players", produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<byte[]> getTopRatedPlayers(
+			@RequestParam(defaultValue = "5") Integer count,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
+
+	@Operation(
+			summary = "Get popular servers",
+			description = "Retrieve popular servers. Optionally limit by count, or page with 'limit' and 'cursor', "
+					+ "and rank only the matches of the last HOUR, DAY or WEEK."
+	)
+	@ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = Server.class))))
+	@GetMapping(value = "/popular-servers", produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<byte[]> getPopularServers(
+			@RequestParam(defaultValue = "5") Integer count,
+			@RequestParam(defaultValue = "ALL") TimeWindow window,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
 }
@@ -1,33 +1,65 @@
 package org.example.statistics.controller.report;
 
 import lombok.RequiredArgsConstructor;
-import org.example.statistics.domain.Match;
-import org.example.statistics.domain.Player;
-import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.service.match.MatchListingWriter;
+import org.example.statistics.service.report.ReportCache;
 import org.example.statistics.service.report.ReportService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ReportControllerImpl implements ReportController {
 
+	private final ReportCache reportCache;
 	private final ReportService reportService;
 
 	@Override
-	public ResponseEntity<List<Match>> getRecentMatches(Integer count) {
-		return ResponseEntity.ok(reportService.getRecentMatches(count));
+	public ResponseEntity<byte[]> getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before, Integer limit, String cursor) {
+		if (limit == null && cursor == null) {
+			return ResponseEntity.ok(reportCache.getRecentMatches(count, since, before));
+		}
+		return ResponseEntity.ok(reportCache.getRecentMatches(limit, cursor, since, before));
 	}
 
 	@Override
-	public ResponseEntity<List<Player>> getBestPlayers(Integer count) {
-		return ResponseEntity.ok(reportService.getBestPlayers(count));
+	public ResponseEntity<StreamingResponseBody> streamRecentMatches(Integer count, LocalDateTime since, LocalDateTime before) {
+		// Resolved before the body, so that a bad count is still answered with an error status
+		MatchListingWriter.Listing listing = reportService.streamRecentMatches(count, since, before);
+
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(listing::writeTo);
+	}
+
+	@Override
+	public ResponseEntity<byte[]> getBestPlayers(Integer count, Integer limit, String cursor) {
+		if (limit == null && cursor == null) {
+			return ResponseEntity.ok(reportCache.getBestPlayers(count));
+		}
+		return ResponseEntity.ok(reportCache.getBestPlayers(limit, cursor));
+	}
+
+	@Override
+	public ResponseEntity<byte[]> getTopRatedPlayers(Integer count, Integer limit, String cursor) {
+		if (limit == null && cursor == null) {
+			return ResponseEntity.ok(reportCache.getTopRatedPlayers(count));
+		}
+		return ResponseEntity.ok(reportCache.getTopRatedPlayers(limit, cursor));
 	}
 
 	@Override
-	public ResponseEntity<List<Server>> getPopularServers(Integer count) {
-		return ResponseEntity.ok(reportService.getPopularServers(count));
+	public ResponseEntity<byte[]> getPopularServers(Integer count, TimeWindow window, Integer limit, String cursor) {
+		if (limit == null && cursor == null) {
+			return ResponseEntity.ok(reportCache.getPopularServers(count, window));
+		}
+		return ResponseEntity.ok(reportCache.getPopularServers(limit, cursor, window));
 	}
 }
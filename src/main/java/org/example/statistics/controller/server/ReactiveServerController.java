@@ -0,0 +1,61 @@
+package org.example.statistics.controller.server;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link ServerController} on the reactive stack. Lists are streamed: as a JSON array, or one
+ * object per line when {@code application/x-ndjson} is accepted.
+ */
+@Tag(name = "Server", description = "Operations related to servers")
+@RequestMapping("/servers")
+public interface ReactiveServerController {
+
+	@Operation(summary = "Get servers", description = "Retrieve servers.")
+	@GetMapping(value = "/info", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	Flux<Server> getServers();
+
+	@Operation(summary = "Get server", description = "Retrieve server.")
+	@GetMapping("/{endpoint}/info")
+	Mono<Server> getServer(@PathVariable String endpoint);
+
+	@Operation(summary = "Get matches for endpoint on timestamp", description = "Retrieve matches for endpoint on timestamp.")
+	@GetMapping(value = "/{endpoint}/matches/{timestamp}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	Flux<Match> getMatches(@PathVariable String endpoint, @PathVariable String timestamp);
+
+	@Operation(
+			summary = "Get endpoint statistics",
+			description = "Retrieve detailed statistics for the specified endpoint: match count, distinct players and p50/p90/p99 of scores, "
+					+ "winning margins and matches per hour. Optionally only over the matches of the last HOUR, DAY or WEEK."
+	)
+	@GetMapping("/{endpoint}/stats")
+	Mono<ServerStatsDto> getStats(@PathVariable String endpoint, @RequestParam(defaultValue = "ALL") TimeWindow window);
+
+	@Operation(
+			summary = "Get endpoint time series",
+			description = "Retrieve the match count, total score and active players of the specified endpoint per MINUTE, HOUR or DAY "
+					+ "from 'from' to 'to'. Defaults to the last 60 steps up to now."
+	)
+	@GetMapping("/{endpoint}/timeseries")
+	Mono<ServerTimeSeriesDto> getTimeSeries(
+			@PathVariable String endpoint,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(defaultValue = "MINUTE") TimeStep step);
+}
@@ -0,0 +1,49 @@
+package org.example.statistics.controller.server;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.service.server.ReactiveServerService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveServerControllerImpl implements ReactiveServerController {
+
+	private final ReactiveServerService reactiveServerService;
+
+	@Override
+	public Flux<Server> getServers() {
+		return reactiveServerService.getServers();
+	}
+
+	@Override
+	public Mono<Server> getServer(String endpoint) {
+		return reactiveServerService.getServer(endpoint);
+	}
+
+	@Override
+	public Flux<Match> getMatches(String endpoint, String timestamp) {
+		return reactiveServerService.getMatches(endpoint, timestamp);
+	}
+
+	@Override
+	public Mono<ServerStatsDto> getStats(String endpoint, TimeWindow window) {
+		return reactiveServerService.getStats(endpoint, window);
+	}
+
+	@Override
+	public Mono<ServerTimeSeriesDto> getTimeSeries(String endpoint, LocalDateTime from, LocalDateTime to, TimeStep step) {
+		return reactiveServerService.getTimeSeries(endpoint, from, to, step);
+	}
+}
@@ -2,8 +2,15 @@ package org.example.statistics.controller.server;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
 
 @Tag(name = "Server", description = "Operations related to servers")
 @RequestMapping("/servers")
@@ -11,10 +18,11 @@ public interface ServerController
 {
 	@Operation(
 			summary = "Get servers",
-			description = "Retrieve servers."
+			description = "Retrieve servers. Pass 'limit' or 'cursor' to get a page of them instead, with the cursor of the next page; "
+					+ "without either, all servers are returned as long as there are at most 'pagination.unpaged.max-size' (default 1000)."
 	)
 	@GetMapping("/info")
-	ResponseEntity<?> getServers();
+	ResponseEntity<?> getServers(@RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor);
 
 	@Operation(
 			summary = "Get server",
@@ -25,15 +33,42 @@ public interface ServerController
 
 	@Operation(
 			summary = "Get matches for endpoint on timestamp",
-			description = "Retrieve matches for endpoint on timestamp."
+			description = "Retrieve matches for endpoint on timestamp, oldest first. Pass 'limit' or 'cursor' to get a page of them instead, "
+					+ "with the cursor of the next page; without either, all matches are returned as long as there are at most "
+					+ "'pagination.unpaged.max-size' (default 1000)."
 	)
 	@GetMapping("/{endpoint}/matches/{timestamp}")
-	ResponseEntity<?> getMatches(@PathVariable String endpoint, @PathVariable String timestamp);
+	ResponseEntity<?> getMatches(
+			@PathVariable String endpoint,
+			@PathVariable String timestamp,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor);
+
+	@Operation(
+			summary = "Stream matches for endpoint on timestamp",
+			description = "Stream every match for endpoint on timestamp as newline-delimited JSON, oldest first, "
+					+ "as it is read. Not subject to the cap on unpaged responses."
+	)
+	@GetMapping(value = "/{endpoint}/matches/{timestamp}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamMatches(@PathVariable String endpoint, @PathVariable String timestamp);
 
 	@Operation(
 			summary = "Get endpoint statistics",
-			description = "Retrieve detailed statistics for the specified endpoint."
+			description = "Retrieve detailed statistics for the specified endpoint: match count, distinct players and p50/p90/p99 of scores, "
+					+ "winning margins and matches per hour. Optionally only over the matches of the last HOUR, DAY or WEEK."
 	)
 	@GetMapping("/{endpoint}/stats")
-	ResponseEntity<?> getStats(@PathVariable String endpoint);
+	ResponseEntity<?> getStats(@PathVariable String endpoint, @RequestParam(defaultValue = "ALL") TimeWindow window);
+
+	@Operation(
+			summary = "Get endpoint time series",
+			description = "Retrieve the match count, total score and active players of the specified endpoint per MINUTE, HOUR or DAY "
+					+ "from 'from' to 'to'. Defaults to the last 60 steps up to now."
+	)
+	@GetMapping("/{endpoint}/timeseries")
+	ResponseEntity<?> getTimeSeries(
+			@PathVariable String endpoint,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(defaultValue = "MINUTE") TimeStep step);
 }
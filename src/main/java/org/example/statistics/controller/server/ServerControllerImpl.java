@@ -1,24 +1,33 @@
 package org.example.statistics.controller.server;
 
 import lombok.RequiredArgsConstructor;
-import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Server;
 import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
 import org.example.statistics.service.server.ServerService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ServerControllerImpl implements ServerController {
 
 	private final ServerService serverService;
 
 	@Override
-	public ResponseEntity<List<Server>> getServers() {
-		return ResponseEntity.ok(serverService.getServers());
+	public ResponseEntity<?> getServers(Integer limit, String cursor) {
+		if (limit == null && cursor == null) {
+			return ResponseEntity.ok(serverService.getServers());
+		}
+		return ResponseEntity.ok(serverService.getServers(limit, cursor));
 	}
 
 	@Override
@@ -27,12 +36,27 @@ public class ServerControllerImpl implements ServerController {
 	}
 
 	@Override
-	public ResponseEntity<List<Match>> getMatches(String endpoint, String timestamp) {
-		return ResponseEntity.ok(serverService.getMatches(endpoint, timestamp));
+	public ResponseEntity<?> getMatches(String endpoint, String timestamp, Integer limit, String cursor) {
+		if (limit == null && cursor == null) {
+			return ResponseEntity.ok(serverService.getMatches(endpoint, timestamp));
+		}
+		return ResponseEntity.ok(serverService.getMatches(endpoint, timestamp, limit, cursor));
 	}
 
 	@Override
-	public ResponseEntity<ServerStatsDto> getStats(String endpoint) {
-		return ResponseEntity.ok(serverService.getStats(endpoint));
+	public ResponseEntity<StreamingResponseBody> streamMatches(String endpoint, String timestamp) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(out -> serverService.streamMatches(endpoint, timestamp, out));
+	}
+
+	@Override
+	public ResponseEntity<ServerStatsDto> getStats(String endpoint, TimeWindow window) {
+		return ResponseEntity.ok(serverService.getStats(endpoint, window));
+	}
+
+	@Override
+	public ResponseEntity<ServerTimeSeriesDto> getTimeSeries(String endpoint, LocalDateTime from, LocalDateTime to, TimeStep step) {
+		return ResponseEntity.ok(serverService.getTimeSeries(endpoint, from, to, step));
 	}
 }
@@ -0,0 +1,9 @@
+package org.example.statistics.domain;
+
+import java.util.Map;
+
+/**
+ * A match together with what it earns its players: the winner and the points credited to each player.
+ */
+public record MatchOutcome(Match match, String winner, Map<String, Integer> earnedPoints) {
+}
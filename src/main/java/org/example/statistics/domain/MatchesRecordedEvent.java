@@ -0,0 +1,10 @@
+package org.example.statistics.domain;
+
+import java.util.List;
+
+/**
+ * Published in-process after one or more matches were stored, with only the matches that were
+ * actually recorded; duplicates and rejected matches are left out.
+ */
+public record MatchesRecordedEvent(List<Match> matches) {
+}
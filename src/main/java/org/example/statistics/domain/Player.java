@@ -7,8 +7,6 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.RedisHash;
 
-import java.util.List;
-
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,5 +22,15 @@ public class Player {
 
 	private int winRate;
 
-	private List<String> matchIds;
+	/**
+	 * Exact win and loss counts; {@code null} for players imported with a win rate only, until their next match.
+	 */
+	private Integer wins;
+
+	private Integer losses;
+
+	/**
+	 * Elo rating, {@code null} until the player's first match.
+	 */
+	private Double rating;
 }
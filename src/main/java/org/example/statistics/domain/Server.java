@@ -8,7 +8,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.RedisHash;
 
 import java.io.Serializable;
-import java.util.List;
 
 @Data
 @Builder
@@ -24,7 +23,5 @@ public class Server implements Serializable
 
 	private String region;
 
-	private List<String> matchIds;
-
 	private double rating;
 }
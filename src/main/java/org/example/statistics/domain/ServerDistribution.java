@@ -0,0 +1,78 @@
+package org.example.statistics.domain;
+
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Quantile sketches of what happens on a server: the score of every player in every match, the
+ * margin between the two best scores of a match, and the number of matches per hour.
+ * <p>
+ * Sketches of disjoint sets of matches merge into the sketch of their union, so a window is the
+ * merge of its buckets and a cluster the merge of its nodes.
+ */
+@Getter
+public class ServerDistribution {
+
+	public static final double COMPRESSION = 100;
+
+	private static final double HOUR_MILLIS = ChronoUnit.HOURS.getDuration().toMillis();
+
+	private final TDigest scores;
+	private final TDigest margins;
+	private final TDigest matchesPerHour = new MergingDigest(COMPRESSION);
+
+	public ServerDistribution() {
+		this(new MergingDigest(COMPRESSION), new MergingDigest(COMPRESSION));
+	}
+
+	public ServerDistribution(TDigest scores, TDigest margins) {
+		this.scores = scores;
+		this.margins = margins;
+	}
+
+	public void add(Match match) {
+		int best = Integer.MIN_VALUE;
+		int second = Integer.MIN_VALUE;
+		int players = 0;
+
+		for (Integer score : match.getPlayerScores().values()) {
+			if (score == null) {
+				continue;
+			}
+
+			scores.add(score);
+			players++;
+
+			if (score > best) {
+				second = best;
+				best = score;
+			}
+			else if (score > second) {
+				second = score;
+			}
+		}
+
+		// A match without an opponent has no margin
+		if (players > 1) {
+			margins.add(best - second);
+		}
+	}
+
+	public void add(ServerDistribution other) {
+		scores.add(other.scores);
+		margins.add(other.margins);
+		matchesPerHour.add(other.matchesPerHour);
+	}
+
+	/**
+	 * Adds the match counts of consecutive, complete buckets of {@code bucketUnit} to the match rate.
+	 */
+	public void addMatchCounts(List<Integer> bucketCounts, ChronoUnit bucketUnit) {
+		double bucketsPerHour = HOUR_MILLIS / bucketUnit.getDuration().toMillis();
+		bucketCounts.forEach(count -> matchesPerHour.add(count * bucketsPerHour));
+	}
+}
@@ -0,0 +1,10 @@
+package org.example.statistics.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Activity of a server in the bucket starting at {@code start}: matches recorded, the sum of every
+ * player score in them, and the estimated number of distinct players.
+ */
+public record TimeSeriesPoint(LocalDateTime start, long matches, long totalScore, long activePlayers) {
+}
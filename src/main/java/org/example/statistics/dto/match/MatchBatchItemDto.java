@@ -0,0 +1,16 @@
+package org.example.statistics.dto.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.statistics.enums.MatchRecordingResult;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchBatchItemDto {
+	private int index;
+	private String id;
+	private MatchRecordingResult result;
+	private String error;
+}
@@ -0,0 +1,17 @@
+package org.example.statistics.dto.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchBatchResultDto {
+	private int recorded;
+	private int duplicates;
+	private int rejected;
+	private List<MatchBatchItemDto> items;
+}
@@ -0,0 +1,19 @@
+package org.example.statistics.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a list endpoint. Pass {@code nextCursor} back as {@code cursor} to get the following
+ * page; it is {@code null} on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+	private List<T> items;
+	private String nextCursor;
+}
@@ -15,5 +15,9 @@ public class PlayerStatsDto {
 	private String totalScore;
 	private int matchesPlayed;
 	private String winRate;
+	private Integer wins;
+	private Integer losses;
+	private Double rating;
 	private List<Match> recentMatches;
+	private String nextCursor;
 }
@@ -0,0 +1,18 @@
+package org.example.statistics.dto.server;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estimated percentiles of a sketched value; {@code null} while nothing has been observed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuantilesDto {
+	private long count;
+	private Double p50;
+	private Double p90;
+	private Double p99;
+}
@@ -3,6 +3,7 @@ package org.example.statistics.dto.server;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.example.statistics.enums.TimeWindow;
 
 @Data
 @NoArgsConstructor
@@ -11,5 +12,10 @@ public class ServerStatsDto {
 	private String name;
 	private String region;
 	private int matchCount;
+	private long uniquePlayers;
 	private double rating;
+	private TimeWindow window;
+	private QuantilesDto scores;
+	private QuantilesDto margins;
+	private QuantilesDto matchesPerHour;
 }
@@ -0,0 +1,18 @@
+package org.example.statistics.dto.server;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.statistics.domain.TimeSeriesPoint;
+import org.example.statistics.enums.TimeStep;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerTimeSeriesDto {
+	private String endpoint;
+	private TimeStep step;
+	private List<TimeSeriesPoint> points;
+}
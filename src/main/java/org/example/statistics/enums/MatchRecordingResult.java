@@ -0,0 +1,29 @@
+package org.example.statistics.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of recording a match, mirroring the status codes returned by {@code scripts/record-match.lua}.
+ * {@link #INVALID} is assigned to matches rejected before they reach Redis.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MatchRecordingResult {
+	RECORDED(1),
+	DUPLICATE(0),
+	UNKNOWN_SERVER(-1),
+	UNKNOWN_PLAYER(-2),
+	INVALID(-3);
+
+	private final long code;
+
+	public static MatchRecordingResult fromCode(long code) {
+		return Arrays.stream(values())
+				.filter(result -> result.code == code)
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("Unknown match recording result " + code));
+	}
+}
@@ -0,0 +1,16 @@
+package org.example.statistics.enums;
+
+/**
+ * How Match and Server entities are stored in Redis. Either format reads both, so a deployment can
+ * switch at any time; entities are rewritten in the configured format the next time they are saved.
+ */
+public enum SerializationFormat {
+	/**
+	 * One hash field per property, as Spring Data writes by default.
+	 */
+	LEGACY,
+	/**
+	 * A single {@code _raw} field holding the versioned binary payload of the entity's codec.
+	 */
+	COMPACT
+}
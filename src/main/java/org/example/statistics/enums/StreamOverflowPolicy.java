@@ -0,0 +1,15 @@
+package org.example.statistics.enums;
+
+/**
+ * What a live feed subscriber loses when its buffer is full because the client reads too slowly.
+ */
+public enum StreamOverflowPolicy {
+	/**
+	 * Evict the oldest buffered match, so the client stays as current as possible.
+	 */
+	DROP_OLDEST,
+	/**
+	 * Discard the incoming match, so the client sees an unbroken prefix of the feed.
+	 */
+	DROP_NEWEST
+}
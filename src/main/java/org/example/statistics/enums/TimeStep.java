@@ -0,0 +1,23 @@
+package org.example.statistics.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Resolution of a time series: the length of the bucket each point covers.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TimeStep {
+	MINUTE(ChronoUnit.MINUTES),
+	HOUR(ChronoUnit.HOURS),
+	DAY(ChronoUnit.DAYS);
+
+	private final ChronoUnit unit;
+
+	public long getMillis() {
+		return unit.getDuration().toMillis();
+	}
+}
@@ -0,0 +1,22 @@
+package org.example.statistics.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Sliding query window expressed as a number of time buckets of one resolution.
+ * {@link #ALL} covers the whole history and has no buckets.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TimeWindow {
+	HOUR(ChronoUnit.MINUTES, 60),
+	DAY(ChronoUnit.HOURS, 24),
+	WEEK(ChronoUnit.DAYS, 7),
+	ALL(null, 0);
+
+	private final ChronoUnit bucketUnit;
+	private final int bucketCount;
+}
@@ -10,5 +10,6 @@ public interface PlayerMapper {
 
 	@Mapping(target = "winRate", expression = "java(player.getWinRate() + \"%\")")
 	@Mapping(target = "recentMatches", ignore = true)
+	@Mapping(target = "nextCursor", ignore = true)
 	PlayerStatsDto toPlayerStatsDto(Player player);
 }
@@ -1,14 +1,34 @@
 package org.example.statistics.mapper.server;
 
+import com.tdunning.math.stats.TDigest;
 import org.example.statistics.domain.Server;
+import org.example.statistics.domain.ServerDistribution;
+import org.example.statistics.dto.server.QuantilesDto;
 import org.example.statistics.dto.server.ServerStatsDto;
-import org.example.statistics.utils.HelperUtils;
+import org.example.statistics.enums.TimeWindow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring", uses = HelperUtils.class)
+@Mapper(componentModel = "spring")
 public interface ServerMapper {
 
-	@Mapping(target = "matchCount", source = "server")
-	ServerStatsDto toServerStatsDto(Server server);
+	@Mapping(target = "matchCount", source = "matchCount")
+	@Mapping(target = "uniquePlayers", source = "uniquePlayers")
+	@Mapping(target = "window", source = "window")
+	@Mapping(target = "scores", source = "distribution.scores")
+	@Mapping(target = "margins", source = "distribution.margins")
+	@Mapping(target = "matchesPerHour", source = "distribution.matchesPerHour")
+	ServerStatsDto toServerStatsDto(Server server, int matchCount, long uniquePlayers, TimeWindow window, ServerDistribution distribution);
+
+	default QuantilesDto toQuantilesDto(TDigest digest) {
+		if (digest == null) {
+			return null;
+		}
+
+		if (digest.size() == 0) {
+			return new QuantilesDto(0, null, null, null);
+		}
+
+		return new QuantilesDto(digest.size(), digest.quantile(0.5), digest.quantile(0.9), digest.quantile(0.99));
+	}
 }
@@ -0,0 +1,49 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Progress of the seed data import, one field per data set holding the number of entities written
+ * so far, so that a restart can pick up after the last completed batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataImportCheckpointRepository {
+
+	private static final String CHECKPOINT_KEY = "DataInit:checkpoint";
+	private static final String STATUS_FIELD = "_status";
+	private static final String RUNNING = "running";
+	private static final String COMPLETED = "completed";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * Whether an import has been started against this Redis, finished or not.
+	 */
+	public boolean exists() {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(CHECKPOINT_KEY));
+	}
+
+	public boolean isCompleted() {
+		return COMPLETED.equals(stringRedisTemplate.opsForHash().get(CHECKPOINT_KEY, STATUS_FIELD));
+	}
+
+	public void markStarted() {
+		stringRedisTemplate.opsForHash().put(CHECKPOINT_KEY, STATUS_FIELD, RUNNING);
+	}
+
+	public void markCompleted() {
+		stringRedisTemplate.opsForHash().put(CHECKPOINT_KEY, STATUS_FIELD, COMPLETED);
+	}
+
+	public long getImported(String dataSet) {
+		Object imported = stringRedisTemplate.opsForHash().get(CHECKPOINT_KEY, dataSet);
+		return imported == null ? 0 : Long.parseLong((String) imported);
+	}
+
+	public void setImported(String dataSet, long imported) {
+		stringRedisTemplate.opsForHash().put(CHECKPOINT_KEY, dataSet, String.valueOf(imported));
+	}
+}
@@ -0,0 +1,180 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Player;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sorted set of player names scored by {@link Player#getTotalScore()}.
+ * A rebuild is written to a staging key of its own and swapped in with a single {@code RENAME}. The
+ * scores that matches recorded meanwhile have changed are then caught up in batches, re-read from the
+ * player hashes, so no script blocks Redis for longer than one batch. One rebuild runs at a time across
+ * the cluster, guarded by a lock key.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Player:leaderboard"})
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRepository {
+
+	static final String LEADERBOARD_KEY = "Player:leaderboard";
+	private static final String STAGING_KEY = LEADERBOARD_KEY + ":staging:%s";
+	private static final String LOCK_KEY = LEADERBOARD_KEY + ":lock";
+	// The hashes Spring Data stores players in; the refresh script reads their totalScore field
+	private static final String PLAYER_KEY = "Player:%s";
+
+	private static final RedisScript<Long> PUBLISH_SCRIPT =
+			RedisScript.of(new ClassPathResource("scripts/publish-leaderboard.lua"), Long.class);
+	private static final RedisScript<Long> REFRESH_SCRIPT =
+			RedisScript.of(new ClassPathResource("scripts/refresh-leaderboard.lua"), Long.class);
+	// Releases the lock only while it still belongs to the run, not after it expired and was taken over
+	private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * How long a rebuild may hold the lock, and keep its staging key, before another node may start one.
+	 */
+	@Value("${leaderboard.reconcile.lock-timeout}")
+	private Duration lockTimeout;
+
+	public void update(Player player) {
+		stringRedisTemplate.opsForZSet().add(LEADERBOARD_KEY, player.getName(), player.getTotalScore());
+	}
+
+	public void updateAll(Collection<Player> players) {
+		if (players.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (Player player : players) {
+					operations.opsForZSet().add(LEADERBOARD_KEY, player.getName(), player.getTotalScore());
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Names of the {@code count} players with the highest total score, best first.
+	 */
+	public List<String> findTopPlayerNames(int count) {
+		return findTopPlayerNames(0, count);
+	}
+
+	/**
+	 * Names of the players ranked {@code offset} to {@code offset + count - 1} by total score, best first.
+	 */
+	public List<String> findTopPlayerNames(long offset, int count) {
+		if (count <= 0) {
+			return List.of();
+		}
+
+		Set<String> names = stringRedisTemplate.opsForZSet().reverseRange(LEADERBOARD_KEY, offset, offset + count - 1);
+		return names == null ? List.of() : List.copyOf(names);
+	}
+
+	public long size() {
+		Long size = stringRedisTemplate.opsForZSet().zCard(LEADERBOARD_KEY);
+		return size == null ? 0 : size;
+	}
+
+	/**
+	 * Starts a rebuild unless another one holds the lock, returning the id of the run.
+	 */
+	public Optional<String> tryLock() {
+		String run = UUID.randomUUID().toString();
+		boolean locked = Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, run, lockTimeout));
+		return locked ? Optional.of(run) : Optional.empty();
+	}
+
+	public void unlock(String run) {
+		stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), run);
+	}
+
+	/**
+	 * Adds a batch of players to the staging leaderboard of {@code run} and returns how many of them
+	 * are missing from, or scored differently in, the live one.
+	 */
+	public int stage(String run, List<Player> players) {
+		if (players.isEmpty()) {
+			return 0;
+		}
+
+		String stagingKey = STAGING_KEY.formatted(run);
+		List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (Player player : players) {
+					operations.opsForZSet().add(stagingKey, player.getName(), player.getTotalScore());
+					operations.opsForZSet().score(LEADERBOARD_KEY, player.getName());
+				}
+				// An abandoned run leaves nothing behind once its lock has expired
+				operations.expire(stagingKey, lockTimeout);
+				return null;
+			}
+		});
+
+		int drift = 0;
+		for (int i = 0; i < players.size(); i++) {
+			Object liveScore = results.get(i * 2 + 1);
+
+			if (!Objects.equals(liveScore, (double) players.get(i).getTotalScore())) {
+				drift++;
+			}
+		}
+
+		return drift;
+	}
+
+	/**
+	 * Swaps the staging leaderboard of {@code run} in. Scores changed since they were staged are rolled
+	 * back until {@link #refresh} catches them up.
+	 */
+	public void publishStaged(String run) {
+		stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(STAGING_KEY.formatted(run), LEADERBOARD_KEY));
+	}
+
+	/**
+	 * Scores each of {@code names} with the total score currently stored for the player, removing players
+	 * that no longer exist, and returns how many scores changed.
+	 */
+	public int refresh(List<String> names) {
+		if (names.isEmpty()) {
+			return 0;
+		}
+
+		List<String> keys = new ArrayList<>(names.size() + 1);
+		keys.add(LEADERBOARD_KEY);
+		names.forEach(name -> keys.add(PLAYER_KEY.formatted(name)));
+
+		Long refreshed = stringRedisTemplate.execute(REFRESH_SCRIPT, keys, names.toArray());
+		return refreshed == null ? 0 : refreshed.intValue();
+	}
+
+	public void discardStaged(String run) {
+		stringRedisTemplate.delete(STAGING_KEY.formatted(run));
+	}
+}
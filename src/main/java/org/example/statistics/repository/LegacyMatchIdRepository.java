@@ -0,0 +1,74 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Removes the match id lists that {@code Server} and {@code Player} hashes used to carry
+ * ({@code matchIds.[n]} fields plus the {@code _matchIdCount} counter kept by the recording script).
+ * Match membership is read from {@link MatchIndexRepository} instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LegacyMatchIdRepository {
+
+	private static final String LIST_FIELD_PREFIX = "matchIds.";
+	private static final String COUNT_FIELD = "_matchIdCount";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConverter redisConverter;
+
+	/**
+	 * Strips the legacy fields from the hashes of the given entities with two pipelined round-trips.
+	 * Returns the number of fields removed.
+	 */
+	@SuppressWarnings("unchecked")
+	public long stripAll(Class<?> type, Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		String keyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+		List<byte[]> keys = ids.stream()
+				.map(id -> (keyspace + ":" + id).getBytes(StandardCharsets.UTF_8))
+				.toList();
+
+		List<Object> fieldsPerKey = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			keys.forEach(key -> connection.hashCommands().hKeys(key));
+			return null;
+		});
+
+		List<byte[][]> legacyFields = new ArrayList<>(keys.size());
+		long removed = 0;
+		for (Object fields : fieldsPerKey) {
+			byte[][] legacy = ((Set<String>) fields).stream()
+					.filter(field -> field.startsWith(LIST_FIELD_PREFIX) || field.equals(COUNT_FIELD))
+					.map(field -> field.getBytes(StandardCharsets.UTF_8))
+					.toArray(byte[][]::new);
+			legacyFields.add(legacy);
+			removed += legacy.length;
+		}
+
+		if (removed > 0) {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (int i = 0; i < keys.size(); i++) {
+					if (legacyFields.get(i).length > 0) {
+						connection.hashCommands().hDel(keys.get(i), legacyFields.get(i));
+					}
+				}
+				return null;
+			});
+		}
+
+		return removed;
+	}
+}
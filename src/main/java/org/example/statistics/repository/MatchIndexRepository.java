@@ -0,0 +1,294 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Secondary indexes over {@link Match} ids, stored next to the Spring Data hashes.
+ * {@link MatchRecordingRepository} keeps them up to date as matches are recorded; {@link #indexAll(Collection)}
+ * only rebuilds them from matches that are already stored.
+ * <p>
+ * Match membership of servers and players lives here rather than in their hashes: one sorted set
+ * per server or player and day, plus a per-owner set of the days that have matches. Appending a
+ * match touches a single small set, however long the history is.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Match:idx"})
+@Repository
+@RequiredArgsConstructor
+public class MatchIndexRepository {
+
+	static final String SERVER_DAY_KEY = "Match:idx:server:%s:%s";
+	private static final String SERVER_DAYS_KEY = "Match:idx:server:%s:days";
+	static final String PLAYER_DAY_KEY = "Match:idx:player:%s:%s";
+	private static final String PLAYER_DAYS_KEY = "Match:idx:player:%s:days";
+	static final String RECENT_KEY = "Match:idx:recent";
+	static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+	static final int DAYS_PER_READ = 7;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * Upper bound on the number of ids kept in the recent-matches timeline, 0 for no limit.
+	 */
+	@Value("${match.index.recent.max-size}")
+	private long recentMaxSize;
+
+	public void index(Match match) {
+		indexAll(List.of(match));
+	}
+
+	public void indexAll(Collection<Match> matches) {
+		if (matches.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (Match match : matches) {
+					long score = toEpochMilli(match.getTimestamp());
+					LocalDate day = match.getTimestamp().toLocalDate();
+
+					operations.opsForZSet().add(serverDayKey(match), match.getId(), score);
+					operations.opsForZSet().add(serverDaysKey(match), day.toString(), day.toEpochDay());
+					operations.opsForZSet().add(RECENT_KEY, match.getId(), score);
+
+					for (String playerName : match.getPlayerScores().keySet()) {
+						operations.opsForZSet().add(playerDayKey(playerName, match), match.getId(), score);
+						operations.opsForZSet().add(playerDaysKey(playerName), day.toString(), day.toEpochDay());
+					}
+				}
+
+				if (recentMaxSize > 0) {
+					operations.opsForZSet().removeRange(RECENT_KEY, 0, -recentMaxSize - 1);
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Ids of the matches played on {@code endpoint} during {@code day} (ISO date), oldest first.
+	 */
+	public List<String> findIdsByServerAndDay(String endpoint, String day) {
+		Set<String> ids = stringRedisTemplate.opsForZSet().range(SERVER_DAY_KEY.formatted(endpoint, day), 0, -1);
+		return ids == null ? List.of() : List.copyOf(ids);
+	}
+
+	/**
+	 * Up to {@code count} ids of the matches played on {@code endpoint} during {@code day}, oldest first,
+	 * starting right after {@code afterId} or at the first match when it is {@code null}. Returns
+	 * {@code null} when {@code afterId} is not a match of that day.
+	 */
+	public List<String> findIdsByServerAndDay(String endpoint, String day, String afterId, int count) {
+		String key = SERVER_DAY_KEY.formatted(endpoint, day);
+		long start = 0;
+
+		if (afterId != null) {
+			Long rank = stringRedisTemplate.opsForZSet().rank(key, afterId);
+			if (rank == null) {
+				return null;
+			}
+			start = rank + 1;
+		}
+
+		Set<String> ids = stringRedisTemplate.opsForZSet().range(key, start, start + count - 1);
+		return ids == null ? List.of() : List.copyOf(ids);
+	}
+
+	public long countByServerAndDay(String endpoint, String day) {
+		Long count = stringRedisTemplate.opsForZSet().zCard(SERVER_DAY_KEY.formatted(endpoint, day));
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * Up to {@code count} ids of the recent-matches timeline played at or after {@code since}, newest first,
+	 * starting right after {@code afterId}. Returns {@code null} when {@code afterId} is no longer in the
+	 * timeline, for instance because it was trimmed.
+	 */
+	public List<String> findRecentIdsAfter(String afterId, int count, LocalDateTime since) {
+		Long rank = stringRedisTemplate.opsForZSet().reverseRank(RECENT_KEY, afterId);
+		if (rank == null) {
+			return null;
+		}
+
+		Set<TypedTuple<String>> matches = stringRedisTemplate.opsForZSet().reverseRangeWithScores(RECENT_KEY, rank + 1, rank + count);
+		if (matches == null) {
+			return List.of();
+		}
+
+		double min = since == null ? Double.NEGATIVE_INFINITY : toEpochMilli(since);
+		return matches.stream()
+				.takeWhile(match -> match.getScore() >= min)
+				.map(TypedTuple::getValue)
+				.toList();
+	}
+
+	/**
+	 * Ids of the newest {@code count} matches played at or after {@code since} and strictly before
+	 * {@code before}, newest first. Either bound may be {@code null}.
+	 */
+	public List<String> findRecentIds(int count, LocalDateTime since, LocalDateTime before) {
+		if (count <= 0) {
+			return List.of();
+		}
+
+		double min = since == null ? Double.NEGATIVE_INFINITY : toEpochMilli(since);
+		double max = before == null ? Double.POSITIVE_INFINITY : toEpochMilli(before) - 1;
+
+		Set<String> ids = stringRedisTemplate.opsForZSet().reverseRangeByScore(RECENT_KEY, min, max, 0, count);
+		return ids == null ? List.of() : List.copyOf(ids);
+	}
+
+	/**
+	 * The newest {@code count} matches of {@code playerName}, newest first, each scored by its timestamp
+	 * in epoch millis. Only as many day buckets are read as it takes to fill the page.
+	 */
+	public List<TypedTuple<String>> findPlayerMatches(String playerName, int count) {
+		return findPlayerMatches(playerName, count, Double.POSITIVE_INFINITY, 0);
+	}
+
+	/**
+	 * Up to {@code count} matches of {@code playerName} that follow {@code afterId}, played at
+	 * {@code afterTimestamp} (epoch millis), newest first. Matches of the same millisecond are ordered by id,
+	 * so a page boundary between them neither skips nor repeats one. Returns {@code null} when
+	 * {@code afterId} is not a match of the player at that time.
+	 */
+	public List<TypedTuple<String>> findPlayerMatchesAfter(String playerName, String afterId, long afterTimestamp, int count) {
+		long day = Math.floorDiv(afterTimestamp, DAY_MILLIS);
+		Long rank = stringRedisTemplate.opsForZSet()
+				.reverseRank(PLAYER_DAY_KEY.formatted(playerName, LocalDate.ofEpochDay(day)), afterId);
+		if (rank == null) {
+			return null;
+		}
+
+		return findPlayerMatches(playerName, count, day, rank + 1);
+	}
+
+	/**
+	 * Matches of the days up to {@code maxDay} (epoch day), newest first, skipping the {@code skip} newest
+	 * of {@code maxDay} itself.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<TypedTuple<String>> findPlayerMatches(String playerName, int count, double maxDay, long skip) {
+		if (count <= 0) {
+			return List.of();
+		}
+
+		Set<TypedTuple<String>> days = stringRedisTemplate.opsForZSet()
+				.reverseRangeByScoreWithScores(playerDaysKey(playerName), Double.NEGATIVE_INFINITY, maxDay);
+		if (days == null) {
+			return List.of();
+		}
+
+		List<TypedTuple<String>> newestDays = List.copyOf(days);
+		List<TypedTuple<String>> matches = new ArrayList<>();
+
+		// Days are read a week per round-trip; most pages are filled by the first one
+		for (int from = 0; from < newestDays.size() && matches.size() < count; from += DAYS_PER_READ) {
+			List<TypedTuple<String>> chunk = newestDays.subList(from, Math.min(from + DAYS_PER_READ, newestDays.size()));
+			long remaining = count - matches.size();
+
+			List<Object> dayMatches = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) throws DataAccessException {
+					for (TypedTuple<String> day : chunk) {
+						long start = day.getScore() == maxDay ? skip : 0;
+						operations.opsForZSet().reverseRangeWithScores(
+								PLAYER_DAY_KEY.formatted(playerName, day.getValue()), start, start + remaining - 1);
+					}
+					return null;
+				}
+			});
+
+			for (Object day : dayMatches) {
+				matches.addAll((Set<TypedTuple<String>>) day);
+			}
+		}
+
+		return matches.size() > count ? matches.subList(0, count) : matches;
+	}
+
+	/**
+	 * Matches played on {@code endpoint} on each day from its first indexed match until yesterday, oldest first.
+	 */
+	public List<Integer> countServerMatchesByDay(String endpoint) {
+		Set<TypedTuple<String>> days = stringRedisTemplate.opsForZSet()
+				.rangeWithScores(SERVER_DAYS_KEY.formatted(endpoint), 0, -1);
+		if (days == null || days.isEmpty()) {
+			return List.of();
+		}
+
+		long firstDay = days.iterator().next().getScore().longValue();
+		long today = LocalDate.now().toEpochDay();
+		List<String> indexedDays = days.stream()
+				.filter(day -> day.getScore() < today)
+				.map(TypedTuple::getValue)
+				.toList();
+
+		List<Object> sizes = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				indexedDays.forEach(day -> operations.opsForZSet().zCard(SERVER_DAY_KEY.formatted(endpoint, day)));
+				return null;
+			}
+		});
+
+		// Days without a match have no index entry
+		List<Integer> counts = new ArrayList<>(Collections.nCopies((int) Math.max(today - firstDay, 0), 0));
+		for (int i = 0; i < indexedDays.size(); i++) {
+			counts.set((int) (LocalDate.parse(indexedDays.get(i)).toEpochDay() - firstDay), ((Long) sizes.get(i)).intValue());
+		}
+		return counts;
+	}
+
+	/**
+	 * Number of match ids in the recent-matches timeline.
+	 */
+	public long recentSize() {
+		Long size = stringRedisTemplate.opsForZSet().zCard(RECENT_KEY);
+		return size == null ? 0 : size;
+	}
+
+	long recentMaxSize() {
+		return recentMaxSize;
+	}
+
+	static String serverDayKey(Match match) {
+		return SERVER_DAY_KEY.formatted(match.getServerEndpoint(), match.getTimestamp().toLocalDate());
+	}
+
+	static String serverDaysKey(Match match) {
+		return SERVER_DAYS_KEY.formatted(match.getServerEndpoint());
+	}
+
+	static String playerDayKey(String playerName, Match match) {
+		return PLAYER_DAY_KEY.formatted(playerName, match.getTimestamp().toLocalDate());
+	}
+
+	static String playerDaysKey(String playerName) {
+		return PLAYER_DAYS_KEY.formatted(playerName);
+	}
+}
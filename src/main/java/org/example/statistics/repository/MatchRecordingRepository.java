@@ -0,0 +1,171 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.MatchOutcome;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.example.statistics.service.player.EloRating;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Writes a match and everything derived from it in one atomic Lua script, so that concurrent
+ * writers never lose a counter update. Covers the Match hash, the player hashes,
+ * {@link MatchIndexRepository}, {@link ServerRankingRepository}, {@link ServerPlayersRepository},
+ * {@link LeaderboardRepository}, {@link PlayerRatingRepository} and the minute buckets of
+ * {@link ServerTimeSeriesRepository}. Player ratings are updated with the formula of {@link EloRating}.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Match"})
+@Repository
+@RequiredArgsConstructor
+public class MatchRecordingRepository {
+
+	private static final RedisScript<Long> RECORD_MATCH_SCRIPT =
+			RedisScript.of(new ClassPathResource("scripts/record-match.lua"), Long.class);
+	private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConverter redisConverter;
+	private final MatchIndexRepository matchIndexRepository;
+	private final ServerTimeSeriesRepository serverTimeSeriesRepository;
+	private final EloRating eloRating;
+
+	public MatchRecordingResult record(MatchOutcome outcome) {
+		ScriptCall call = prepare(outcome);
+		// Arguments go as raw bytes: a compact Match payload is not valid UTF-8
+		Long code = stringRedisTemplate.execute(RECORD_MATCH_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+				call.keys(), call.args().toArray());
+		return MatchRecordingResult.fromCode(code);
+	}
+
+	/**
+	 * Records every outcome with one pipelined round-trip, returning a result per outcome in the same order.
+	 * Each match is still applied atomically; a rejected match does not affect the others.
+	 */
+	public List<MatchRecordingResult> recordAll(List<MatchOutcome> outcomes) {
+		if (outcomes.isEmpty()) {
+			return List.of();
+		}
+
+		List<ScriptCall> calls = outcomes.stream().map(this::prepare).toList();
+		byte[] script = RECORD_MATCH_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+		String sha = RECORD_MATCH_SCRIPT.getSha1();
+
+		// Loading the script first in the same pipeline means EVALSHA never hits NOSCRIPT
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.scriptingCommands().scriptLoad(script);
+			for (ScriptCall call : calls) {
+				connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, call.keys().size(), call.keysAndArgs());
+			}
+			return null;
+		});
+
+		return results.subList(1, results.size()).stream()
+				.map(code -> MatchRecordingResult.fromCode((Long) code))
+				.toList();
+	}
+
+	private ScriptCall prepare(MatchOutcome outcome) {
+		Match match = outcome.match();
+
+		RedisData data = new RedisData();
+		redisConverter.write(match, data);
+
+		long now = toEpochMilli(LocalDateTime.now());
+		Map<String, Duration> bucketTtls = ServerRankingRepository.bucketTtls(match, now);
+		Map<String, byte[]> fields = data.getBucket().asMap();
+		ServerTimeSeriesRepository.MinuteBucket minuteBucket = serverTimeSeriesRepository.minuteBucket(match, now);
+
+		List<String> keys = new ArrayList<>();
+		keys.add(key(Match.class, match.getId()));
+		keys.add(keyspace(Match.class));
+		keys.add(key(Server.class, match.getServerEndpoint()));
+		keys.add(MatchIndexRepository.serverDayKey(match));
+		keys.add(MatchIndexRepository.serverDaysKey(match));
+		keys.add(MatchIndexRepository.RECENT_KEY);
+		keys.add(ServerRankingRepository.RANKING_KEY);
+		keys.add(LeaderboardRepository.LEADERBOARD_KEY);
+		keys.add(ServerPlayersRepository.playersKey(match));
+		keys.add(PlayerRatingRepository.RATING_KEY);
+		keys.add(minuteBucket.countersKey());
+		keys.add(minuteBucket.playersKey());
+		keys.add(minuteBucket.dirtyKey());
+		keys.addAll(bucketTtls.keySet());
+		keys.addAll(ServerPlayersRepository.bucketTtls(match, now).keySet());
+
+		List<byte[]> args = new ArrayList<>();
+		args.add(bytes(match.getId()));
+		args.add(bytes(match.getServerEndpoint()));
+		args.add(bytes(toEpochMilli(match.getTimestamp())));
+		args.add(bytes(match.getTimestamp().toLocalDate()));
+		args.add(bytes(match.getTimestamp().toLocalDate().toEpochDay()));
+		args.add(bytes(matchIndexRepository.recentMaxSize()));
+		args.add(bytes(fields.size()));
+		args.add(bytes(bucketTtls.size()));
+		args.add(bytes(match.getPlayerScores().size()));
+		args.add(bytes(eloRating.getInitialRating()));
+		args.add(bytes(eloRating.getKFactor()));
+		args.add(bytes(minuteBucket.expiresAt()));
+		args.add(bytes(minuteBucket.hour()));
+		args.add(bytes(minuteBucket.dirtyEntry()));
+
+		fields.forEach((field, value) -> {
+			args.add(bytes(field));
+			args.add(value);
+		});
+		bucketTtls.values().forEach(ttl -> args.add(bytes(ttl.toMillis())));
+
+		for (String playerName : match.getPlayerScores().keySet()) {
+			keys.add(key(Player.class, playerName));
+			keys.add(MatchIndexRepository.playerDayKey(playerName, match));
+			keys.add(MatchIndexRepository.playerDaysKey(playerName));
+			args.add(bytes(playerName));
+			args.add(bytes(outcome.earnedPoints().getOrDefault(playerName, 0)));
+			args.add(bytes(playerName.equals(outcome.winner()) ? 1 : 0));
+			args.add(bytes(match.getPlayerScores().get(playerName)));
+		}
+
+		return new ScriptCall(keys, args);
+	}
+
+	private String keyspace(Class<?> type) {
+		return redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+	}
+
+	private String key(Class<?> type, String id) {
+		return keyspace(type) + ":" + id;
+	}
+
+	private static byte[] bytes(Object value) {
+		return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private record ScriptCall(List<String> keys, List<byte[]> args) {
+
+		byte[][] keysAndArgs() {
+			return Stream.concat(keys.stream().map(MatchRecordingRepository::bytes), args.stream())
+					.toArray(byte[][]::new);
+		}
+	}
+}
@@ -5,5 +5,5 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MatchRepository extends CrudRepository<Match,String> {
+public interface MatchRepository extends CrudRepository<Match,String>, MatchRepositoryCustom {
 }
@@ -0,0 +1,10 @@
+package org.example.statistics.repository;
+
+import org.example.statistics.domain.Match;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MatchRepositoryCustom {
+	List<Match> findAllByIdPipelined(Collection<String> ids);
+}
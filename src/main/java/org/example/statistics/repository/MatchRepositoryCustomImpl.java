@@ -0,0 +1,18 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MatchRepositoryCustomImpl implements MatchRepositoryCustom {
+
+	private final RedisBatchReader redisBatchReader;
+
+	@Override
+	public List<Match> findAllByIdPipelined(Collection<String> ids) {
+		return redisBatchReader.findAllById(Match.class, ids);
+	}
+}
@@ -0,0 +1,84 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Player;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sorted set of player names scored by {@link Player#getRating()}, kept up to date by the match
+ * recording script. A replay is written to a staging key first and swapped in with a single {@code RENAME}.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Player:rating"})
+@Repository
+@RequiredArgsConstructor
+public class PlayerRatingRepository {
+
+	static final String RATING_KEY = "Player:rating";
+	private static final String STAGING_KEY = RATING_KEY + ":staging";
+	// The hash Spring Data stores a Player in
+	private static final String PLAYER_KEY = "Player:%s";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * Names of the {@code count} players with the highest rating, best first.
+	 */
+	public List<String> findTopPlayerNames(int count) {
+		return findTopPlayerNames(0, count);
+	}
+
+	/**
+	 * Names of the players ranked {@code offset} to {@code offset + count - 1} by rating, best first.
+	 */
+	public List<String> findTopPlayerNames(long offset, int count) {
+		if (count <= 0) {
+			return List.of();
+		}
+
+		Set<String> names = stringRedisTemplate.opsForZSet().reverseRange(RATING_KEY, offset, offset + count - 1);
+		return names == null ? List.of() : List.copyOf(names);
+	}
+
+	/**
+	 * Sets the rating of every player in {@code ratings}, both on its hash and in the staging leaderboard.
+	 */
+	public void stage(Map<String, Double> ratings) {
+		if (ratings.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				ratings.forEach((name, rating) -> {
+					operations.opsForHash().put(PLAYER_KEY.formatted(name), "rating", String.valueOf(rating));
+					operations.opsForZSet().add(STAGING_KEY, name, rating);
+				});
+				return null;
+			}
+		});
+	}
+
+	public void publishStaged() {
+		if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(STAGING_KEY))) {
+			stringRedisTemplate.rename(STAGING_KEY, RATING_KEY);
+		}
+		else {
+			stringRedisTemplate.delete(RATING_KEY);
+		}
+	}
+
+	public void discardStaged() {
+		stringRedisTemplate.delete(STAGING_KEY);
+	}
+}
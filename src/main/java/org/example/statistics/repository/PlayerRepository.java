@@ -5,5 +5,5 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PlayerRepository extends CrudRepository<Player,String> {
+public interface PlayerRepository extends CrudRepository<Player,String>, PlayerRepositoryCustom {
 }
@@ -0,0 +1,12 @@
+package org.example.statistics.repository;
+
+import org.example.statistics.domain.Player;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PlayerRepositoryCustom {
+	List<Player> findAllByIdPipelined(Collection<String> ids);
+
+	void saveAllPipelined(Collection<Player> players);
+}
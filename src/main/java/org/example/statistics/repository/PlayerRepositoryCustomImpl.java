@@ -0,0 +1,24 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Player;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
+
+	private final RedisBatchReader redisBatchReader;
+	private final RedisBatchWriter redisBatchWriter;
+
+	@Override
+	public List<Player> findAllByIdPipelined(Collection<String> ids) {
+		return redisBatchReader.findAllById(Player.class, ids);
+	}
+
+	@Override
+	public void saveAllPipelined(Collection<Player> players) {
+		redisBatchWriter.saveAll(players);
+	}
+}
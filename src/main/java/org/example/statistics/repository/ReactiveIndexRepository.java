@@ -0,0 +1,133 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Non-blocking reads of the indexes kept by {@link MatchIndexRepository}, {@link LeaderboardRepository}
+ * and {@link ServerRankingRepository}, for the reactive read API. Writes stay with those repositories.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveIndexRepository {
+
+	private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+	/**
+	 * @see MatchIndexRepository#findIdsByServerAndDay
+	 */
+	public Flux<String> findIdsByServerAndDay(String endpoint, String day) {
+		return zSet().range(MatchIndexRepository.SERVER_DAY_KEY.formatted(endpoint, day), Range.closed(0L, -1L));
+	}
+
+	/**
+	 * @see MatchIndexRepository#findRecentIds
+	 */
+	public Flux<String> findRecentIds(int count, LocalDateTime since, LocalDateTime before) {
+		if (count <= 0) {
+			return Flux.empty();
+		}
+
+		double min = since == null ? Double.NEGATIVE_INFINITY : toEpochMilli(since);
+		double max = before == null ? Double.POSITIVE_INFINITY : toEpochMilli(before) - 1;
+
+		return zSet().reverseRangeByScore(MatchIndexRepository.RECENT_KEY, Range.closed(min, max), Limit.limit().count(count));
+	}
+
+	/**
+	 * @see MatchIndexRepository#findPlayerMatches
+	 */
+	public Flux<TypedTuple<String>> findPlayerMatches(String playerName, int count) {
+		return findPlayerMatches(playerName, count, Double.POSITIVE_INFINITY, 0);
+	}
+
+	/**
+	 * Signals {@link IllegalArgumentException} where the blocking repository returns {@code null}.
+	 *
+	 * @see MatchIndexRepository#findPlayerMatchesAfter
+	 */
+	public Flux<TypedTuple<String>> findPlayerMatchesAfter(String playerName, String afterId, long afterTimestamp, int count) {
+		long day = Math.floorDiv(afterTimestamp, MatchIndexRepository.DAY_MILLIS);
+
+		return zSet().reverseRank(MatchIndexRepository.PLAYER_DAY_KEY.formatted(playerName, LocalDate.ofEpochDay(day)), afterId)
+				.switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Invalid cursor")))
+				.flatMapMany(rank -> findPlayerMatches(playerName, count, day, rank + 1));
+	}
+
+	private Flux<TypedTuple<String>> findPlayerMatches(String playerName, int count, double maxDay, long skip) {
+		if (count <= 0) {
+			return Flux.empty();
+		}
+
+		// A week of days is requested at once; the rest is cancelled as soon as the page is full
+		return zSet().reverseRangeByScoreWithScores(MatchIndexRepository.playerDaysKey(playerName), Range.closed(Double.NEGATIVE_INFINITY, maxDay))
+				.flatMapSequential(day -> {
+							long start = day.getScore() == maxDay ? skip : 0;
+							return zSet().reverseRangeWithScores(
+									MatchIndexRepository.PLAYER_DAY_KEY.formatted(playerName, day.getValue()),
+									Range.closed(start, start + count - 1));
+						},
+						MatchIndexRepository.DAYS_PER_READ)
+				.take(count);
+	}
+
+	/**
+	 * @see LeaderboardRepository#findTopPlayerNames
+	 */
+	public Flux<String> findTopPlayerNames(int count) {
+		if (count <= 0) {
+			return Flux.empty();
+		}
+
+		return zSet().reverseRange(LeaderboardRepository.LEADERBOARD_KEY, Range.closed(0L, count - 1L));
+	}
+
+	/**
+	 * @see PlayerRatingRepository#findTopPlayerNames
+	 */
+	public Flux<String> findTopRatedPlayerNames(int count) {
+		if (count <= 0) {
+			return Flux.empty();
+		}
+
+		return zSet().reverseRange(PlayerRatingRepository.RATING_KEY, Range.closed(0L, count - 1L));
+	}
+
+	/**
+	 * @see ServerRankingRepository#findTopServerEndpoints
+	 */
+	public Flux<String> findTopServerEndpoints(int count, TimeWindow window) {
+		if (count <= 0) {
+			return Flux.empty();
+		}
+
+		if (window == TimeWindow.ALL) {
+			return zSet().reverseRange(ServerRankingRepository.RANKING_KEY, Range.closed(0L, count - 1L));
+		}
+
+		List<String> bucketKeys = ServerRankingRepository.windowBucketKeys(window);
+		String windowKey = ServerRankingRepository.windowKey(window);
+
+		return zSet().unionAndStore(bucketKeys.getFirst(), bucketKeys.subList(1, bucketKeys.size()), windowKey)
+				.then(reactiveStringRedisTemplate.expire(windowKey, ServerRankingRepository.WINDOW_TTL))
+				.thenMany(zSet().reverseRange(windowKey, Range.closed(0L, count - 1L)));
+	}
+
+	private ReactiveZSetOperations<String, String> zSet() {
+		return reactiveStringRedisTemplate.opsForZSet();
+	}
+}
@@ -0,0 +1,69 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link RedisBatchReader}. Entities are read with one {@code HGETALL}
+ * each; up to {@code reactive.read.concurrency} of them are in flight at once, which Lettuce
+ * pipelines on the shared connection.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveRedisBatchReader {
+
+	private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+	private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+	private final RedisConverter redisConverter;
+
+	@Value("${reactive.read.concurrency}")
+	private int concurrency;
+
+	/**
+	 * Empty when the entity does not exist.
+	 */
+	public <T> Mono<T> findById(Class<T> type, String id) {
+		String keyspace = keyspace(type);
+
+		return reactiveBytesRedisTemplate.<byte[], byte[]>opsForHash()
+				.entries(keyspace + ":" + id)
+				.collectMap(Map.Entry::getKey, Map.Entry::getValue)
+				.filter(raw -> !raw.isEmpty())
+				.map(raw -> {
+					RedisData data = new RedisData(raw);
+					data.setId(id);
+					data.setKeyspace(keyspace);
+					return redisConverter.read(type, data);
+				});
+	}
+
+	/**
+	 * Emits the entities with the given ids in the order of {@code ids}, as soon as each is read.
+	 * Ids that no longer exist are skipped.
+	 */
+	public <T> Flux<T> findAllById(Class<T> type, Flux<String> ids) {
+		return ids.flatMapSequential(id -> findById(type, id), concurrency);
+	}
+
+	/**
+	 * Every entity of {@code type}, walked with {@code SSCAN} over its keyspace set.
+	 */
+	public <T> Flux<T> findAll(Class<T> type) {
+		ScanOptions options = ScanOptions.scanOptions().count(concurrency).build();
+		return findAllById(type, reactiveStringRedisTemplate.opsForSet().scan(keyspace(type), options));
+	}
+
+	private String keyspace(Class<?> type) {
+		return redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+	}
+}
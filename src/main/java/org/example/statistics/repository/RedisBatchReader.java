@@ -0,0 +1,147 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads many Spring Data Redis entities with a single pipelined round-trip
+ * instead of one {@code findById} call per id.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "entities"})
+@Component
+@RequiredArgsConstructor
+public class RedisBatchReader {
+
+	// A single SSCAN step; the template only exposes scans that run to the end
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> SCAN_STEP_SCRIPT =
+			RedisScript.of("return redis.call('SSCAN', KEYS[1], ARGV[1], 'COUNT', ARGV[2])", List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConverter redisConverter;
+
+	/**
+	 * Loads the entities with the given ids, preserving the order of {@code ids}.
+	 * Ids that no longer exist are skipped.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> findAllById(Class<T> type, Collection<String> ids) {
+		if (CollectionUtils.isEmpty(ids)) {
+			return List.of();
+		}
+
+		String keyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+		List<String> orderedIds = List.copyOf(ids);
+
+		List<Object> rows = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+			connection.openPipeline();
+			for (String id : orderedIds) {
+				connection.hashCommands().hGetAll(key(keyspace, id));
+			}
+			return connection.closePipeline();
+		});
+
+		List<T> result = new ArrayList<>(orderedIds.size());
+		for (int i = 0; i < orderedIds.size(); i++) {
+			Map<byte[], byte[]> raw = (Map<byte[], byte[]>) rows.get(i);
+
+			if (CollectionUtils.isEmpty(raw)) {
+				continue;
+			}
+
+			RedisData data = new RedisData(raw);
+			data.setId(orderedIds.get(i));
+			data.setKeyspace(keyspace);
+			result.add(redisConverter.read(type, data));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Walks every entity of {@code type} with {@code SSCAN} over its keyspace set and hands them
+	 * to {@code consumer} in batches of at most {@code batchSize}. Returns the number of entities read.
+	 */
+	public <T> long forEachBatch(Class<T> type, int batchSize, Consumer<List<T>> consumer) {
+		long[] processed = {0};
+
+		forEachIdBatch(type, batchSize, ids -> {
+			List<T> batch = findAllById(type, ids);
+			consumer.accept(batch);
+			processed[0] += batch.size();
+		});
+
+		return processed[0];
+	}
+
+	/**
+	 * Walks the ids in the keyspace set of {@code type} with {@code SSCAN}, handing them to
+	 * {@code consumer} in batches of at most {@code batchSize}, for callers that load the batches
+	 * themselves. Each batch is a new list the consumer may keep.
+	 */
+	public void forEachIdBatch(Class<?> type, int batchSize, Consumer<List<String>> consumer) {
+		String keyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+		ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+
+		try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(keyspace, options)) {
+			List<String> ids = new ArrayList<>(batchSize);
+
+			while (cursor.hasNext()) {
+				ids.add(cursor.next());
+
+				if (ids.size() == batchSize || !cursor.hasNext()) {
+					consumer.accept(ids);
+					ids = new ArrayList<>(batchSize);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Ids in the keyspace set of {@code type} from {@code SSCAN} steps starting at {@code cursor}, {@code "0"} for
+	 * the first page. Steps are repeated until an id is found, so only the last page, whose cursor is {@code "0"},
+	 * may be empty. {@code count} is a hint: a page may hold a few more ids, and an id may appear on two pages
+	 * when the set grows during the walk.
+	 */
+	@SuppressWarnings("unchecked")
+	public IdPage scanIds(Class<?> type, String cursor, int count) {
+		String keyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+		String next = cursor;
+		List<String> ids;
+
+		do {
+			List<Object> step = stringRedisTemplate.execute(SCAN_STEP_SCRIPT, List.of(keyspace), next, String.valueOf(count));
+			next = (String) step.get(0);
+			ids = (List<String>) step.get(1);
+		}
+		while (ids.isEmpty() && !"0".equals(next));
+
+		return new IdPage(ids, next);
+	}
+
+	private static byte[] key(String keyspace, String id) {
+		return (keyspace + ":" + id).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Ids read by one {@link #scanIds} call and the scan cursor to continue from, {@code "0"} after the last page.
+	 */
+	public record IdPage(List<String> ids, String cursor) {
+	}
+}
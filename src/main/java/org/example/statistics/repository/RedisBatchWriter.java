@@ -0,0 +1,70 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.IndexedData;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes many Spring Data Redis entities with a single pipelined round-trip instead of one
+ * {@code save} call per entity. Produces the same hash, keyspace set and {@code @Indexed} entries
+ * as {@code save}, but index entries of an earlier version of an entity are not removed, so this
+ * is meant for bulk loads rather than updates.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "entities"})
+@Component
+@RequiredArgsConstructor
+public class RedisBatchWriter {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConverter redisConverter;
+
+	public <T> void saveAll(Collection<T> entities) {
+		if (CollectionUtils.isEmpty(entities)) {
+			return;
+		}
+
+		List<RedisData> rows = new ArrayList<>(entities.size());
+		for (T entity : entities) {
+			RedisData data = new RedisData();
+			redisConverter.write(entity, data);
+			rows.add(data);
+		}
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (RedisData data : rows) {
+				byte[] id = bytes(data.getId());
+				byte[] key = bytes(data.getKeyspace() + ":" + data.getId());
+
+				connection.keyCommands().del(key);
+				connection.hashCommands().hMSet(key, data.getBucket().rawMap());
+				connection.setCommands().sAdd(bytes(data.getKeyspace()), id);
+
+				for (IndexedData index : data.getIndexedData()) {
+					if (index instanceof SimpleIndexedPropertyValue property && property.getValue() != null) {
+						byte[] indexKey = bytes(index.getKeyspace() + ":" + index.getIndexName() + ":"
+								+ redisConverter.getConversionService().convert(property.getValue(), String.class));
+						connection.setCommands().sAdd(indexKey, id);
+						connection.setCommands().sAdd(bytes(data.getKeyspace() + ":" + data.getId() + ":idx"), indexKey);
+					}
+				}
+			}
+			return null;
+		});
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
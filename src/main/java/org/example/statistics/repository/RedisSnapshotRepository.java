@@ -0,0 +1,319 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Copies Redis keys to a local file and back, using the {@code DUMP}/{@code RESTORE} serialization
+ * of Redis itself so that every data type round-trips unchanged.
+ * <p>
+ * The file is a header followed by one record per key: key length, key, absolute expiry in epoch
+ * millis (0 for none), payload length and payload, terminated by a -1 length and the record count.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisSnapshotRepository {
+
+	private static final int MAGIC = 0x52534e50;
+	private static final int VERSION = 1;
+	private static final int END_OF_RECORDS = -1;
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${snapshot.batch-size}")
+	private int batchSize;
+
+	@Value("${snapshot.restore.threads}")
+	private int restoreThreads;
+
+	public boolean isDatabaseEmpty() {
+		Long size = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+		return size == null || size == 0;
+	}
+
+	/**
+	 * Dumps every key matching {@code keyPattern} to {@code file} and returns the number of keys written.
+	 * The file is written next to the target and moved over it once complete, so an interrupted run
+	 * leaves the previous snapshot intact. Keys are walked with {@code SCAN}: writes made while the
+	 * snapshot runs may or may not end up in it.
+	 */
+	public long write(Path file, String keyPattern) throws IOException {
+		Path absolute = file.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		Files.createDirectories(absolute.getParent());
+
+		long written = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(keyPattern).count(batchSize).build();
+
+		try (FileChannel channel = FileChannel.open(temp, CREATE, WRITE, TRUNCATE_EXISTING);
+			 Cursor<String> keys = stringRedisTemplate.scan(options)) {
+			ChannelWriter writer = new ChannelWriter(channel);
+			writer.putInt(MAGIC);
+			writer.putInt(VERSION);
+
+			List<String> batch = new ArrayList<>(batchSize);
+			while (keys.hasNext()) {
+				batch.add(keys.next());
+
+				if (batch.size() == batchSize || !keys.hasNext()) {
+					written += writeBatch(writer, batch);
+					batch.clear();
+				}
+			}
+
+			writer.putInt(END_OF_RECORDS);
+			writer.putLong(written);
+			writer.flush();
+			channel.force(true);
+		}
+
+		Files.move(temp, absolute, REPLACE_EXISTING, ATOMIC_MOVE);
+		return written;
+	}
+
+	/**
+	 * Loads a file written by {@link #write} with {@code snapshot.restore.threads} pipelines in parallel
+	 * and returns the number of keys restored. {@code RESTORE} refuses to overwrite a key, so this is
+	 * meant for an empty database. Keys whose ttl ran out in the meantime are skipped.
+	 */
+	public long restore(Path file) throws IOException {
+		long read = 0;
+		long restored = 0;
+		List<Future<Integer>> pending = new ArrayList<>();
+		// Bounds the batches held in memory when reading the file outpaces Redis
+		Semaphore inFlight = new Semaphore(restoreThreads * 2);
+
+		try (FileChannel channel = FileChannel.open(file, READ);
+			 ExecutorService workers = Executors.newFixedThreadPool(restoreThreads)) {
+			ChannelReader reader = new ChannelReader(channel);
+
+			if (reader.getInt() != MAGIC || reader.getInt() != VERSION) {
+				throw new IOException(file + " is not a snapshot file");
+			}
+
+			List<SnapshotRecord> batch = new ArrayList<>(batchSize);
+			int keyLength;
+			while ((keyLength = reader.getInt()) != END_OF_RECORDS) {
+				batch.add(new SnapshotRecord(reader.getBytes(keyLength), reader.getLong(), reader.getBytes(reader.getInt())));
+				read++;
+
+				if (batch.size() == batchSize) {
+					pending.add(submit(workers, inFlight, batch));
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				pending.add(submit(workers, inFlight, batch));
+			}
+
+			if (reader.getLong() != read) {
+				throw new IOException(file + " is corrupt: record count does not match");
+			}
+
+			for (Future<Integer> batchResult : pending) {
+				restored += batchResult.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while restoring " + file, e);
+		}
+		catch (ExecutionException e) {
+			throw new IOException("Could not restore " + file, e.getCause());
+		}
+
+		return restored;
+	}
+
+	private int writeBatch(ChannelWriter writer, List<String> keys) throws IOException {
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String key : keys) {
+				byte[] rawKey = bytes(key);
+				connection.keyCommands().dump(rawKey);
+				connection.keyCommands().pTtl(rawKey);
+			}
+			return null;
+		}, RedisSerializer.byteArray());
+
+		long now = System.currentTimeMillis();
+		int written = 0;
+
+		for (int i = 0; i < keys.size(); i++) {
+			byte[] dump = (byte[]) results.get(i * 2);
+			long ttl = (Long) results.get(i * 2 + 1);
+
+			// Deleted or expired since SCAN returned it
+			if (dump == null) {
+				continue;
+			}
+
+			byte[] key = bytes(keys.get(i));
+			writer.putInt(key.length);
+			writer.putBytes(key);
+			writer.putLong(ttl > 0 ? now + ttl : 0);
+			writer.putInt(dump.length);
+			writer.putBytes(dump);
+			written++;
+		}
+
+		return written;
+	}
+
+	private Future<Integer> submit(ExecutorService workers, Semaphore inFlight, List<SnapshotRecord> batch)
+			throws InterruptedException {
+		inFlight.acquire();
+		return workers.submit(() -> {
+			try {
+				return restoreBatch(batch);
+			}
+			finally {
+				inFlight.release();
+			}
+		});
+	}
+
+	private int restoreBatch(List<SnapshotRecord> records) {
+		long now = System.currentTimeMillis();
+		List<SnapshotRecord> live = records.stream()
+				.filter(record -> record.expireAt() == 0 || record.expireAt() > now)
+				.toList();
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (SnapshotRecord record : live) {
+				long ttl = record.expireAt() == 0 ? 0 : record.expireAt() - now;
+				connection.keyCommands().restore(record.key(), ttl, record.dump());
+			}
+			return null;
+		});
+
+		return live.size();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private record SnapshotRecord(byte[] key, long expireAt, byte[] dump) {
+	}
+
+	/**
+	 * Buffers writes in a direct buffer and hands them to the channel a megabyte at a time.
+	 */
+	private static final class ChannelWriter {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		ChannelWriter(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		void putInt(int value) throws IOException {
+			ensure(Integer.BYTES);
+			buffer.putInt(value);
+		}
+
+		void putLong(long value) throws IOException {
+			ensure(Long.BYTES);
+			buffer.putLong(value);
+		}
+
+		void putBytes(byte[] value) throws IOException {
+			for (int offset = 0; offset < value.length; ) {
+				ensure(1);
+				int length = Math.min(buffer.remaining(), value.length - offset);
+				buffer.put(value, offset, length);
+				offset += length;
+			}
+		}
+
+		void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+
+		private void ensure(int bytes) throws IOException {
+			if (buffer.remaining() < bytes) {
+				flush();
+			}
+		}
+	}
+
+	private static final class ChannelReader {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+
+		ChannelReader(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		int getInt() throws IOException {
+			fill(Integer.BYTES);
+			return buffer.getInt();
+		}
+
+		long getLong() throws IOException {
+			fill(Long.BYTES);
+			return buffer.getLong();
+		}
+
+		byte[] getBytes(int length) throws IOException {
+			byte[] value = new byte[length];
+			for (int offset = 0; offset < length; ) {
+				fill(1);
+				int chunk = Math.min(buffer.remaining(), length - offset);
+				buffer.get(value, offset, chunk);
+				offset += chunk;
+			}
+			return value;
+		}
+
+		private void fill(int bytes) throws IOException {
+			if (buffer.remaining() >= bytes) {
+				return;
+			}
+
+			buffer.compact();
+			while (buffer.position() < bytes) {
+				if (channel.read(buffer) < 0) {
+					throw new EOFException("Snapshot file is truncated");
+				}
+			}
+			buffer.flip();
+		}
+	}
+}
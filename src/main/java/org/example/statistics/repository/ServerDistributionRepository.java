@@ -0,0 +1,203 @@
+package org.example.statistics.repository;
+
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+import io.micrometer.core.annotation.Timed;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.ServerDistribution;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Score distribution sketches per server: one for all time and one per minute, hour and day bucket,
+ * the latter expiring like the popularity buckets of {@link ServerRankingRepository}.
+ * <p>
+ * Each sketch is a hash with a field per node and metric. A node only ever rewrites its own fields,
+ * so merging its recent matches into them needs no coordination with other nodes. Readers merge
+ * every field of every bucket in the window.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Server:sketch"})
+@Repository
+public class ServerDistributionRepository {
+
+	private static final String SKETCH_KEY = "Server:sketch:%s";
+	private static final String SKETCH_PATTERN = "Server:sketch:*";
+	private static final String BUCKET_KEY = "Server:sketch:%s:%s:%d";
+	private static final String SCORES = "scores";
+	private static final String MARGINS = "margins";
+	private static final int DELETE_BATCH_SIZE = 1000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final byte[] scoresField;
+	private final byte[] marginsField;
+
+	public ServerDistributionRepository(StringRedisTemplate stringRedisTemplate,
+										@Value("${stats.sketch.node-id}") String nodeId) {
+		this.stringRedisTemplate = stringRedisTemplate;
+
+		String node = nodeId.isBlank() ? localHostName() : nodeId;
+		this.scoresField = bytes(node + ":" + SCORES);
+		this.marginsField = bytes(node + ":" + MARGINS);
+	}
+
+	/**
+	 * The all-time sketches never expire, so a node has to come back under the same id after a restart:
+	 * fields of an id nobody writes any more stay in every sketch and are merged by every query.
+	 */
+	private static String localHostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		}
+		catch (UnknownHostException e) {
+			throw new IllegalStateException("Could not resolve the host name; set stats.sketch.node-id to a stable id", e);
+		}
+	}
+
+	/**
+	 * Keys of the sketches {@code match} belongs in, with the epoch millis at which each expires, 0 for never.
+	 */
+	public static Map<String, Long> sketchExpiries(Match match, long now) {
+		String endpoint = match.getServerEndpoint();
+		Map<String, Long> expiries = new LinkedHashMap<>();
+		expiries.put(SKETCH_KEY.formatted(endpoint), 0L);
+
+		ServerRankingRepository.bucketTtls(match, now, (unit, bucket) -> bucketKey(endpoint, unit, bucket))
+				.forEach((key, ttl) -> expiries.put(key, now + ttl.toMillis()));
+		return expiries;
+	}
+
+	/**
+	 * Merges each distribution into this node's share of the sketch it is keyed by.
+	 */
+	public void mergeAll(Map<String, Pending> pending) {
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = List.copyOf(pending.keySet());
+		List<Object> stored = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			keys.forEach(key -> connection.hashCommands().hMGet(bytes(key), scoresField, marginsField));
+			return null;
+		}, RedisSerializer.byteArray());
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (int i = 0; i < keys.size(); i++) {
+				write(connection, keys.get(i), (List<?>) stored.get(i), pending.get(keys.get(i)));
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * The scores and margins of the matches played on {@code endpoint} in {@code window}, merged over
+	 * every node. Matches a node has not flushed yet are not included.
+	 */
+	@SuppressWarnings("unchecked")
+	public ServerDistribution find(String endpoint, TimeWindow window) {
+		List<String> keys = window == TimeWindow.ALL
+				? List.of(SKETCH_KEY.formatted(endpoint))
+				: ServerRankingRepository.windowBucketKeys(window, (unit, bucket) -> bucketKey(endpoint, unit, bucket));
+
+		// Pipelined directly: the template would decode the hashes with its string serializers
+		List<Object> sketches = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+			connection.openPipeline();
+			keys.forEach(key -> connection.hashCommands().hGetAll(bytes(key)));
+			return connection.closePipeline();
+		});
+
+		List<TDigest> scores = new ArrayList<>();
+		List<TDigest> margins = new ArrayList<>();
+		for (Object sketch : sketches) {
+			((Map<byte[], byte[]>) sketch).forEach((field, value) -> {
+				String name = new String(field, StandardCharsets.UTF_8);
+				(name.endsWith(":" + SCORES) ? scores : margins).add(MergingDigest.fromBytes(ByteBuffer.wrap(value)));
+			});
+		}
+
+		return new ServerDistribution(merge(scores), merge(margins));
+	}
+
+	/**
+	 * Drops every share of every sketch, of all nodes.
+	 */
+	public long deleteAll() {
+		long deleted = 0;
+		List<String> batch = new ArrayList<>();
+
+		try (Cursor<String> keys = stringRedisTemplate.scan(ScanOptions.scanOptions().match(SKETCH_PATTERN).count(DELETE_BATCH_SIZE).build())) {
+			while (keys.hasNext()) {
+				batch.add(keys.next());
+
+				if (batch.size() == DELETE_BATCH_SIZE || !keys.hasNext()) {
+					Long removed = stringRedisTemplate.delete(batch);
+					deleted += removed == null ? 0 : removed;
+					batch.clear();
+				}
+			}
+		}
+
+		return deleted;
+	}
+
+	private void write(RedisConnection connection, String key, List<?> stored, Pending pending) {
+		ServerDistribution merged = new ServerDistribution(
+				merge(stored.get(0), pending.distribution().getScores()),
+				merge(stored.get(1), pending.distribution().getMargins()));
+
+		byte[] rawKey = bytes(key);
+		connection.hashCommands().hMSet(rawKey, Map.of(
+				scoresField, toBytes(merged.getScores()),
+				marginsField, toBytes(merged.getMargins())));
+
+		if (pending.expiresAt() > 0) {
+			connection.keyCommands().pExpireAt(rawKey, pending.expiresAt());
+		}
+	}
+
+	private static TDigest merge(Object stored, TDigest digest) {
+		return stored == null ? digest : merge(List.of(MergingDigest.fromBytes(ByteBuffer.wrap((byte[]) stored)), digest));
+	}
+
+	private static TDigest merge(List<TDigest> digests) {
+		MergingDigest merged = new MergingDigest(ServerDistribution.COMPRESSION);
+		digests.forEach(merged::add);
+		return merged;
+	}
+
+	private static byte[] toBytes(TDigest digest) {
+		ByteBuffer buffer = ByteBuffer.allocate(digest.byteSize());
+		digest.asBytes(buffer);
+		return buffer.array();
+	}
+
+	private static String bucketKey(String endpoint, ChronoUnit unit, long bucket) {
+		return BUCKET_KEY.formatted(endpoint, unit, bucket);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Matches of one sketch not yet merged into this node's share, and when the sketch expires (0 for never).
+	 */
+	public record Pending(ServerDistribution distribution, long expiresAt) {
+	}
+}
@@ -0,0 +1,98 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Distinct players seen per server, as HyperLogLogs: one for all time and one per minute, hour and day
+ * bucket, the latter expiring like the popularity buckets of {@link ServerRankingRepository}. Each
+ * HyperLogLog takes at most 12 KB however many players it counts, and the bucket keys of a server are
+ * bounded by the windows, so memory per server does not grow with traffic. Counts are estimates with
+ * a standard error of 0.81%.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Server:players"})
+@Repository
+@RequiredArgsConstructor
+public class ServerPlayersRepository {
+
+	private static final String PLAYERS_KEY = "Server:players:%s";
+	private static final String BUCKET_KEY = "Server:players:%s:%s:%d";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * Adds the players of every match; the match recording script does the same for each match it records.
+	 */
+	public void addAll(Collection<Match> matches) {
+		if (matches.isEmpty()) {
+			return;
+		}
+
+		long now = toEpochMilli(LocalDateTime.now());
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				// Typed, so the player array is passed as the varargs it is
+				RedisOperations<String, String> stringOperations = operations;
+
+				for (Match match : matches) {
+					String[] players = match.getPlayerScores().keySet().toArray(String[]::new);
+					stringOperations.opsForHyperLogLog().add(playersKey(match), players);
+
+					bucketTtls(match, now).forEach((key, ttl) -> {
+						stringOperations.opsForHyperLogLog().add(key, players);
+						stringOperations.expire(key, ttl);
+					});
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Estimated number of distinct players in the matches played on {@code endpoint} in {@code window}.
+	 */
+	public long countPlayers(String endpoint, TimeWindow window) {
+		List<String> keys = window == TimeWindow.ALL
+				? List.of(PLAYERS_KEY.formatted(endpoint))
+				: ServerRankingRepository.windowBucketKeys(window, (unit, bucket) -> bucketKey(endpoint, unit, bucket));
+
+		// PFCOUNT over several keys counts their union without storing it
+		Long count = stringRedisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+		return count == null ? 0 : count;
+	}
+
+	static String playersKey(Match match) {
+		return PLAYERS_KEY.formatted(match.getServerEndpoint());
+	}
+
+	/**
+	 * The buckets {@code match} counts its players in, in the order and with the ttls of
+	 * {@link ServerRankingRepository#bucketTtls(Match, long)}.
+	 */
+	static Map<String, Duration> bucketTtls(Match match, long now) {
+		return ServerRankingRepository.bucketTtls(match, now, (unit, bucket) -> bucketKey(match.getServerEndpoint(), unit, bucket));
+	}
+
+	private static String bucketKey(String endpoint, ChronoUnit unit, long bucket) {
+		return BUCKET_KEY.formatted(endpoint, unit, bucket);
+	}
+}
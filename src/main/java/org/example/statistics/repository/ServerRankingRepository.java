@@ -0,0 +1,254 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Match counters per server endpoint, kept in sorted sets so that the most popular servers
+ * are a range read. Besides the all-time ranking, every match is counted in per-minute,
+ * per-hour and per-day buckets that expire once no {@link TimeWindow} can reach them.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Server:popularity"})
+@Repository
+@RequiredArgsConstructor
+public class ServerRankingRepository {
+
+	static final String RANKING_KEY = "Server:popularity";
+	private static final String BUCKET_KEY = "Server:popularity:%s:%d";
+	private static final String WINDOW_KEY = "Server:popularity:window:%s";
+	static final Duration WINDOW_TTL = Duration.ofMinutes(1);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void record(Match match) {
+		recordAll(List.of(match));
+	}
+
+	public void recordAll(Collection<Match> matches) {
+		if (matches.isEmpty()) {
+			return;
+		}
+
+		long now = toEpochMilli(LocalDateTime.now());
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (Match match : matches) {
+					operations.opsForZSet().incrementScore(RANKING_KEY, match.getServerEndpoint(), 1);
+
+					bucketTtls(match, now).forEach((key, ttl) -> {
+						operations.opsForZSet().incrementScore(key, match.getServerEndpoint(), 1);
+						operations.expire(key, ttl);
+					});
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Makes servers without any match show up in the ranking with a count of zero.
+	 */
+	public void registerAll(Collection<Server> servers) {
+		if (servers.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (Server server : servers) {
+					operations.opsForZSet().incrementScore(RANKING_KEY, server.getEndpoint(), 0);
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Overwrites the all-time counters of the given servers.
+	 */
+	public void replaceCounts(Map<String, Integer> matchCounts) {
+		if (matchCounts.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				matchCounts.forEach((endpoint, count) -> operations.opsForZSet().add(RANKING_KEY, endpoint, count));
+				return null;
+			}
+		});
+	}
+
+	public int getMatchCount(String endpoint) {
+		Double score = stringRedisTemplate.opsForZSet().score(RANKING_KEY, endpoint);
+		return score == null ? 0 : score.intValue();
+	}
+
+	/**
+	 * Matches played on {@code endpoint} in each bucket of {@code window}, oldest first; the last one is
+	 * the bucket currently being filled. Empty for {@link TimeWindow#ALL}.
+	 */
+	public List<Integer> getBucketCounts(String endpoint, TimeWindow window) {
+		if (window == TimeWindow.ALL) {
+			return List.of();
+		}
+
+		List<String> bucketKeys = windowBucketKeys(window);
+		List<Object> scores = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				bucketKeys.forEach(key -> operations.opsForZSet().score(key, endpoint));
+				return null;
+			}
+		});
+
+		return scores.stream()
+				.map(score -> score == null ? 0 : ((Double) score).intValue())
+				.toList();
+	}
+
+	/**
+	 * Endpoints of the {@code count} servers with the most matches in {@code window}, most popular first.
+	 */
+	public List<String> findTopServerEndpoints(int count, TimeWindow window) {
+		return findTopServerEndpoints(0, count, window);
+	}
+
+	/**
+	 * Endpoints of the servers ranked {@code offset} to {@code offset + count - 1} by matches in {@code window}.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<String> findTopServerEndpoints(long offset, int count, TimeWindow window) {
+		if (count <= 0) {
+			return List.of();
+		}
+
+		if (window == TimeWindow.ALL) {
+			Set<String> endpoints = stringRedisTemplate.opsForZSet().reverseRange(RANKING_KEY, offset, offset + count - 1);
+			return endpoints == null ? List.of() : List.copyOf(endpoints);
+		}
+
+		List<String> bucketKeys = windowBucketKeys(window);
+		String windowKey = windowKey(window);
+		List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				operations.opsForZSet().unionAndStore(bucketKeys.getFirst(), bucketKeys.subList(1, bucketKeys.size()), windowKey);
+				operations.expire(windowKey, WINDOW_TTL);
+				operations.opsForZSet().reverseRange(windowKey, offset, offset + count - 1);
+				return null;
+			}
+		});
+
+		Set<String> endpoints = (Set<String>) results.get(2);
+		return endpoints == null ? List.of() : List.copyOf(endpoints);
+	}
+
+	/**
+	 * Number of the bucket of {@code window} that is currently being filled; the matches in the window
+	 * change with it even when no match is recorded. Always 0 for {@link TimeWindow#ALL}.
+	 */
+	public static long currentBucket(TimeWindow window) {
+		return window.getBucketUnit() == null ? 0 : bucketOf(LocalDateTime.now(), window.getBucketUnit());
+	}
+
+	/**
+	 * Keys of the buckets that make up {@code window} right now, oldest first.
+	 */
+	static List<String> windowBucketKeys(TimeWindow window) {
+		return windowBucketKeys(window, ServerRankingRepository::bucketKey);
+	}
+
+	/**
+	 * Keys of the buckets that make up {@code window} right now, oldest first, named by {@code bucketKey}.
+	 */
+	static List<String> windowBucketKeys(TimeWindow window, BiFunction<ChronoUnit, Long, String> bucketKey) {
+		long currentBucket = currentBucket(window);
+		List<String> bucketKeys = new ArrayList<>(window.getBucketCount());
+		for (long bucket = currentBucket - window.getBucketCount() + 1; bucket <= currentBucket; bucket++) {
+			bucketKeys.add(bucketKey.apply(window.getBucketUnit(), bucket));
+		}
+		return bucketKeys;
+	}
+
+	/**
+	 * Short-lived key the buckets of {@code window} are merged into for ranking.
+	 */
+	static String windowKey(TimeWindow window) {
+		return WINDOW_KEY.formatted(window);
+	}
+
+	/**
+	 * Keys of the buckets {@code match} has to be counted in, with the time each of them has left to live.
+	 * Buckets that are already too old for any window to include them are left out.
+	 */
+	static Map<String, Duration> bucketTtls(Match match, long now) {
+		return bucketTtls(match, now, ServerRankingRepository::bucketKey);
+	}
+
+	/**
+	 * {@link #bucketTtls(Match, long)} for buckets named by {@code bucketKey}.
+	 */
+	static Map<String, Duration> bucketTtls(Match match, long now, BiFunction<ChronoUnit, Long, String> bucketKey) {
+		Map<String, Duration> ttls = new LinkedHashMap<>();
+
+		for (TimeWindow window : TimeWindow.values()) {
+			if (window.getBucketUnit() == null) {
+				continue;
+			}
+
+			long bucket = bucketOf(match.getTimestamp(), window.getBucketUnit());
+			long ttl = bucketEnd(window, bucket) - now;
+
+			if (ttl > 0) {
+				ttls.put(bucketKey.apply(window.getBucketUnit(), bucket), Duration.ofMillis(ttl));
+			}
+		}
+
+		return ttls;
+	}
+
+	private static long bucketOf(LocalDateTime timestamp, ChronoUnit unit) {
+		return toEpochMilli(timestamp) / unit.getDuration().toMillis();
+	}
+
+	private static String bucketKey(ChronoUnit unit, long bucket) {
+		return BUCKET_KEY.formatted(unit, bucket);
+	}
+
+	/**
+	 * Epoch millis after which {@code bucket} has left every window of its resolution.
+	 */
+	private static long bucketEnd(TimeWindow window, long bucket) {
+		return (bucket + 1 + window.getBucketCount()) * window.getBucketUnit().getDuration().toMillis();
+	}
+}
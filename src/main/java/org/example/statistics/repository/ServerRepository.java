@@ -5,5 +5,5 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ServerRepository extends CrudRepository<Server,String> {
+public interface ServerRepository extends CrudRepository<Server,String>, ServerRepositoryCustom {
 }
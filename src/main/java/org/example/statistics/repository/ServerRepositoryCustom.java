@@ -0,0 +1,12 @@
+package org.example.statistics.repository;
+
+import org.example.statistics.domain.Server;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ServerRepositoryCustom {
+	List<Server> findAllByIdPipelined(Collection<String> ids);
+
+	void saveAllPipelined(Collection<Server> servers);
+}
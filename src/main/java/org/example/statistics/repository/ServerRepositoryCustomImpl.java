@@ -0,0 +1,24 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Server;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ServerRepositoryCustomImpl implements ServerRepositoryCustom {
+
+	private final RedisBatchReader redisBatchReader;
+	private final RedisBatchWriter redisBatchWriter;
+
+	@Override
+	public List<Server> findAllByIdPipelined(Collection<String> ids) {
+		return redisBatchReader.findAllById(Server.class, ids);
+	}
+
+	@Override
+	public void saveAllPipelined(Collection<Server> servers) {
+		redisBatchWriter.saveAll(servers);
+	}
+}
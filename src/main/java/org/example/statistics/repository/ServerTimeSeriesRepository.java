@@ -0,0 +1,284 @@
+package org.example.statistics.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.TimeSeriesPoint;
+import org.example.statistics.enums.TimeStep;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Match activity per server over time: a counter hash (matches, summed score) and a distinct player
+ * HyperLogLog per bucket of every {@link TimeStep}.
+ * <p>
+ * The match recording script only updates the minute bucket and marks the hour as dirty. {@link #compact()}
+ * then recomputes each dirty hour from its minutes and each affected day from its hours. Recomputing
+ * rather than adding makes a fold safe to repeat, so every node may compact without coordination.
+ * Each resolution expires after its own retention; a match is only counted while every minute of its
+ * hour is still retained, so that the hour can always be recomputed in full.
+ * <p>
+ * A compaction claims the dirty hours into a key of its own, so nodes never fold or delete each other's
+ * claims. A claim still registered after {@code stats.series.claim-timeout}, from a node that stopped
+ * midway, is taken over by the next compaction.
+ */
+@Timed(value = "redis.repository", extraTags = {"keys", "Server:series"})
+@Repository
+public class ServerTimeSeriesRepository {
+
+	private static final String BUCKET_KEY = "Server:series:%s:%s:%d";
+	private static final String PLAYERS_KEY = BUCKET_KEY + ":players";
+	private static final String DIRTY_KEY = "Server:series:dirty";
+	private static final String COMPACTING_KEY = DIRTY_KEY + ":compacting:%s";
+	private static final String CLAIMS_KEY = DIRTY_KEY + ":claims";
+	private static final String MATCHES = "matches";
+	private static final String SCORE = "score";
+
+	// Moves the dirty hours and any abandoned claims into the claim of this run, and registers it.
+	// KEYS: 1 dirty hours, 2 claim of this run, 3 claims; ARGV: 1 now, 2 claims registered before this are abandoned
+	private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of("""
+			local sources = {}
+			if redis.call('EXISTS', KEYS[1]) == 1 then
+				sources[#sources + 1] = KEYS[1]
+			end
+			for _, claim in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[2])) do
+				if redis.call('EXISTS', claim) == 1 then
+					sources[#sources + 1] = claim
+				end
+				redis.call('ZREM', KEYS[3], claim)
+			end
+			if #sources == 0 then
+				return 0
+			end
+			local args = {KEYS[2], #sources}
+			for _, source in ipairs(sources) do
+				args[#args + 1] = source
+			end
+			args[#args + 1] = 'AGGREGATE'
+			args[#args + 1] = 'MAX'
+			redis.call('ZUNIONSTORE', unpack(args))
+			redis.call('DEL', unpack(sources))
+			redis.call('ZADD', KEYS[3], ARGV[1], KEYS[2])
+			return #sources
+			""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Map<TimeStep, Duration> retention = new EnumMap<>(TimeStep.class);
+	private final Duration claimTimeout;
+
+	public ServerTimeSeriesRepository(StringRedisTemplate stringRedisTemplate,
+									  @Value("${stats.series.retention.minute}") Duration minuteRetention,
+									  @Value("${stats.series.retention.hour}") Duration hourRetention,
+									  @Value("${stats.series.retention.day}") Duration dayRetention,
+									  @Value("${stats.series.claim-timeout}") Duration claimTimeout) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.claimTimeout = claimTimeout;
+		retention.put(TimeStep.MINUTE, minuteRetention);
+		retention.put(TimeStep.HOUR, hourRetention);
+		retention.put(TimeStep.DAY, dayRetention);
+	}
+
+	/**
+	 * Where the recording script counts {@code match}: its minute bucket, when the bucket expires, and the
+	 * dirty hour entry to mark. {@code expiresAt} is 0 when the match is too old to be counted.
+	 */
+	public MinuteBucket minuteBucket(Match match, long now) {
+		String endpoint = match.getServerEndpoint();
+		long minute = bucketOf(match.getTimestamp(), TimeStep.MINUTE);
+		long hour = minute * TimeStep.MINUTE.getMillis() / TimeStep.HOUR.getMillis();
+		long expiresAt = isRetained(TimeStep.MINUTE, TimeStep.HOUR, hour, now) ? expiresAt(TimeStep.MINUTE, minute) : 0;
+
+		return new MinuteBucket(countersKey(endpoint, TimeStep.MINUTE, minute), playersKey(endpoint, TimeStep.MINUTE, minute),
+				DIRTY_KEY, expiresAt, hour, hour + ":" + endpoint);
+	}
+
+	/**
+	 * One point per bucket of {@code step} from the one holding {@code from} to the one holding {@code to},
+	 * buckets without matches included. Hour and day points lag behind by up to one compaction.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<TimeSeriesPoint> find(String endpoint, TimeStep step, LocalDateTime from, LocalDateTime to) {
+		long first = bucketOf(from, step);
+		long last = bucketOf(to, step);
+
+		List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (long bucket = first; bucket <= last; bucket++) {
+					operations.opsForHash().multiGet(countersKey(endpoint, step, bucket), List.of(MATCHES, SCORE));
+					operations.opsForHyperLogLog().size(playersKey(endpoint, step, bucket));
+				}
+				return null;
+			}
+		});
+
+		List<TimeSeriesPoint> points = new ArrayList<>();
+		for (long bucket = first; bucket <= last; bucket++) {
+			int at = (int) (bucket - first) * 2;
+			List<Object> counters = (List<Object>) results.get(at);
+
+			points.add(new TimeSeriesPoint(
+					LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket * step.getMillis()), ZoneOffset.UTC),
+					toLong(counters.get(0)),
+					toLong(counters.get(1)),
+					toLong(results.get(at + 1))));
+		}
+
+		return points;
+	}
+
+	/**
+	 * Folds the minutes of every hour marked dirty since the last compaction into that hour, then the
+	 * hours into their days. Returns the number of hours folded.
+	 */
+	public int compact() {
+		String claim = COMPACTING_KEY.formatted(UUID.randomUUID());
+		if (!claimDirtyHours(claim)) {
+			return 0;
+		}
+
+		Set<String> dirty = stringRedisTemplate.opsForZSet().range(claim, 0, -1);
+		if (dirty == null || dirty.isEmpty()) {
+			release(claim);
+			return 0;
+		}
+
+		long now = toEpochMilli(LocalDateTime.now());
+		Map<String, Long> days = new LinkedHashMap<>();
+
+		for (String entry : dirty) {
+			// Entries are "<hour>:<endpoint>", and endpoints contain colons themselves
+			int separator = entry.indexOf(':');
+			long hour = Long.parseLong(entry.substring(0, separator));
+			String endpoint = entry.substring(separator + 1);
+			long day = hour * TimeStep.HOUR.getMillis() / TimeStep.DAY.getMillis();
+
+			fold(endpoint, TimeStep.MINUTE, TimeStep.HOUR, hour, now);
+			days.put(day + ":" + endpoint, day);
+		}
+
+		days.forEach((entry, day) -> fold(entry.substring(entry.indexOf(':') + 1), TimeStep.HOUR, TimeStep.DAY, day, now));
+
+		// Only released once every fold succeeded; a failed compaction leaves its claim to be taken over
+		release(claim);
+		return dirty.size();
+	}
+
+	/**
+	 * Moves the dirty hours into {@code claim}, so that hours marked meanwhile wait for the next compaction.
+	 * Claims abandoned by a compaction that did not finish are taken up as well. Returns whether there was
+	 * anything to claim.
+	 */
+	private boolean claimDirtyHours(String claim) {
+		long now = toEpochMilli(LocalDateTime.now());
+		Long sources = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(DIRTY_KEY, claim, CLAIMS_KEY),
+				String.valueOf(now), String.valueOf(now - claimTimeout.toMillis()));
+		return sources != null && sources > 0;
+	}
+
+	private void release(String claim) {
+		stringRedisTemplate.delete(claim);
+		stringRedisTemplate.opsForZSet().remove(CLAIMS_KEY, claim);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void fold(String endpoint, TimeStep source, TimeStep target, long bucket, long now) {
+		if (!isRetained(source, target, bucket, now)) {
+			return;
+		}
+
+		long perBucket = target.getMillis() / source.getMillis();
+		List<String> playersKeys = new ArrayList<>();
+
+		List<Object> counters = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (long part = bucket * perBucket; part < (bucket + 1) * perBucket; part++) {
+					operations.opsForHash().multiGet(countersKey(endpoint, source, part), List.of(MATCHES, SCORE));
+					playersKeys.add(playersKey(endpoint, source, part));
+				}
+				return null;
+			}
+		});
+
+		long matches = 0;
+		long score = 0;
+		for (Object part : counters) {
+			matches += toLong(((List<Object>) part).get(0));
+			score += toLong(((List<Object>) part).get(1));
+		}
+
+		String countersKey = countersKey(endpoint, target, bucket);
+		String playersKey = playersKey(endpoint, target, bucket);
+		Date expiresAt = new Date(expiresAt(target, bucket));
+		Map<String, String> totals = Map.of(MATCHES, String.valueOf(matches), SCORE, String.valueOf(score));
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				// Typed, so the source keys are passed as the varargs they are
+				RedisOperations<String, String> stringOperations = operations;
+
+				stringOperations.opsForHash().putAll(countersKey, totals);
+				stringOperations.opsForHyperLogLog().union(playersKey, playersKeys.toArray(String[]::new));
+				stringOperations.expireAt(countersKey, expiresAt);
+				stringOperations.expireAt(playersKey, expiresAt);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Whether every {@code source} bucket making up {@code bucket} of {@code target} is still stored.
+	 */
+	private boolean isRetained(TimeStep source, TimeStep target, long bucket, long now) {
+		long firstPart = bucket * target.getMillis() / source.getMillis();
+		return expiresAt(source, firstPart) > now;
+	}
+
+	private long expiresAt(TimeStep step, long bucket) {
+		return (bucket + 1) * step.getMillis() + retention.get(step).toMillis();
+	}
+
+	private static long bucketOf(LocalDateTime timestamp, TimeStep step) {
+		return Math.floorDiv(toEpochMilli(timestamp), step.getMillis());
+	}
+
+	private static String countersKey(String endpoint, TimeStep step, long bucket) {
+		return BUCKET_KEY.formatted(endpoint, step, bucket);
+	}
+
+	private static String playersKey(String endpoint, TimeStep step, long bucket) {
+		return PLAYERS_KEY.formatted(endpoint, step, bucket);
+	}
+
+	private static long toLong(Object value) {
+		return value == null ? 0 : Long.parseLong(value.toString());
+	}
+
+	/**
+	 * Keys and values the match recording script counts a match in the time series with.
+	 */
+	public record MinuteBucket(String countersKey, String playersKey, String dirtyKey, long expiresAt, long hour, String dirtyEntry) {
+	}
+}
@@ -0,0 +1,9 @@
+package org.example.statistics.repository;
+
+import org.example.statistics.domain.User;
+
+import java.util.Collection;
+
+public interface UserRepositoryCustom {
+	void saveAllPipelined(Collection<User> users);
+}
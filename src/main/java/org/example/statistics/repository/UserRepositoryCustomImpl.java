@@ -0,0 +1,17 @@
+package org.example.statistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.User;
+
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+	private final RedisBatchWriter redisBatchWriter;
+
+	@Override
+	public void saveAllPipelined(Collection<User> users) {
+		redisBatchWriter.saveAll(users);
+	}
+}
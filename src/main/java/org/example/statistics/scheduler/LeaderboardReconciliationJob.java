@@ -0,0 +1,77 @@
+package org.example.statistics.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.Player;
+import org.example.statistics.repository.LeaderboardRepository;
+import org.example.statistics.repository.RedisBatchReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the leaderboard with the players stored in {@code PlayerRepository} and
+ * swaps in a freshly built one when the two have drifted apart. Also runs once on startup
+ * so that data loaded before the leaderboard existed gets ranked.
+ * <p>
+ * Nodes skip the run while another one holds the rebuild lock. Each run stages into a key of its
+ * own, so a run never publishes or discards the half-built leaderboard of another. Once swapped in,
+ * the scores changed while the run was staging are re-read in batches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardReconciliationJob {
+
+	private final RedisBatchReader redisBatchReader;
+	private final LeaderboardRepository leaderboardRepository;
+
+	@Value("${leaderboard.reconcile.batch-size}")
+	private int batchSize;
+
+	@Scheduled(cron = "${leaderboard.reconcile.cron}")
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcile() {
+		Optional<String> run = leaderboardRepository.tryLock();
+
+		if (run.isEmpty()) {
+			log.debug("Leaderboard reconciliation already running on another node");
+			return;
+		}
+
+		try {
+			reconcile(run.get());
+		}
+		finally {
+			// A no-op once published: the staging key has been renamed
+			leaderboardRepository.discardStaged(run.get());
+			leaderboardRepository.unlock(run.get());
+		}
+	}
+
+	private void reconcile(String run) {
+		AtomicLong drift = new AtomicLong();
+		long players = redisBatchReader.forEachBatch(Player.class, batchSize,
+				batch -> drift.addAndGet(leaderboardRepository.stage(run, batch)));
+
+		if (drift.get() == 0 && leaderboardRepository.size() == players) {
+			return;
+		}
+
+		leaderboardRepository.publishStaged(run);
+
+		// Scores a match changed after they were staged came back with the staging key. Every update recorded
+		// before the swap is in the player hashes by now, and every later one already went to the new leaderboard
+		AtomicLong refreshed = new AtomicLong();
+		redisBatchReader.forEachIdBatch(Player.class, batchSize,
+				names -> refreshed.addAndGet(leaderboardRepository.refresh(names)));
+
+		log.info("Leaderboard rebuilt for {} players ({} out of sync, {} changed while rebuilding)",
+				players, drift.get(), refreshed.get());
+	}
+}
@@ -1,15 +1,20 @@
 package org.example.statistics.scheduler;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
-import org.example.statistics.repository.MatchRepository;
 import org.example.statistics.repository.PlayerRepository;
 import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.service.match.MatchRecordingService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
@@ -18,18 +23,58 @@ import java.util.Map;
 import java.util.LinkedHashMap;
 import java.util.UUID;
 
+/**
+ * Records a random match on every {@code match.generator.cron} tick. Runs are timed by outcome, and
+ * {@code match.generator.lag} tells how late each run started after its tick.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class MatchGeneratorJob {
 
-	private final MatchRepository matchRepository;
 	private final ServerRepository serverRepository;
 	private final PlayerRepository playerRepository;
+	private final MatchRecordingService matchRecordingService;
+	private final MeterRegistry meterRegistry;
+	private final CronExpression cron;
+	private final Timer lag;
 
 	private final Random random = new Random();
+	// Tick the next run is due at, unknown until the first run
+	private LocalDateTime nextTick;
+
+	public MatchGeneratorJob(ServerRepository serverRepository,
+							 PlayerRepository playerRepository,
+							 MatchRecordingService matchRecordingService,
+							 MeterRegistry meterRegistry,
+							 @Value("${match.generator.cron}") String cron) {
+		this.serverRepository = serverRepository;
+		this.playerRepository = playerRepository;
+		this.matchRecordingService = matchRecordingService;
+		this.meterRegistry = meterRegistry;
+		this.cron = CronExpression.parse(cron);
+		this.lag = Timer.builder("match.generator.lag")
+				.description("Delay between a match generator tick and the start of its run")
+				.register(meterRegistry);
+	}
 
 	@Scheduled(cron = "${match.generator.cron}")
 	public void generateRandomMatch() {
+		LocalDateTime start = LocalDateTime.now();
+		if (nextTick != null) {
+			lag.record(Duration.between(nextTick, start));
+		}
+		nextTick = cron.next(start);
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		boolean recorded = generate();
+
+		sample.stop(Timer.builder("match.generator.runs")
+				.description("Time to generate and record a random match")
+				.tag("outcome", recorded ? "recorded" : "skipped")
+				.register(meterRegistry));
+	}
+
+	private boolean generate() {
 		List<Server> servers = new ArrayList<>();
 		serverRepository.findAll().forEach(servers::add);
 
@@ -37,8 +82,8 @@ public class MatchGeneratorJob {
 		playerRepository.findAll().forEach(players::add);
 
 		if (servers.isEmpty() || players.size() < 2) {
-			System.out.println("Not enough data for match generation.");
-			return;
+			log.warn("Not enough data for match generation");
+			return false;
 		}
 
 		// Select server
@@ -70,46 +115,10 @@ public class MatchGeneratorJob {
 				.playerScores(scores)
 				.build();
 
-		matchRepository.save(match);
-
-		if (server.getMatchIds() == null) {
-			server.setMatchIds(new ArrayList<>());
-		}
-
-		server.getMatchIds().add(match.getId());
-		serverRepository.save(server);
-
-		for (Player player : List.of(p1, p2)) {
-			if (player.getMatchIds() == null) {
-				player.setMatchIds(new ArrayList<>());
-			}
-
-			player.getMatchIds().add(match.getId());
-			player.setMatchesPlayed(player.getMatchesPlayed() + 1);
-
-			int earnedPoints = player.getName().equals(winner) ? 100 : 30;
-			player.setTotalScore(player.getTotalScore() + earnedPoints);
-
-			int matchesBefore = player.getMatchesPlayed();
-			double winsBefore = player.getWinRate() * matchesBefore / 100.0;
-
-			boolean isWinner = player.getName().equals(winner);
-
-			int matchesAfter = matchesBefore + 1;
-			double winsAfter = winsBefore + (isWinner ? 1.0 : 0.0);
-
-			double newWinRate = (winsAfter / matchesAfter) * 100.0;
-
-			newWinRate = Math.min(newWinRate, 100.0);
-			newWinRate = Math.max(newWinRate, 0.0);
-
-			player.setMatchesPlayed(matchesAfter);
-			player.setWinRate((int) Math.round(newWinRate));
-
-			playerRepository.save(player);
-		}
+		matchRecordingService.record(match);
 
-		System.out.printf("New match generated on %s between %s (%d) and %s (%d). Winner: %s%n",
+		log.info("New match generated on {} between {} ({}) and {} ({}). Winner: {}",
 				server.getEndpoint(), p1.getName(), score1, p2.getName(), score2, winner);
+		return true;
 	}
 }
@@ -0,0 +1,25 @@
+package org.example.statistics.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.repository.ServerTimeSeriesRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Folds the minute buckets of the server time series into hours and days. Hour and day points are
+ * behind the minutes by at most {@code stats.series.compaction-interval}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServerTimeSeriesCompactionJob {
+
+	private final ServerTimeSeriesRepository serverTimeSeriesRepository;
+
+	@Scheduled(fixedDelayString = "${stats.series.compaction-interval}")
+	public void compact() {
+		int hours = serverTimeSeriesRepository.compact();
+		log.debug("Compacted {} server time series hours", hours);
+	}
+}
@@ -0,0 +1,60 @@
+package org.example.statistics.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.repository.RedisSnapshotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Periodically snapshots Redis to {@code snapshot.file}, and once more on shutdown,
+ * so that {@code SnapshotRestorer} can bring the data back on the next start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "snapshot.enabled", havingValue = "true")
+public class SnapshotJob {
+
+	private final RedisSnapshotRepository snapshotRepository;
+
+	// Not synchronized: blocking file and Redis I/O inside a monitor pins a virtual thread to its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+
+	@Value("${snapshot.file}")
+	private String file;
+
+	@Value("${snapshot.key-pattern}")
+	private String keyPattern;
+
+	@Scheduled(cron = "${snapshot.cron}")
+	public void snapshot() {
+		long started = System.nanoTime();
+
+		lock.lock();
+		try {
+			long written = snapshotRepository.write(Path.of(file), keyPattern);
+			log.info("Snapshot of {} keys written to {} in {} ms", written, file,
+					Duration.ofNanos(System.nanoTime() - started).toMillis());
+		}
+		catch (IOException e) {
+			log.error("Could not write snapshot to {}", file, e);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void snapshotOnShutdown() {
+		snapshot();
+	}
+}
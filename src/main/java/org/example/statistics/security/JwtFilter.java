@@ -6,8 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.statistics.domain.Session;
-import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.utils.JwtClaims;
 import org.example.statistics.utils.JwtUtil;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -26,7 +26,7 @@ import java.util.Collections;
 public class JwtFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
-	private final SessionRepository sessionRepository;
+	private final SessionCache sessionCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request,
@@ -35,14 +35,14 @@ public class JwtFilter extends OncePerRequestFilter {
 
 		String token = getJwtFromRequest(request);
 
-		if (StringUtils.hasText(token) && jwtUtil.isTokenValid(token)) {
-			String username = jwtUtil.extractUsername(token);
-			String userType = jwtUtil.extractRole(token);
+		Optional<JwtClaims> claims = StringUtils.hasText(token) ? jwtUtil.verify(token) : Optional.empty();
 
-			String sessionId = jwtUtil.extractSessionId(token);
-			Session session = sessionRepository.findByUserName(username).orElse(null);
+		if (claims.isPresent()) {
+			String username = claims.get().username();
+			String userType = claims.get().role();
 
-			if(session == null || !session.getSessionId().equals(sessionId)) {
+			String sessionId = claims.get().sessionId();
+			if(!sessionCache.isCurrent(username, sessionId)) {
 				response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 				response.getWriter().write("Session invalid. Login again.");
 				return;
@@ -0,0 +1,72 @@
+package org.example.statistics.security;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.utils.JwtClaims;
+import org.example.statistics.utils.JwtUtil;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * {@link JwtFilter} for the reactive stack. Not a bean: it is only added to the security filter chain,
+ * which would otherwise run it a second time as a global web filter.
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+	private final JwtUtil jwtUtil;
+	private final SessionCache sessionCache;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		String token = getJwtFromRequest(exchange);
+
+		Optional<JwtClaims> claims = StringUtils.hasText(token) ? jwtUtil.verify(token) : Optional.empty();
+
+		if (claims.isEmpty()) {
+			return chain.filter(exchange);
+		}
+
+		String username = claims.get().username();
+		String sessionId = claims.get().sessionId();
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+				username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.get().role())));
+
+		// A session cache miss reads Redis with the blocking repository, which must stay off the event loop
+		return Mono.fromCallable(() -> sessionCache.isCurrent(username, sessionId))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(current -> current
+						? chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+						: rejectSession(exchange));
+	}
+
+	private static Mono<Void> rejectSession(ServerWebExchange exchange) {
+		exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+		DataBuffer body = exchange.getResponse().bufferFactory()
+				.wrap("Session invalid. Login again.".getBytes(StandardCharsets.UTF_8));
+		return exchange.getResponse().writeWith(Mono.just(body));
+	}
+
+	private static String getJwtFromRequest(ServerWebExchange exchange) {
+		String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+			return bearerToken.substring(7);
+		}
+
+		return null;
+	}
+}
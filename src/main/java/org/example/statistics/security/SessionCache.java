@@ -0,0 +1,80 @@
+package org.example.statistics.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.statistics.domain.Session;
+import org.example.statistics.repository.SessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-process cache of the current session of each user, in front of {@link SessionRepository}.
+ * <p>
+ * A token whose session id differs from the cached one triggers a reload, so a fresh login is
+ * accepted straight away. Replaced sessions are dropped on every node through the
+ * {@link #INVALIDATION_CHANNEL} pub/sub channel; the TTL bounds staleness if a message is lost.
+ */
+@Component
+public class SessionCache implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "Session:invalidate";
+
+	private final SessionRepository sessionRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Cache<String, Session> sessions;
+
+	public SessionCache(SessionRepository sessionRepository,
+						StringRedisTemplate stringRedisTemplate,
+						MeterRegistry meterRegistry,
+						@Value("${session.cache.max-size}") long maxSize,
+						@Value("${session.cache.ttl}") Duration ttl) {
+		this.sessionRepository = sessionRepository;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.sessions = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, sessions, "sessions");
+	}
+
+	/**
+	 * Whether {@code sessionId} is the current session of {@code userName}.
+	 */
+	public boolean isCurrent(String userName, String sessionId) {
+		Session cached = sessions.getIfPresent(userName);
+
+		if (cached != null && cached.getSessionId().equals(sessionId)) {
+			return true;
+		}
+
+		// Missing users are not cached, so a session created right after is seen immediately
+		Optional<Session> session = sessionRepository.findByUserName(userName);
+		session.ifPresentOrElse(value -> sessions.put(userName, value), () -> sessions.invalidate(userName));
+
+		return session.map(value -> value.getSessionId().equals(sessionId)).orElse(false);
+	}
+
+	/**
+	 * Drops the cached session of {@code userName} here and on every other node.
+	 */
+	public void invalidate(String userName) {
+		sessions.invalidate(userName);
+		stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userName);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		sessions.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
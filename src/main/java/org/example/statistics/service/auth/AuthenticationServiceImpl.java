@@ -1,5 +1,6 @@
 package org.example.statistics.service.auth;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.example.statistics.domain.Session;
 import org.example.statistics.domain.User;
@@ -8,12 +9,14 @@ import org.example.statistics.dto.auth.LoginResponseDto;
 import org.example.statistics.exception.EntityNotFoundException;
 import org.example.statistics.repository.SessionRepository;
 import org.example.statistics.repository.UserRepository;
+import org.example.statistics.security.SessionCache;
 import org.example.statistics.utils.JwtUtil;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
+@Timed("service")
 @Service
 @RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
@@ -22,6 +25,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	private final SessionRepository sessionRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtUtil jwtUtil;
+	private final SessionCache sessionCache;
 
 	@Override
 	public LoginResponseDto login(LoginRequestDto loginRequestDto) {
@@ -32,12 +36,16 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 			throw new EntityNotFoundException("Invalid username or password");
 		}
 
+		// Keyed by user name so that a new login replaces the previous session
 		String sessionId = UUID.randomUUID().toString();
 		Session session = Session.builder()
+				.id(user.getUserName())
 				.sessionId(sessionId)
 				.userName(user.getUserName())
 				.build();
+		sessionRepository.deleteAll(sessionRepository.findAllByUserName(user.getUserName()));
 		sessionRepository.save(session);
+		sessionCache.invalidate(user.getUserName());
 
 		String token = jwtUtil.generateToken(user.getUserName(), user.getUserType().name(), sessionId);
 
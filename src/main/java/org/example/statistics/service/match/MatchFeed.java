@@ -0,0 +1,193 @@
+package org.example.statistics.service.match;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.MatchesRecordedEvent;
+import org.example.statistics.enums.StreamOverflowPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Live feed of recorded matches for Server-Sent Events clients.
+ * <p>
+ * Every node publishes the matches it records on the {@link #CHANNEL} pub/sub channel and hands
+ * what it receives there to its own subscribers, so a client sees the matches of the whole cluster.
+ * Each subscriber has a bounded {@link MatchSubscription} buffer drained by its own virtual thread:
+ * a slow client only falls behind itself and never holds up the Redis listener or other clients.
+ * Publishing is handed to a virtual thread of the feed as well, so recording a match never waits on
+ * the feed, nor fails because of it.
+ */
+@Slf4j
+@Component
+public class MatchFeed implements MessageListener {
+
+	public static final String CHANNEL = "Match:recorded";
+
+	private static final TypeReference<List<Match>> MATCH_LIST = new TypeReference<>() {
+	};
+
+	private final ObjectMapper objectMapper;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+	// A single thread, so matches are published in the order they were recorded
+	private final ExecutorService publisher = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("match-feed-publisher").factory());
+	private final Counter droppedMatches;
+	private final int bufferSize;
+	private final StreamOverflowPolicy overflowPolicy;
+	private final Duration timeout;
+	private final Duration heartbeat;
+
+	public MatchFeed(ObjectMapper objectMapper,
+					 StringRedisTemplate stringRedisTemplate,
+					 MeterRegistry meterRegistry,
+					 @Value("${match.stream.buffer-size}") int bufferSize,
+					 @Value("${match.stream.overflow-policy}") StreamOverflowPolicy overflowPolicy,
+					 @Value("${match.stream.timeout}") Duration timeout,
+					 @Value("${match.stream.heartbeat}") Duration heartbeat) {
+		this.objectMapper = objectMapper;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.bufferSize = bufferSize;
+		this.overflowPolicy = overflowPolicy;
+		this.timeout = timeout;
+		this.heartbeat = heartbeat;
+		this.droppedMatches = Counter.builder("matches.stream.dropped")
+				.description("Matches not delivered to a live feed client that read too slowly")
+				.register(meterRegistry);
+
+		meterRegistry.gauge("matches.stream.subscribers", subscribers, Set::size);
+	}
+
+	/**
+	 * Opens a feed of the matches recorded from now on, optionally only those on {@code serverEndpoint}
+	 * or with {@code playerName}.
+	 */
+	public SseEmitter subscribe(String serverEndpoint, String playerName) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		Subscriber subscriber = new Subscriber(new MatchSubscription(serverEndpoint, playerName, bufferSize, overflowPolicy), emitter);
+		Thread sender = Thread.ofVirtual().name("match-feed").unstarted(() -> send(subscriber));
+
+		Runnable close = () -> {
+			subscribers.remove(subscriber);
+			sender.interrupt();
+		};
+		emitter.onCompletion(close);
+		emitter.onTimeout(close);
+		emitter.onError(error -> close.run());
+
+		subscribers.add(subscriber);
+		sender.start();
+		return emitter;
+	}
+
+	@EventListener
+	public void onMatchesRecorded(MatchesRecordedEvent event) {
+		try {
+			publisher.execute(() -> publish(event.matches()));
+		}
+		catch (RejectedExecutionException e) {
+			// Shutting down; live clients are about to be disconnected anyway
+			log.debug("Not publishing {} recorded matches to the live feed after shutdown", event.matches().size());
+		}
+	}
+
+	/**
+	 * Sends the matches still waiting to be published before the node stops.
+	 */
+	@PreDestroy
+	public void close() {
+		publisher.close();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		if (subscribers.isEmpty()) {
+			return;
+		}
+
+		try {
+			for (Match match : objectMapper.readValue(message.getBody(), MATCH_LIST)) {
+				// Serialized once per match, and only if someone wants it
+				String json = null;
+
+				for (Subscriber subscriber : subscribers) {
+					if (subscriber.subscription().accepts(match)) {
+						json = json == null ? objectMapper.writeValueAsString(match) : json;
+
+						if (!subscriber.subscription().offer(json)) {
+							droppedMatches.increment();
+						}
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			log.warn("Ignoring malformed live feed message", e);
+		}
+	}
+
+	private void publish(List<Match> matches) {
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(matches));
+		}
+		catch (JsonProcessingException | DataAccessException e) {
+			// The matches are stored; only live clients miss them
+			log.warn("Could not publish {} recorded matches to the live feed", matches.size(), e);
+		}
+	}
+
+	private void send(Subscriber subscriber) {
+		SseEmitter emitter = subscriber.emitter();
+
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				String json = subscriber.subscription().poll(heartbeat);
+
+				// Comments keep proxies from closing an idle stream and reveal clients that went away
+				if (json == null) {
+					emitter.send(SseEmitter.event().comment("keep-alive"));
+					continue;
+				}
+
+				long dropped = subscriber.subscription().takeDropped();
+				if (dropped > 0) {
+					emitter.send(SseEmitter.event().name("dropped").data(dropped));
+				}
+				emitter.send(SseEmitter.event().name("match").data(json, MediaType.APPLICATION_JSON));
+			}
+		}
+		catch (InterruptedException | IllegalStateException e) {
+			// Closed by the emitter callbacks, possibly before this thread noticed
+		}
+		catch (IOException e) {
+			// The client went away; the container reports it to the emitter, which cleans up
+		}
+		finally {
+			subscribers.remove(subscriber);
+		}
+	}
+
+	private record Subscriber(MatchSubscription subscription, SseEmitter emitter) {
+	}
+}
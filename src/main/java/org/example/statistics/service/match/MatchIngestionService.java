@@ -0,0 +1,12 @@
+package org.example.statistics.service.match;
+
+import org.example.statistics.dto.match.MatchBatchResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface MatchIngestionService {
+	MatchBatchResultDto ingestJsonArray(InputStream body) throws IOException;
+
+	MatchBatchResultDto ingestNdjson(InputStream body) throws IOException;
+}
@@ -0,0 +1,184 @@
+package org.example.statistics.service.match;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.dto.match.MatchBatchItemDto;
+import org.example.statistics.dto.match.MatchBatchResultDto;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Parses matches pushed by game servers one item at a time and records them in pipelined batches.
+ * A malformed or invalid item is reported in its own result and never rejects the rest of the batch.
+ */
+@Timed("service")
+@Service
+@RequiredArgsConstructor
+public class MatchIngestionServiceImpl implements MatchIngestionService {
+
+	private final ObjectMapper objectMapper;
+	private final MatchRecordingService matchRecordingService;
+
+	@Value("${match.ingest.batch-size}")
+	private int batchSize;
+
+	@Override
+	public MatchBatchResultDto ingestJsonArray(InputStream body) throws IOException {
+		Batch batch = new Batch();
+
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new IllegalArgumentException("Expected a JSON array of matches");
+			}
+
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				batch.add(parser.readValueAsTree());
+			}
+		}
+		catch (JsonProcessingException e) {
+			// Nothing after a syntax error can be parsed, but everything before it is still recorded
+			batch.reject(null, "Malformed JSON: " + e.getOriginalMessage());
+		}
+
+		return batch.finish();
+	}
+
+	@Override
+	public MatchBatchResultDto ingestNdjson(InputStream body) throws IOException {
+		Batch batch = new Batch();
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+
+				try {
+					batch.add(objectMapper.readTree(line));
+				}
+				catch (JsonProcessingException e) {
+					batch.reject(null, "Malformed JSON: " + e.getOriginalMessage());
+				}
+			}
+		}
+
+		return batch.finish();
+	}
+
+	private static String validate(Match match) {
+		if (!StringUtils.hasText(match.getServerEndpoint())) {
+			return "serverEndpoint is required";
+		}
+
+		if (match.getTimestamp() == null) {
+			return "timestamp is required";
+		}
+
+		if (match.getPlayerScores() == null || match.getPlayerScores().size() < 2) {
+			return "at least two players are required";
+		}
+
+		for (Map.Entry<String, Integer> score : match.getPlayerScores().entrySet()) {
+			if (!StringUtils.hasText(score.getKey()) || score.getValue() == null || score.getValue() < 0) {
+				return "player names are required and scores must not be negative";
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Collects the results of one request, flushing valid matches to Redis every {@code batchSize} items.
+	 */
+	private class Batch {
+
+		private final List<MatchBatchItemDto> items = new ArrayList<>();
+		private final List<Match> pending = new ArrayList<>();
+		private final List<MatchBatchItemDto> pendingItems = new ArrayList<>();
+
+		void add(JsonNode node) {
+			Match match;
+
+			try {
+				match = objectMapper.treeToValue(node, Match.class);
+			}
+			catch (JsonProcessingException e) {
+				reject(node.path("id").asText(null), "Malformed match: " + e.getOriginalMessage());
+				return;
+			}
+
+			String error = validate(match);
+			if (error != null) {
+				reject(match.getId(), error);
+				return;
+			}
+
+			// Game servers should send their own ids so that retries are recognised as duplicates
+			if (!StringUtils.hasText(match.getId())) {
+				match.setId(UUID.randomUUID().toString());
+			}
+
+			MatchBatchItemDto item = new MatchBatchItemDto(items.size(), match.getId(), null, null);
+			items.add(item);
+			pending.add(match);
+			pendingItems.add(item);
+
+			if (pending.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		void reject(String id, String error) {
+			items.add(new MatchBatchItemDto(items.size(), id, MatchRecordingResult.INVALID, error));
+		}
+
+		MatchBatchResultDto finish() {
+			flush();
+
+			MatchBatchResultDto result = new MatchBatchResultDto(0, 0, 0, items);
+			for (MatchBatchItemDto item : items) {
+				switch (item.getResult()) {
+					case RECORDED -> result.setRecorded(result.getRecorded() + 1);
+					case DUPLICATE -> result.setDuplicates(result.getDuplicates() + 1);
+					default -> result.setRejected(result.getRejected() + 1);
+				}
+			}
+
+			return result;
+		}
+
+		private void flush() {
+			if (pending.isEmpty()) {
+				return;
+			}
+
+			List<MatchRecordingResult> results = matchRecordingService.recordAll(pending);
+			for (int i = 0; i < results.size(); i++) {
+				pendingItems.get(i).setResult(results.get(i));
+			}
+
+			pending.clear();
+			pendingItems.clear();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package org.example.statistics.service.match;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.statistics.domain.Match;
+import org.example.statistics.repository.MatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes match listings as newline-delimited JSON while they are read. Ids come from an index
+ * {@code match.listing.chunk-size} at a time, each chunk is loaded in one pipelined round-trip and
+ * written through a single generator, so memory use does not depend on the length of the listing.
+ */
+@Component
+public class MatchListingWriter {
+
+	private final MatchRepository matchRepository;
+	private final ObjectMapper objectMapper;
+	// Flushed once per chunk rather than after every match
+	private final ObjectWriter matchWriter;
+	private final int chunkSize;
+
+	public MatchListingWriter(MatchRepository matchRepository,
+							  ObjectMapper objectMapper,
+							  @Value("${match.listing.chunk-size}") int chunkSize) {
+		this.matchRepository = matchRepository;
+		this.objectMapper = objectMapper;
+		this.matchWriter = objectMapper.writerFor(Match.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Writes at most {@code limit} matches, one per line, in the order {@code ids} hands out their ids.
+	 * Returns the number of matches written.
+	 */
+	public long write(OutputStream out, long limit, IdChunks ids) throws IOException {
+		long written = 0;
+		String lastId = null;
+
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			// Lines are separated below; the default separator would start every line after the first with a space
+			generator.setRootValueSeparator(null);
+			while (written < limit) {
+				int count = (int) Math.min(chunkSize, limit - written);
+				List<String> chunk = ids.next(lastId, count);
+				if (chunk == null || chunk.isEmpty()) {
+					break;
+				}
+
+				// Ids whose match no longer exists are skipped
+				for (Match match : matchRepository.findAllByIdPipelined(chunk)) {
+					matchWriter.writeValue(generator, match);
+					generator.writeRaw('\n');
+					written++;
+				}
+				generator.flush();
+
+				if (chunk.size() < count) {
+					break;
+				}
+				lastId = chunk.getLast();
+			}
+		}
+
+		return written;
+	}
+
+	/**
+	 * The listing {@link #write} would write, deferred until there is a stream to write it to, so that
+	 * its arguments can be checked before a response is started.
+	 */
+	public Listing listing(long limit, IdChunks ids) {
+		return out -> write(out, limit, ids);
+	}
+
+	/**
+	 * A listing waiting to be written.
+	 */
+	@FunctionalInterface
+	public interface Listing {
+
+		void writeTo(OutputStream out) throws IOException;
+	}
+
+	/**
+	 * Source of the ids of a listing.
+	 */
+	@FunctionalInterface
+	public interface IdChunks {
+
+		/**
+		 * Up to {@code count} ids that follow {@code afterId}, or the first ones when it is {@code null}.
+		 * An empty list or {@code null} ends the listing.
+		 */
+		List<String> next(String afterId, int count);
+	}
+}
@@ -0,0 +1,12 @@
+package org.example.statistics.service.match;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.enums.MatchRecordingResult;
+
+import java.util.List;
+
+public interface MatchRecordingService {
+	MatchRecordingResult record(Match match);
+
+	List<MatchRecordingResult> recordAll(List<Match> matches);
+}
@@ -0,0 +1,80 @@
+package org.example.statistics.service.match;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.MatchOutcome;
+import org.example.statistics.domain.MatchesRecordedEvent;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.example.statistics.repository.MatchRecordingRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Timed("service")
+@Service
+@RequiredArgsConstructor
+public class MatchRecordingServiceImpl implements MatchRecordingService {
+
+	private static final int WINNER_POINTS = 100;
+	private static final int LOSER_POINTS = 30;
+
+	private final MatchRecordingRepository matchRecordingRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public MatchRecordingResult record(Match match) {
+		MatchRecordingResult result = matchRecordingRepository.record(toOutcome(match));
+
+		if (result == MatchRecordingResult.RECORDED) {
+			eventPublisher.publishEvent(new MatchesRecordedEvent(List.of(match)));
+		}
+
+		return result;
+	}
+
+	@Override
+	public List<MatchRecordingResult> recordAll(List<Match> matches) {
+		List<MatchRecordingResult> results = matchRecordingRepository.recordAll(matches.stream().map(this::toOutcome).toList());
+
+		List<Match> recorded = new ArrayList<>();
+		for (int i = 0; i < results.size(); i++) {
+			if (results.get(i) == MatchRecordingResult.RECORDED) {
+				recorded.add(matches.get(i));
+			}
+		}
+
+		// One event per batch, so listeners do their work once rather than once per match
+		if (!recorded.isEmpty()) {
+			eventPublisher.publishEvent(new MatchesRecordedEvent(recorded));
+		}
+
+		return results;
+	}
+
+	private MatchOutcome toOutcome(Match match) {
+		if (CollectionUtils.isEmpty(match.getPlayerScores())) {
+			throw new IllegalArgumentException("Match " + match.getId() + " has no players");
+		}
+
+		// Ties go to the player listed first
+		String winner = null;
+		for (Map.Entry<String, Integer> entry : match.getPlayerScores().entrySet()) {
+			if (winner == null || entry.getValue() > match.getPlayerScores().get(winner)) {
+				winner = entry.getKey();
+			}
+		}
+
+		Map<String, Integer> earnedPoints = new LinkedHashMap<>();
+		for (String playerName : match.getPlayerScores().keySet()) {
+			earnedPoints.put(playerName, playerName.equals(winner) ? WINNER_POINTS : LOSER_POINTS);
+		}
+
+		return new MatchOutcome(match, winner, earnedPoints);
+	}
+}
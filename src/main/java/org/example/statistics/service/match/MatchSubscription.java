@@ -0,0 +1,78 @@
+package org.example.statistics.service.match;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.enums.StreamOverflowPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One live feed client: its filters and the bounded buffer between the Redis listener and the thread
+ * writing to the client. Offering never blocks; on overflow the {@link StreamOverflowPolicy} decides
+ * which match is dropped, and the number dropped is handed to the writer to report to the client.
+ */
+public class MatchSubscription {
+
+	private final String serverEndpoint;
+	private final String playerName;
+	private final StreamOverflowPolicy overflowPolicy;
+	private final BlockingQueue<String> buffer;
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * @param serverEndpoint only matches on this server, or every server when {@code null}
+	 * @param playerName     only matches of this player, or every player when {@code null}
+	 */
+	public MatchSubscription(String serverEndpoint, String playerName, int bufferSize, StreamOverflowPolicy overflowPolicy) {
+		this.serverEndpoint = serverEndpoint;
+		this.playerName = playerName;
+		this.overflowPolicy = overflowPolicy;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	public boolean accepts(Match match) {
+		return (serverEndpoint == null || serverEndpoint.equals(match.getServerEndpoint()))
+				&& (playerName == null || match.getPlayerScores() != null && match.getPlayerScores().containsKey(playerName));
+	}
+
+	/**
+	 * Buffers a serialized match, returning {@code false} when that cost a match.
+	 */
+	public boolean offer(String json) {
+		if (buffer.offer(json)) {
+			return true;
+		}
+
+		if (overflowPolicy == StreamOverflowPolicy.DROP_OLDEST) {
+			// The writer may free a slot in between, in which case nothing is evicted
+			boolean evicted = false;
+			while (!buffer.offer(json)) {
+				if (buffer.poll() != null) {
+					dropped.incrementAndGet();
+					evicted = true;
+				}
+			}
+			return !evicted;
+		}
+
+		dropped.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * The next buffered match, or {@code null} when none arrived within {@code timeout}.
+	 */
+	public String poll(Duration timeout) throws InterruptedException {
+		return buffer.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Number of matches dropped since the previous call.
+	 */
+	public long takeDropped() {
+		return dropped.getAndSet(0);
+	}
+}
@@ -0,0 +1,66 @@
+package org.example.statistics.service.player;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elo rating update for a match of any number of players, treated as one game between every pair:
+ * the higher score wins the pair, equal scores draw. A player's change is the sum over its pairs,
+ * scaled by {@code k-factor / (players - 1)} so that two-player matches get the classic update.
+ * <p>
+ * {@code scripts/record-match.lua} applies the same formula when it records a match; the two have to
+ * be changed together.
+ */
+@Getter
+@Component
+public class EloRating {
+
+	private final double initialRating;
+	private final double kFactor;
+
+	public EloRating(@Value("${rating.elo.initial}") double initialRating,
+					 @Value("${rating.elo.k-factor}") double kFactor) {
+		this.initialRating = initialRating;
+		this.kFactor = kFactor;
+	}
+
+	/**
+	 * Applies a match with {@code playerScores} to {@code ratings}, which holds the current rating of
+	 * every player that has one. Players without a rating start at the initial rating.
+	 */
+	public void apply(Map<String, Integer> playerScores, Map<String, Double> ratings) {
+		List<String> players = List.copyOf(playerScores.keySet());
+		if (players.size() < 2) {
+			return;
+		}
+
+		Map<String, Double> before = new LinkedHashMap<>();
+		players.forEach(name -> before.put(name, ratings.getOrDefault(name, initialRating)));
+
+		for (String player : players) {
+			double change = 0;
+
+			for (String opponent : players) {
+				if (!opponent.equals(player)) {
+					change += actual(playerScores.get(player), playerScores.get(opponent))
+							- expected(before.get(player), before.get(opponent));
+				}
+			}
+
+			ratings.put(player, before.get(player) + kFactor * change / (players.size() - 1));
+		}
+	}
+
+	static double expected(double rating, double opponentRating) {
+		return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+	}
+
+	private static double actual(int score, int opponentScore) {
+		return score > opponentScore ? 1 : score == opponentScore ? 0.5 : 0;
+	}
+}
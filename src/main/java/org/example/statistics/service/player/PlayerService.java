@@ -3,5 +3,5 @@ package org.example.statistics.service.player;
 import org.example.statistics.dto.player.PlayerStatsDto;
 
 public interface PlayerService {
-	PlayerStatsDto getStats(String playerName);
+	PlayerStatsDto getStats(String playerName, Integer limit, String cursor);
 }
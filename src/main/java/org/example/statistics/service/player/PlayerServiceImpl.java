@@ -1,21 +1,30 @@
 package org.example.statistics.service.player;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.dto.player.PlayerStatsDto;
 import org.example.statistics.exception.EntityNotFoundException;
 import org.example.statistics.mapper.player.PlayerMapper;
+import org.example.statistics.repository.MatchIndexRepository;
 import org.example.statistics.repository.MatchRepository;
 import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.utils.PageCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+@Timed("service")
 @Service
 @RequiredArgsConstructor
 public class PlayerServiceImpl implements PlayerService {
@@ -24,41 +33,91 @@ public class PlayerServiceImpl implements PlayerService {
 
 	private final MatchRepository matchRepository;
 
+	private final MatchIndexRepository matchIndexRepository;
+
 	private final PlayerMapper playerMapper;
 
+	private final Executor applicationTaskExecutor;
+
+	@Value("${player.stats.recent-matches.default-limit}")
+	private int defaultLimit;
+
+	@Value("${player.stats.recent-matches.max-limit}")
+	private int maxLimit;
+
 	@Override
-	public PlayerStatsDto getStats(String playerName) {
+	public PlayerStatsDto getStats(String playerName, Integer limit, String cursor) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		String username = authentication.getName();
 		boolean isAdmin = authentication.getAuthorities().stream()
 				.anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
 
+		int pageSize = limit == null ? defaultLimit : Math.min(limit, maxLimit);
+
+		// A player's hash is stored under their name, so ownership is known before anything is read
+		if (!isAdmin && !playerName.equals(username)) {
+			throw new EntityNotFoundException("Bad request");
+		}
+
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("limit must be positive");
+		}
+
+		PageCursor.Position after = cursor == null ? null : PageCursor.decodePosition(cursor);
+
+		// The match index does not depend on the player hash, so both round trips overlap.
+		// One extra match tells whether an older page exists
+		CompletableFuture<List<TypedTuple<String>>> newestMatches = CompletableFuture.supplyAsync(
+				() -> after == null
+						? matchIndexRepository.findPlayerMatches(playerName, pageSize + 1)
+						: matchIndexRepository.findPlayerMatchesAfter(playerName, after.member(), after.score(), pageSize + 1),
+				applicationTaskExecutor);
+
 		Optional<Player> optionalPlayer = playerRepository.findById(playerName);
 
 		if(optionalPlayer.isEmpty()) {
+			newestMatches.cancel(false);
 			throw new EntityNotFoundException(isAdmin ? "Player not found" : "Bad request");
 		}
 
-		if(!isAdmin && !optionalPlayer.get().getName().equals(username)) {
-			throw new EntityNotFoundException("Bad request");
+		List<TypedTuple<String>> newest = join(newestMatches);
+		if (newest == null) {
+			throw new IllegalArgumentException("Invalid cursor");
 		}
 
-		Player player = optionalPlayer.get();
-		PlayerStatsDto playerStatsDto = playerMapper.toPlayerStatsDto(player);
+		PlayerStatsDto playerStatsDto = playerMapper.toPlayerStatsDto(optionalPlayer.get());
+		List<TypedTuple<String>> page = newest.subList(0, Math.min(pageSize, newest.size()));
 
-		if (!CollectionUtils.isEmpty(player.getMatchIds())) {
-			List<Match> recentMatches = player.getMatchIds().stream()
-					.map(matchRepository::findById)
-					.filter(Optional::isPresent)
-					.map(Optional::get)
-					.toList();
+		List<String> matchIds = new ArrayList<>(page.size());
+		page.forEach(match -> matchIds.add(match.getValue()));
+		Collections.reverse(matchIds);
 
-			playerStatsDto.setRecentMatches(recentMatches);
-		}
-		else {
-			playerStatsDto.setRecentMatches(List.of());
-		}
+		playerStatsDto.setRecentMatches(matchIds.isEmpty() ? List.of() : matchRepository.findAllByIdPipelined(matchIds));
+		playerStatsDto.setNextCursor(newest.size() > pageSize ? nextCursor(page.getLast()) : null);
 
 		return playerStatsDto;
 	}
+
+	/**
+	 * The timestamp and id of the oldest match of a page: matches of the same millisecond can span pages.
+	 */
+	static String nextCursor(TypedTuple<String> oldest) {
+		return PageCursor.encode(new PageCursor.Position(oldest.getScore().longValue(), oldest.getValue()));
+	}
+
+	/**
+	 * Result of an overlapped read, failing with the exception of the read itself rather than a
+	 * {@link CompletionException} around it.
+	 */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
 }
@@ -0,0 +1,8 @@
+package org.example.statistics.service.player;
+
+import org.example.statistics.dto.player.PlayerStatsDto;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePlayerService {
+	Mono<PlayerStatsDto> getStats(String playerName, Integer limit, String cursor);
+}
@@ -0,0 +1,90 @@
+package org.example.statistics.service.player;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.dto.player.PlayerStatsDto;
+import org.example.statistics.exception.EntityNotFoundException;
+import org.example.statistics.mapper.player.PlayerMapper;
+import org.example.statistics.repository.ReactiveIndexRepository;
+import org.example.statistics.repository.ReactiveRedisBatchReader;
+import org.example.statistics.utils.PageCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same rules as {@link PlayerServiceImpl}; the player and the page of the match index are read concurrently.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactivePlayerServiceImpl implements ReactivePlayerService {
+
+	private final ReactiveRedisBatchReader reactiveRedisBatchReader;
+
+	private final ReactiveIndexRepository reactiveIndexRepository;
+
+	private final PlayerMapper playerMapper;
+
+	@Value("${player.stats.recent-matches.default-limit}")
+	private int defaultLimit;
+
+	@Value("${player.stats.recent-matches.max-limit}")
+	private int maxLimit;
+
+	@Override
+	public Mono<PlayerStatsDto> getStats(String playerName, Integer limit, String cursor) {
+		return ReactiveSecurityContextHolder.getContext()
+				.map(SecurityContext::getAuthentication)
+				.flatMap(authentication -> getStats(authentication, playerName, limit, cursor));
+	}
+
+	private Mono<PlayerStatsDto> getStats(Authentication authentication, String playerName, Integer limit, String cursor) {
+		String username = authentication.getName();
+		boolean isAdmin = authentication.getAuthorities().stream()
+				.anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+
+		int pageSize = limit == null ? defaultLimit : Math.min(limit, maxLimit);
+
+		if (!isAdmin && !playerName.equals(username)) {
+			return Mono.error(new EntityNotFoundException("Bad request"));
+		}
+
+		if (pageSize <= 0) {
+			return Mono.error(new IllegalArgumentException("limit must be positive"));
+		}
+
+		Mono<Player> player = reactiveRedisBatchReader.findById(Player.class, playerName)
+				.switchIfEmpty(Mono.error(() -> new EntityNotFoundException(isAdmin ? "Player not found" : "Bad request")));
+
+		PageCursor.Position after = cursor == null ? null : PageCursor.decodePosition(cursor);
+
+		// One extra match tells whether an older page exists
+		Mono<List<TypedTuple<String>>> newest = (after == null
+				? reactiveIndexRepository.findPlayerMatches(playerName, pageSize + 1)
+				: reactiveIndexRepository.findPlayerMatchesAfter(playerName, after.member(), after.score(), pageSize + 1))
+				.collectList();
+
+		return Mono.zip(player, newest).flatMap(playerAndNewest -> {
+			PlayerStatsDto playerStatsDto = playerMapper.toPlayerStatsDto(playerAndNewest.getT1());
+			List<TypedTuple<String>> page = playerAndNewest.getT2()
+					.subList(0, Math.min(pageSize, playerAndNewest.getT2().size()));
+
+			playerStatsDto.setNextCursor(playerAndNewest.getT2().size() > pageSize ? PlayerServiceImpl.nextCursor(page.getLast()) : null);
+
+			return reactiveRedisBatchReader.findAllById(Match.class, Flux.fromIterable(page.reversed()).map(TypedTuple::getValue))
+					.collectList()
+					.map(matches -> {
+						playerStatsDto.setRecentMatches(matches);
+						return playerStatsDto;
+					});
+		});
+	}
+}
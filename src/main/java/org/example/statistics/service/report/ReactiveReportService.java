@@ -0,0 +1,19 @@
+package org.example.statistics.service.report;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveReportService {
+	Flux<Match> getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before);
+
+	Flux<Player> getBestPlayers(Integer count);
+
+	Flux<Player> getTopRatedPlayers(Integer count);
+
+	Flux<Server> getPopularServers(Integer count, TimeWindow window);
+}
@@ -0,0 +1,49 @@
+package org.example.statistics.service.report;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.repository.ReactiveIndexRepository;
+import org.example.statistics.repository.ReactiveRedisBatchReader;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveReportServiceImpl implements ReactiveReportService {
+
+	private final ReactiveRedisBatchReader reactiveRedisBatchReader;
+	private final ReactiveIndexRepository reactiveIndexRepository;
+
+	@Override
+	public Flux<Match> getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before) {
+		return validateCount(count)
+				.thenMany(reactiveRedisBatchReader.findAllById(Match.class, reactiveIndexRepository.findRecentIds(count, since, before)));
+	}
+
+	@Override
+	public Flux<Player> getBestPlayers(Integer count) {
+		return validateCount(count)
+				.thenMany(reactiveRedisBatchReader.findAllById(Player.class, reactiveIndexRepository.findTopPlayerNames(count)));
+	}
+
+	@Override
+	public Flux<Player> getTopRatedPlayers(Integer count) {
+		return validateCount(count)
+				.thenMany(reactiveRedisBatchReader.findAllById(Player.class, reactiveIndexRepository.findTopRatedPlayerNames(count)));
+	}
+
+	@Override
+	public Flux<Server> getPopularServers(Integer count, TimeWindow window) {
+		return validateCount(count)
+				.thenMany(reactiveRedisBatchReader.findAllById(Server.class, reactiveIndexRepository.findTopServerEndpoints(count, window)));
+	}
+
+	private static Flux<Void> validateCount(Integer count) {
+		return count < 0 ? Flux.error(new IllegalArgumentException("count must not be negative")) : Flux.empty();
+	}
+}
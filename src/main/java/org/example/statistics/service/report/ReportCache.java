@@ -0,0 +1,193 @@
+package org.example.statistics.service.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.MatchesRecordedEvent;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.repository.ServerRankingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of the report responses as ready-to-send JSON, in front of {@link ReportService}.
+ * <p>
+ * Entries live until a match is recorded: the recording node drops them through
+ * {@link MatchesRecordedEvent} and tells every other node over the {@link #INVALIDATION_CHANNEL}
+ * pub/sub channel. Concurrent misses for the same report wait for a single computation.
+ * Windowed popularity rankings are keyed by their current bucket as well, since they also change
+ * as time passes.
+ * <p>
+ * {@code invalidateAll} does not reach computations still running, so every invalidation also moves
+ * a generation counter on. An entry remembers the generation it started computing in; one that was
+ * overtaken is dropped, and never served to a request made after the invalidation.
+ * <p>
+ * The recording node drops its own entries on the recording thread, so a client reads its write. Only
+ * the publish to the other nodes is handed to the task executor.
+ */
+@Slf4j
+@Component
+public class ReportCache implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "Report:invalidate";
+
+	static final String RECENT_MATCHES = "recent-matches";
+	static final String BEST_PLAYERS = "best-players";
+	static final String TOP_RATED_PLAYERS = "top-rated-players";
+	static final String POPULAR_SERVERS = "popular-servers";
+	// Marks the arguments of a paged report, which is cached apart from the unpaged one
+	private static final String PAGE = "page";
+
+	private final ReportService reportService;
+	private final ObjectMapper objectMapper;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Executor applicationTaskExecutor;
+	private final Cache<ReportKey, Report> reports;
+	private final AtomicLong generation = new AtomicLong();
+
+	public ReportCache(ReportService reportService,
+					   ObjectMapper objectMapper,
+					   StringRedisTemplate stringRedisTemplate,
+					   MeterRegistry meterRegistry,
+					   Executor applicationTaskExecutor,
+					   @Value("${report.cache.max-size}") DataSize maxSize) {
+		this.reportService = reportService;
+		this.objectMapper = objectMapper;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.applicationTaskExecutor = applicationTaskExecutor;
+		this.reports = Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.<ReportKey, Report>weigher((key, report) -> report.json().length)
+				.recordStats()
+				.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, reports, "reports");
+	}
+
+	public byte[] getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before) {
+		return get(new ReportKey(RECENT_MATCHES, Arrays.asList(count, since, before)),
+				() -> reportService.getRecentMatches(count, since, before));
+	}
+
+	public byte[] getRecentMatches(Integer limit, String cursor, LocalDateTime since, LocalDateTime before) {
+		return get(new ReportKey(RECENT_MATCHES, Arrays.asList(PAGE, limit, cursor, since, before)),
+				() -> reportService.getRecentMatches(limit, cursor, since, before));
+	}
+
+	public byte[] getBestPlayers(Integer count) {
+		return get(new ReportKey(BEST_PLAYERS, Arrays.asList(count)), () -> reportService.getBestPlayers(count));
+	}
+
+	public byte[] getBestPlayers(Integer limit, String cursor) {
+		return get(new ReportKey(BEST_PLAYERS, Arrays.asList(PAGE, limit, cursor)), () -> reportService.getBestPlayers(limit, cursor));
+	}
+
+	public byte[] getTopRatedPlayers(Integer count) {
+		return get(new ReportKey(TOP_RATED_PLAYERS, Arrays.asList(count)), () -> reportService.getTopRatedPlayers(count));
+	}
+
+	public byte[] getTopRatedPlayers(Integer limit, String cursor) {
+		return get(new ReportKey(TOP_RATED_PLAYERS, Arrays.asList(PAGE, limit, cursor)), () -> reportService.getTopRatedPlayers(limit, cursor));
+	}
+
+	public byte[] getPopularServers(Integer count, TimeWindow window) {
+		return get(new ReportKey(POPULAR_SERVERS, Arrays.asList(count, window, ServerRankingRepository.currentBucket(window))),
+				() -> reportService.getPopularServers(count, window));
+	}
+
+	public byte[] getPopularServers(Integer limit, String cursor, TimeWindow window) {
+		return get(new ReportKey(POPULAR_SERVERS, Arrays.asList(PAGE, limit, cursor, window, ServerRankingRepository.currentBucket(window))),
+				() -> reportService.getPopularServers(limit, cursor, window));
+	}
+
+	/**
+	 * Drops every cached report here and on every other node.
+	 */
+	@EventListener
+	public void onMatchesRecorded(MatchesRecordedEvent event) {
+		invalidateAll();
+
+		applicationTaskExecutor.execute(() -> {
+			try {
+				stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, "");
+			}
+			catch (DataAccessException e) {
+				// The matches are stored; other nodes serve their cached reports until the next match
+				log.warn("Could not publish the report invalidation for {} recorded matches", event.matches().size(), e);
+			}
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		invalidateAll();
+	}
+
+	private void invalidateAll() {
+		generation.incrementAndGet();
+		reports.invalidateAll();
+	}
+
+	private byte[] get(ReportKey key, Supplier<?> report) {
+		// Anything invalidated before the request must not be served to it
+		long requested = generation.get();
+
+		while (true) {
+			// Failed computations, such as an invalid count, are not cached
+			Report cached = reports.get(key, missing -> new Report(generation.get(), recompute(missing.report(), report)));
+
+			if (cached.generation() != generation.get()) {
+				// Computed across an invalidation, which left it in the cache
+				reports.asMap().remove(key, cached);
+			}
+			if (cached.generation() >= requested) {
+				return cached.json();
+			}
+		}
+	}
+
+	private byte[] recompute(String name, Supplier<?> report) {
+		Timer timer = Timer.builder("reports.recompute")
+				.description("Time to compute and serialize a report on a cache miss")
+				.tag("report", name)
+				.register(meterRegistry);
+
+		return timer.record(() -> {
+			try {
+				return objectMapper.writeValueAsBytes(report.get());
+			}
+			catch (JsonProcessingException e) {
+				throw new IllegalStateException("Could not serialize the " + name + " report", e);
+			}
+		});
+	}
+
+	private record ReportKey(String report, List<Object> arguments) {
+	}
+
+	/**
+	 * A report as JSON and the invalidation generation its computation started in.
+	 */
+	private record Report(long generation, byte[] json) {
+	}
+}
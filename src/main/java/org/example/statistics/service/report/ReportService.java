@@ -3,13 +3,29 @@ package org.example.statistics.service.report;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
+import org.example.statistics.dto.page.PageDto;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.service.match.MatchListingWriter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReportService {
-	List<Match> getRecentMatches(Integer count);
+	List<Match> getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before);
+
+	PageDto<Match> getRecentMatches(Integer limit, String cursor, LocalDateTime since, LocalDateTime before);
+
+	MatchListingWriter.Listing streamRecentMatches(Integer count, LocalDateTime since, LocalDateTime before);
 
 	List<Player> getBestPlayers(Integer count);
 
-	List<Server> getPopularServers(Integer count);
+	PageDto<Player> getBestPlayers(Integer limit, String cursor);
+
+	List<Player> getTopRatedPlayers(Integer count);
+
+	PageDto<Player> getTopRatedPlayers(Integer limit, String cursor);
+
+	List<Server> getPopularServers(Integer count, TimeWindow window);
+
+	PageDto<Server> getPopularServers(Integer limit, String cursor, TimeWindow window);
 }
@@ -1,50 +1,169 @@
 package org.example.statistics.service.report;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
+import org.example.statistics.dto.page.PageDto;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.repository.LeaderboardRepository;
+import org.example.statistics.repository.MatchIndexRepository;
 import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRatingRepository;
 import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRankingRepository;
 import org.example.statistics.repository.ServerRepository;
-import org.example.statistics.utils.HelperUtils;
+import org.example.statistics.service.match.MatchListingWriter;
+import org.example.statistics.utils.PageCursor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.StreamSupport;
-
-import static org.example.statistics.utils.HelperUtils.getServerMatchCount;
+import java.util.function.Function;
 
+/**
+ * Reports are read from the indexes as ranges, so a page costs the same however long the history is. Ranking
+ * pages continue at an offset and may repeat or skip an entry when the ranking changes between them; recent
+ * match pages continue after the last match returned.
+ */
+@Timed("service")
 @Service
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
 
 	private final MatchRepository matchRepository;
+	private final MatchIndexRepository matchIndexRepository;
 	private final PlayerRepository playerRepository;
 	private final ServerRepository serverRepository;
+	private final LeaderboardRepository leaderboardRepository;
+	private final PlayerRatingRepository playerRatingRepository;
+	private final ServerRankingRepository serverRankingRepository;
+	private final MatchListingWriter matchListingWriter;
+
+	@Value("${pagination.default-limit}")
+	private int defaultLimit;
+
+	@Value("${pagination.max-limit}")
+	private int maxLimit;
+
+	@Value("${pagination.unpaged.max-size}")
+	private int unpagedMaxSize;
+
+	@Override
+	public List<Match> getRecentMatches(Integer count, LocalDateTime since, LocalDateTime before) {
+		validateCount(count);
+		return matchRepository.findAllByIdPipelined(matchIndexRepository.findRecentIds(count, since, before));
+	}
 
+	/**
+	 * A page of recent matches, newest first. {@code before} only bounds the first page; later ones continue
+	 * after the last match of the previous page.
+	 */
 	@Override
-	public List<Match> getRecentMatches(Integer count) {
-		return StreamSupport.stream(matchRepository.findAll().spliterator(), false)
-				.sorted(Comparator.comparing(Match::getTimestamp).reversed())
-				.limit(count)
-				.toList();
+	public PageDto<Match> getRecentMatches(Integer limit, String cursor, LocalDateTime since, LocalDateTime before) {
+		int pageSize = pageSize(limit);
+
+		// One extra id tells whether another page exists
+		List<String> ids = cursor == null
+				? matchIndexRepository.findRecentIds(pageSize + 1, since, before)
+				: matchIndexRepository.findRecentIdsAfter(PageCursor.decode(cursor), pageSize + 1, since);
+		if (ids == null) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+
+		List<String> page = ids.subList(0, Math.min(pageSize, ids.size()));
+		String nextCursor = ids.size() > pageSize ? PageCursor.encode(page.getLast()) : null;
+
+		return new PageDto<>(matchRepository.findAllByIdPipelined(page), nextCursor);
+	}
+
+	/**
+	 * The newest {@code count} matches, or the whole timeline within the bounds when it is {@code null},
+	 * as newline-delimited JSON without the unpaged cap. {@code count} is checked here rather than once the
+	 * listing is written, when the response has already started. Matches trimmed from the timeline while
+	 * it is written end the listing early.
+	 */
+	@Override
+	public MatchListingWriter.Listing streamRecentMatches(Integer count, LocalDateTime since, LocalDateTime before) {
+		if (count != null && count < 0) {
+			throw new IllegalArgumentException("count must not be negative");
+		}
+
+		return matchListingWriter.listing(count == null ? Long.MAX_VALUE : count, (afterId, chunkSize) -> afterId == null
+				? matchIndexRepository.findRecentIds(chunkSize, since, before)
+				: matchIndexRepository.findRecentIdsAfter(afterId, chunkSize, since));
 	}
 
 	@Override
 	public List<Player> getBestPlayers(Integer count) {
-		return StreamSupport.stream(playerRepository.findAll().spliterator(), false)
-				.sorted(Comparator.comparingInt(Player::getTotalScore).reversed())
-				.limit(count)
-				.toList();
+		validateCount(count);
+		return playerRepository.findAllByIdPipelined(leaderboardRepository.findTopPlayerNames(count));
 	}
 
 	@Override
-	public List<Server> getPopularServers(Integer count) {
-		return StreamSupport.stream(serverRepository.findAll().spliterator(), false)
-				.sorted(Comparator.comparingInt(HelperUtils::getServerMatchCount).reversed())
-				.limit(count)
-				.toList();
+	public PageDto<Player> getBestPlayers(Integer limit, String cursor) {
+		return rankingPage(limit, cursor, leaderboardRepository::findTopPlayerNames, playerRepository::findAllByIdPipelined);
+	}
+
+	@Override
+	public List<Player> getTopRatedPlayers(Integer count) {
+		validateCount(count);
+		return playerRepository.findAllByIdPipelined(playerRatingRepository.findTopPlayerNames(count));
+	}
+
+	@Override
+	public PageDto<Player> getTopRatedPlayers(Integer limit, String cursor) {
+		return rankingPage(limit, cursor, playerRatingRepository::findTopPlayerNames, playerRepository::findAllByIdPipelined);
+	}
+
+	@Override
+	public List<Server> getPopularServers(Integer count, TimeWindow window) {
+		validateCount(count);
+		return serverRepository.findAllByIdPipelined(serverRankingRepository.findTopServerEndpoints(count, window));
+	}
+
+	@Override
+	public PageDto<Server> getPopularServers(Integer limit, String cursor, TimeWindow window) {
+		return rankingPage(limit, cursor,
+				(offset, count) -> serverRankingRepository.findTopServerEndpoints(offset, count, window),
+				serverRepository::findAllByIdPipelined);
+	}
+
+	/**
+	 * Reads the page of a ranking that starts at the offset in {@code cursor}.
+	 */
+	private <T> PageDto<T> rankingPage(Integer limit, String cursor, RankingRange ranking, Function<List<String>, List<T>> load) {
+		int pageSize = pageSize(limit);
+		long offset = cursor == null ? 0 : PageCursor.decodeLong(cursor);
+
+		List<String> ids = ranking.find(offset, pageSize + 1);
+		List<String> page = ids.subList(0, Math.min(pageSize, ids.size()));
+		String nextCursor = ids.size() > pageSize ? PageCursor.encode(offset + pageSize) : null;
+
+		return new PageDto<>(load.apply(page), nextCursor);
+	}
+
+	private void validateCount(Integer count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("count must not be negative");
+		}
+		if (count > unpagedMaxSize) {
+			throw new IllegalArgumentException("count must not exceed " + unpagedMaxSize + "; request larger reports in pages with limit and cursor");
+		}
+	}
+
+	private int pageSize(Integer limit) {
+		if (limit != null && limit <= 0) {
+			throw new IllegalArgumentException("limit must be positive");
+		}
+
+		return limit == null ? defaultLimit : Math.min(limit, maxLimit);
+	}
+
+	@FunctionalInterface
+	private interface RankingRange {
+		List<String> find(long offset, int count);
 	}
 }
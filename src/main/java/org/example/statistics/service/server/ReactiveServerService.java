@@ -0,0 +1,24 @@
+package org.example.statistics.service.server;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveServerService {
+	Flux<Server> getServers();
+
+	Mono<Server> getServer(String endpoint);
+
+	Flux<Match> getMatches(String endpoint, String timestamp);
+
+	Mono<ServerStatsDto> getStats(String endpoint, TimeWindow window);
+
+	Mono<ServerTimeSeriesDto> getTimeSeries(String endpoint, LocalDateTime from, LocalDateTime to, TimeStep step);
+}
@@ -0,0 +1,58 @@
+package org.example.statistics.service.server;
+
+import lombok.RequiredArgsConstructor;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.exception.EntityNotFoundException;
+import org.example.statistics.repository.ReactiveIndexRepository;
+import org.example.statistics.repository.ReactiveRedisBatchReader;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveServerServiceImpl implements ReactiveServerService {
+
+	private final ReactiveRedisBatchReader reactiveRedisBatchReader;
+	private final ReactiveIndexRepository reactiveIndexRepository;
+	private final ServerService serverService;
+
+	@Override
+	public Flux<Server> getServers() {
+		return reactiveRedisBatchReader.findAll(Server.class);
+	}
+
+	@Override
+	public Mono<Server> getServer(String endpoint) {
+		return reactiveRedisBatchReader.findById(Server.class, endpoint)
+				.switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Server with endpoint " + endpoint + " not found")));
+	}
+
+	@Override
+	public Flux<Match> getMatches(String endpoint, String timestamp) {
+		return reactiveRedisBatchReader.findAllById(Match.class, reactiveIndexRepository.findIdsByServerAndDay(endpoint, timestamp));
+	}
+
+	/**
+	 * Sketches are merged by the blocking {@link ServerService}, off the event loop.
+	 */
+	@Override
+	public Mono<ServerStatsDto> getStats(String endpoint, TimeWindow window) {
+		return Mono.fromCallable(() -> serverService.getStats(endpoint, window))
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	@Override
+	public Mono<ServerTimeSeriesDto> getTimeSeries(String endpoint, LocalDateTime from, LocalDateTime to, TimeStep step) {
+		return Mono.fromCallable(() -> serverService.getTimeSeries(endpoint, from, to, step))
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+}
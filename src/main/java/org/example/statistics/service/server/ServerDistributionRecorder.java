@@ -0,0 +1,118 @@
+package org.example.statistics.service.server;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.MatchesRecordedEvent;
+import org.example.statistics.domain.ServerDistribution;
+import org.example.statistics.repository.ServerDistributionRepository;
+import org.example.statistics.repository.ServerDistributionRepository.Pending;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+/**
+ * Adds every match recorded on this node to the score distribution sketches of its server.
+ * <p>
+ * Matches are collected in memory and merged into Redis by {@link #flush()}, so a busy server costs
+ * one sketch update per flush rather than one per match. Matches of the last flush interval are
+ * lost if the node dies.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServerDistributionRecorder {
+
+	private final ServerDistributionRepository serverDistributionRepository;
+
+	// Recorders share the read lock; only swapping the pending sketches out takes the write lock
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	// Two flushes at once would both read, merge and overwrite this node's share of the same sketch
+	private final Lock flushLock = new ReentrantLock();
+	private Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+	@EventListener
+	public void onMatchesRecorded(MatchesRecordedEvent event) {
+		record(event.matches());
+	}
+
+	public void record(Collection<Match> matches) {
+		long now = toEpochMilli(LocalDateTime.now());
+
+		lock.readLock().lock();
+		try {
+			for (Match match : matches) {
+				ServerDistributionRepository.sketchExpiries(match, now).forEach((key, expiresAt) ->
+						pending.compute(key, (k, sketch) -> {
+							sketch = sketch == null ? new Pending(new ServerDistribution(), expiresAt) : sketch;
+							sketch.distribution().add(match);
+							return sketch;
+						}));
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${stats.sketch.flush-interval}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			Map<String, Pending> flushed;
+
+			lock.writeLock().lock();
+			try {
+				flushed = pending;
+				pending = new ConcurrentHashMap<>();
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+
+			try {
+				serverDistributionRepository.mergeAll(flushed);
+			}
+			catch (DataAccessException e) {
+				log.warn("Could not flush {} server distribution sketches, retrying with the next flush", flushed.size(), e);
+				retry(flushed);
+			}
+		}
+		finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void retry(Map<String, Pending> flushed) {
+		long now = toEpochMilli(LocalDateTime.now());
+
+		lock.readLock().lock();
+		try {
+			flushed.forEach((key, sketch) -> {
+				if (sketch.expiresAt() == 0 || sketch.expiresAt() > now) {
+					pending.merge(key, sketch, (current, failed) -> {
+						current.distribution().add(failed.distribution());
+						return current;
+					});
+				}
+			});
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+}
@@ -2,16 +2,31 @@ package org.example.statistics.service.server;
 
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Server;
+import org.example.statistics.dto.page.PageDto;
 import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ServerService {
 	List<Server> getServers();
 
+	PageDto<Server> getServers(Integer limit, String cursor);
+
 	Server getServer(String endpoint);
 
 	List<Match>  getMatches(String endpoint, String timestamp);
 
-	ServerStatsDto getStats(String endpoint);
+	PageDto<Match> getMatches(String endpoint, String timestamp, Integer limit, String cursor);
+
+	void streamMatches(String endpoint, String timestamp, OutputStream out) throws IOException;
+
+	ServerStatsDto getStats(String endpoint, TimeWindow window);
+
+	ServerTimeSeriesDto getTimeSeries(String endpoint, LocalDateTime from, LocalDateTime to, TimeStep step);
 }
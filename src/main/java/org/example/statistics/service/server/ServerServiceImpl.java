@@ -1,35 +1,105 @@
 package org.example.statistics.service.server;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Server;
+import org.example.statistics.domain.ServerDistribution;
+import org.example.statistics.dto.page.PageDto;
 import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.TimeStep;
+import org.example.statistics.enums.TimeWindow;
 import org.example.statistics.exception.EntityNotFoundException;
 import org.example.statistics.mapper.server.ServerMapper;
+import org.example.statistics.repository.MatchIndexRepository;
 import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.RedisBatchReader;
+import org.example.statistics.repository.ServerDistributionRepository;
+import org.example.statistics.repository.ServerPlayersRepository;
+import org.example.statistics.repository.ServerRankingRepository;
 import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.repository.ServerTimeSeriesRepository;
+import org.example.statistics.service.match.MatchListingWriter;
+import org.example.statistics.utils.PageCursor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static org.example.statistics.utils.HelperUtils.toEpochMilli;
+
+@Timed("service")
 @Service
 @RequiredArgsConstructor
 public class ServerServiceImpl implements ServerService {
 
 	private final ServerRepository serverRepository;
 	private final MatchRepository matchRepository;
+	private final MatchIndexRepository matchIndexRepository;
+	private final ServerRankingRepository serverRankingRepository;
+	private final ServerDistributionRepository serverDistributionRepository;
+	private final ServerPlayersRepository serverPlayersRepository;
+	private final ServerTimeSeriesRepository serverTimeSeriesRepository;
+	private final RedisBatchReader redisBatchReader;
+	private final MatchListingWriter matchListingWriter;
 	private final ServerMapper serverMapper;
 
+	@Value("${stats.series.default-points}")
+	private int defaultPoints;
+
+	@Value("${stats.series.max-points}")
+	private int maxPoints;
+
+	@Value("${pagination.default-limit}")
+	private int defaultLimit;
+
+	@Value("${pagination.max-limit}")
+	private int maxLimit;
+
+	@Value("${pagination.unpaged.max-size}")
+	private int unpagedMaxSize;
+
+	/**
+	 * Every server at once, as long as there are at most {@code pagination.unpaged.max-size} of them.
+	 */
 	@Override
 	public List<Server> getServers() {
+		long count = serverRepository.count();
+		if (count > unpagedMaxSize) {
+			throw new IllegalArgumentException("There are " + count + " servers; request them in pages with limit and cursor");
+		}
+
 		return StreamSupport
 				.stream(serverRepository.findAll().spliterator(), false)
 				.toList();
 	}
 
+	/**
+	 * A page of about {@code limit} servers in no particular order, read with {@code SSCAN}. A server added or
+	 * removed while the pages are walked may be missed or returned twice.
+	 */
+	@Override
+	public PageDto<Server> getServers(Integer limit, String cursor) {
+		int pageSize = pageSize(limit);
+		String scanCursor = cursor == null ? "0" : PageCursor.decode(cursor);
+
+		if (!scanCursor.matches("\\d+")) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+
+		RedisBatchReader.IdPage page = redisBatchReader.scanIds(Server.class, scanCursor, pageSize);
+		String nextCursor = "0".equals(page.cursor()) ? null : PageCursor.encode(page.cursor());
+
+		return new PageDto<>(serverRepository.findAllByIdPipelined(page.ids()), nextCursor);
+	}
+
 	@Override
 	public Server getServer(String endpoint) {
 		Optional<Server> optionalServer = serverRepository.findById(endpoint);
@@ -41,23 +111,112 @@ public class ServerServiceImpl implements ServerService {
 		return optionalServer.get();
 	}
 
+	/**
+	 * Every match of {@code endpoint} on a day at once, as long as there are at most
+	 * {@code pagination.unpaged.max-size} of them.
+	 */
 	@Override
 	public List<Match> getMatches(String endpoint, String timestamp) {
-		return StreamSupport
-				.stream(matchRepository.findAll().spliterator(), false)
-				.filter(m -> m.getServerEndpoint().equals(endpoint)
-						&& m.getTimestamp().toLocalDate().toString().equals(timestamp))
-				.collect(Collectors.toList());
+		long count = matchIndexRepository.countByServerAndDay(endpoint, timestamp);
+		if (count > unpagedMaxSize) {
+			throw new IllegalArgumentException("There are " + count + " matches; request them in pages with limit and cursor");
+		}
+
+		List<String> matchIds = matchIndexRepository.findIdsByServerAndDay(endpoint, timestamp);
+		return matchRepository.findAllByIdPipelined(matchIds);
 	}
 
+	/**
+	 * A page of the matches of {@code endpoint} on a day, oldest first. The cursor is the id of the last match
+	 * of the previous page, so matches recorded meanwhile do not shift the pages.
+	 */
 	@Override
-	public ServerStatsDto getStats(String endpoint) {
+	public PageDto<Match> getMatches(String endpoint, String timestamp, Integer limit, String cursor) {
+		int pageSize = pageSize(limit);
+		String afterId = cursor == null ? null : PageCursor.decode(cursor);
+
+		// One extra id tells whether another page exists
+		List<String> matchIds = matchIndexRepository.findIdsByServerAndDay(endpoint, timestamp, afterId, pageSize + 1);
+		if (matchIds == null) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+
+		List<String> page = matchIds.subList(0, Math.min(pageSize, matchIds.size()));
+		String nextCursor = matchIds.size() > pageSize ? PageCursor.encode(page.getLast()) : null;
+
+		return new PageDto<>(matchRepository.findAllByIdPipelined(page), nextCursor);
+	}
+
+	/**
+	 * Writes every match of {@code endpoint} on a day to {@code out} as newline-delimited JSON, oldest first,
+	 * without the unpaged cap: only one chunk of matches is held at a time.
+	 */
+	@Override
+	public void streamMatches(String endpoint, String timestamp, OutputStream out) throws IOException {
+		matchListingWriter.write(out, Long.MAX_VALUE,
+				(afterId, count) -> matchIndexRepository.findIdsByServerAndDay(endpoint, timestamp, afterId, count));
+	}
+
+	/**
+	 * Match count, distinct players and distributions of the matches played in {@code window}. The match rate leaves out
+	 * the bucket, or for {@link TimeWindow#ALL} the day, that is still being filled.
+	 */
+	@Override
+	public ServerStatsDto getStats(String endpoint, TimeWindow window) {
 		Optional<Server> optionalServer = serverRepository.findById(endpoint);
 
 		if (optionalServer.isEmpty()) {
 			throw new EntityNotFoundException("Server with endpoint " + endpoint + " not found");
 		}
 
-		return serverMapper.toServerStatsDto(optionalServer.get());
+		ServerDistribution distribution = serverDistributionRepository.find(endpoint, window);
+		int matchCount;
+
+		if (window == TimeWindow.ALL) {
+			matchCount = serverRankingRepository.getMatchCount(endpoint);
+			distribution.addMatchCounts(matchIndexRepository.countServerMatchesByDay(endpoint), ChronoUnit.DAYS);
+		}
+		else {
+			List<Integer> bucketCounts = serverRankingRepository.getBucketCounts(endpoint, window);
+			matchCount = bucketCounts.stream().mapToInt(Integer::intValue).sum();
+			distribution.addMatchCounts(bucketCounts.subList(0, bucketCounts.size() - 1), window.getBucketUnit());
+		}
+
+		long uniquePlayers = serverPlayersRepository.countPlayers(endpoint, window);
+		return serverMapper.toServerStatsDto(optionalServer.get(), matchCount, uniquePlayers, window, distribution);
+	}
+
+	/**
+	 * Activity of {@code endpoint} per {@code step} from {@code from} to {@code to}, by default the last
+	 * {@code stats.series.default-points} steps up to now. At most {@code stats.series.max-points} points
+	 * are read, so the cost does not depend on how much history the server has.
+	 */
+	@Override
+	public ServerTimeSeriesDto getTimeSeries(String endpoint, LocalDateTime from, LocalDateTime to, TimeStep step) {
+		if (!serverRepository.existsById(endpoint)) {
+			throw new EntityNotFoundException("Server with endpoint " + endpoint + " not found");
+		}
+
+		LocalDateTime end = to == null ? LocalDateTime.now() : to;
+		LocalDateTime start = from == null ? end.minus(defaultPoints - 1L, step.getUnit()) : from;
+
+		if (start.isAfter(end)) {
+			throw new IllegalArgumentException("from must not be after to");
+		}
+
+		long points = Math.floorDiv(toEpochMilli(end), step.getMillis()) - Math.floorDiv(toEpochMilli(start), step.getMillis()) + 1;
+		if (points > maxPoints) {
+			throw new IllegalArgumentException("At most " + maxPoints + " points can be requested at once");
+		}
+
+		return new ServerTimeSeriesDto(endpoint, step, serverTimeSeriesRepository.find(endpoint, step, start, end));
+	}
+
+	private int pageSize(Integer limit) {
+		if (limit != null && limit <= 0) {
+			throw new IllegalArgumentException("limit must be positive");
+		}
+
+		return limit == null ? defaultLimit : Math.min(limit, maxLimit);
 	}
 }
@@ -1,12 +1,14 @@
 package org.example.statistics.utils;
 
-import org.example.statistics.domain.Server;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 @Component
 public class HelperUtils {
 
-	public static int getServerMatchCount(Server server) {
-		return server.getMatchIds() != null ? server.getMatchIds().size() : 0;
+	public static long toEpochMilli(LocalDateTime timestamp) {
+		return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
 	}
 }
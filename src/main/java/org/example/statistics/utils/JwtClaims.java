@@ -0,0 +1,9 @@
+package org.example.statistics.utils;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiry have been verified.
+ */
+public record JwtClaims(String username, String role, String sessionId, Instant expiresAt) {
+}
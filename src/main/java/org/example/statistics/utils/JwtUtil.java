@@ -1,11 +1,24 @@
 package org.example.statistics.utils;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -14,6 +27,20 @@ public class JwtUtil {
 	private final Algorithm algorithm = Algorithm.HMAC256(SECRET);
 	private final long EXPIRATION_TIME = 1000 * 60 * 60;
 
+	private final JWTVerifier verifier = JWT.require(algorithm).build();
+
+	/**
+	 * Recently verified tokens keyed by their SHA-256, each dropped when the token expires.
+	 */
+	private final Cache<String, JwtClaims> verifiedTokens;
+
+	public JwtUtil(@Value("${jwt.cache.max-size}") long cacheMaxSize) {
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfter(new TokenExpiry())
+				.build();
+	}
+
 	public String generateToken(String username, String role, String sessionId) {
 		return JWT.create()
 				.withSubject(username)
@@ -24,32 +51,65 @@ public class JwtUtil {
 				.sign(algorithm);
 	}
 
-	public DecodedJWT decode(String token) {
-		return JWT.require(algorithm).build().verify(token);
-	}
+	/**
+	 * Verifies the signature and expiry of {@code token} and returns its claims,
+	 * or an empty result if the token is invalid or expired.
+	 */
+	public Optional<JwtClaims> verify(String token) {
+		String key = sha256(token);
+		JwtClaims cached = verifiedTokens.getIfPresent(key);
 
-	public boolean isTokenValid(String token) {
+		if (cached != null) {
+			return cached.expiresAt().isAfter(Instant.now()) ? Optional.of(cached) : Optional.empty();
+		}
+
+		DecodedJWT decoded;
 		try {
-			return !isExpired(token);
-		} catch (Exception e) {
-			return false;
+			decoded = verifier.verify(token);
+		}
+		catch (JWTVerificationException e) {
+			return Optional.empty();
 		}
-	}
 
-	public String extractUsername(String token) {
-		return decode(token).getSubject();
-	}
+		if (decoded.getExpiresAtAsInstant() == null) {
+			return Optional.empty();
+		}
 
-	public String extractRole(String token) {
-		return decode(token).getClaim("role").asString();
-	}
+		JwtClaims claims = new JwtClaims(
+				decoded.getSubject(),
+				decoded.getClaim("role").asString(),
+				decoded.getClaim("sessionId").asString(),
+				decoded.getExpiresAtAsInstant());
 
-	public String extractSessionId(String token) {
-		return decode(token).getClaim("sessionId").asString();
+		verifiedTokens.put(key, claims);
+		return Optional.of(claims);
 	}
 
-	public boolean isExpired(String token) {
-		return decode(token).getExpiresAt().before(new Date());
+	private static String sha256(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
 	}
 
+	private static class TokenExpiry implements Expiry<String, JwtClaims> {
+
+		@Override
+		public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
 }
@@ -0,0 +1,71 @@
+package org.example.statistics.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque page cursors: the position a page ends at, base64url encoded so that clients treat it as a token
+ * rather than build it themselves.
+ */
+public final class PageCursor {
+
+	private PageCursor() {
+	}
+
+	/**
+	 * An entry of a sorted set ordered by score, then member: where a page of it ends.
+	 */
+	public record Position(long score, String member) {
+	}
+
+	public static String encode(String position) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String encode(long position) {
+		return encode(String.valueOf(position));
+	}
+
+	public static String encode(Position position) {
+		return encode(position.score() + ":" + position.member());
+	}
+
+	public static String decode(String cursor) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor", e);
+		}
+	}
+
+	public static long decodeLong(String cursor) {
+		String position = decode(cursor);
+		try {
+			long value = Long.parseLong(position);
+			if (value < 0) {
+				throw new IllegalArgumentException("Invalid cursor");
+			}
+			return value;
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor", e);
+		}
+	}
+
+	public static Position decodePosition(String cursor) {
+		String position = decode(cursor);
+		// The score never contains the separator; the member may
+		int separator = position.indexOf(':');
+		if (separator <= 0) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+
+		try {
+			return new Position(Long.parseLong(position.substring(0, separator)), position.substring(separator + 1));
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor", e);
+		}
+	}
+}
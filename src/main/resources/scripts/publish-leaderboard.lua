@@ -0,0 +1,16 @@
+-- Swaps a staged leaderboard in. Constant time however many players it ranks: scores that matches
+-- recorded during the rebuild changed are caught up afterwards by refresh-leaderboard.lua.
+--
+-- KEYS: 1 staging leaderboard, 2 live leaderboard
+--
+-- Returns 1 when the staging leaderboard was published, 0 when there was none and the live one was dropped.
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	redis.call('RENAME', KEYS[1], KEYS[2])
+	-- The staging key expires with the lock of its run; the live one must not
+	redis.call('PERSIST', KEYS[2])
+	return 1
+end
+
+redis.call('DEL', KEYS[2])
+return 0
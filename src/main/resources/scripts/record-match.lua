@@ -0,0 +1,151 @@
+-- Applies one match atomically: stores the Match hash, adds its id to the server and player day
+-- indexes, updates the player counters and every other index derived from matches.
+--
+-- KEYS: 1 match hash, 2 match keyspace set, 3 server hash, 4 server/day index, 5 server days index,
+--       6 recent index, 7 server ranking, 8 leaderboard, 9 server players HyperLogLog, 10 rating leaderboard,
+--       11 time series minute counters, 12 time series minute players HyperLogLog, 13 time series dirty hours,
+--       then one key per popularity bucket, then one players HyperLogLog per bucket with the same ttls,
+--       then a hash, day index and days index per player.
+-- ARGV: 1 match id, 2 server endpoint, 3 timestamp millis, 4 ISO day, 5 epoch day,
+--       6 recent index max size (0 = unbounded), 7 match field count, 8 bucket count, 9 player count,
+--       10 initial rating, 11 rating k-factor, 12 time series minute expiry in epoch millis (0 = not counted),
+--       13 time series hour, 14 dirty hour entry, then the match field/value pairs, one ttl in millis per bucket
+--       and a name/points/won/score quadruple per player.
+--
+-- Returns 1 when recorded, 0 when the match already exists, -1 for an unknown server, -2 for an unknown player.
+
+local matchId = ARGV[1]
+local endpoint = ARGV[2]
+local timestamp = tonumber(ARGV[3])
+local day = ARGV[4]
+local epochDay = tonumber(ARGV[5])
+local recentMaxSize = tonumber(ARGV[6])
+local fieldCount = tonumber(ARGV[7])
+local bucketCount = tonumber(ARGV[8])
+local playerCount = tonumber(ARGV[9])
+local initialRating = tonumber(ARGV[10])
+local kFactor = tonumber(ARGV[11])
+local seriesExpiresAt = tonumber(ARGV[12])
+
+local fieldsAt = 15
+local ttlsAt = fieldsAt + fieldCount * 2
+local playersAt = ttlsAt + bucketCount
+local bucketKeysAt = 14
+local playerBucketKeysAt = bucketKeysAt + bucketCount
+local playerKeysAt = playerBucketKeysAt + bucketCount
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+
+if redis.call('EXISTS', KEYS[3]) == 0 then
+	return -1
+end
+
+for i = 0, playerCount - 1 do
+	if redis.call('EXISTS', KEYS[playerKeysAt + i * 3]) == 0 then
+		return -2
+	end
+end
+
+local fields = {}
+for i = fieldsAt, ttlsAt - 1 do
+	fields[#fields + 1] = ARGV[i]
+end
+
+if #fields > 0 then
+	redis.call('HMSET', KEYS[1], unpack(fields))
+end
+redis.call('SADD', KEYS[2], matchId)
+
+redis.call('ZADD', KEYS[4], timestamp, matchId)
+redis.call('ZADD', KEYS[5], epochDay, day)
+redis.call('ZADD', KEYS[6], timestamp, matchId)
+if recentMaxSize > 0 then
+	redis.call('ZREMRANGEBYRANK', KEYS[6], 0, -recentMaxSize - 1)
+end
+
+redis.call('ZINCRBY', KEYS[7], 1, endpoint)
+
+local names = {}
+for i = 0, playerCount - 1 do
+	names[#names + 1] = ARGV[playersAt + i * 4]
+end
+redis.call('PFADD', KEYS[9], unpack(names))
+
+for i = 0, bucketCount - 1 do
+	redis.call('ZINCRBY', KEYS[bucketKeysAt + i], 1, endpoint)
+	redis.call('PEXPIRE', KEYS[bucketKeysAt + i], ARGV[ttlsAt + i])
+	redis.call('PFADD', KEYS[playerBucketKeysAt + i], unpack(names))
+	redis.call('PEXPIRE', KEYS[playerBucketKeysAt + i], ARGV[ttlsAt + i])
+end
+
+-- Every rating change is computed from the ratings before this match, as EloRating does
+local ratings = {}
+local scores = {}
+for i = 0, playerCount - 1 do
+	ratings[i] = tonumber(redis.call('HGET', KEYS[playerKeysAt + i * 3], 'rating') or initialRating)
+	scores[i] = tonumber(ARGV[playersAt + i * 4 + 3])
+end
+
+-- Only the minute is counted here; ServerTimeSeriesRepository folds dirty hours into hours and days
+if seriesExpiresAt > 0 then
+	local matchScore = 0
+	for i = 0, playerCount - 1 do
+		matchScore = matchScore + scores[i]
+	end
+
+	redis.call('HINCRBY', KEYS[11], 'matches', 1)
+	redis.call('HINCRBY', KEYS[11], 'score', matchScore)
+	redis.call('PEXPIREAT', KEYS[11], seriesExpiresAt)
+	redis.call('PFADD', KEYS[12], unpack(names))
+	redis.call('PEXPIREAT', KEYS[12], seriesExpiresAt)
+	redis.call('ZADD', KEYS[13], ARGV[13], ARGV[14])
+end
+
+for i = 0, playerCount - 1 do
+	local key = KEYS[playerKeysAt + i * 3]
+	local name = ARGV[playersAt + i * 4]
+	local points = tonumber(ARGV[playersAt + i * 4 + 1])
+	local won = tonumber(ARGV[playersAt + i * 4 + 2])
+
+	-- Hashes written before the exact counters existed derive them from the rounded rate once
+	local played = tonumber(redis.call('HGET', key, 'matchesPlayed') or '0')
+	local wins = redis.call('HGET', key, 'wins') or redis.call('HGET', key, '_wins')
+	if not wins then
+		local rate = tonumber(redis.call('HGET', key, 'winRate') or '0')
+		wins = math.floor(rate * played / 100 + 0.5)
+	end
+	wins = tonumber(wins)
+	local losses = tonumber(redis.call('HGET', key, 'losses') or (played - wins))
+
+	local rating = ratings[i]
+	if playerCount > 1 then
+		local change = 0
+		for j = 0, playerCount - 1 do
+			if j ~= i then
+				local actual = 0
+				if scores[i] > scores[j] then
+					actual = 1
+				elseif scores[i] == scores[j] then
+					actual = 0.5
+				end
+				change = change + actual - 1 / (1 + 10 ^ ((ratings[j] - ratings[i]) / 400))
+			end
+		end
+		rating = rating + kFactor * change / (playerCount - 1)
+	end
+
+	redis.call('ZADD', KEYS[playerKeysAt + i * 3 + 1], timestamp, matchId)
+	redis.call('ZADD', KEYS[playerKeysAt + i * 3 + 2], epochDay, day)
+	played = redis.call('HINCRBY', key, 'matchesPlayed', 1)
+	local total = redis.call('HINCRBY', key, 'totalScore', points)
+	wins = wins + won
+	losses = losses + 1 - won
+	redis.call('HMSET', key, 'wins', wins, 'losses', losses, 'winRate', math.floor(wins * 100 / played + 0.5), 'rating', rating)
+	redis.call('HDEL', key, '_wins')
+	redis.call('ZADD', KEYS[8], total, name)
+	redis.call('ZADD', KEYS[10], rating, name)
+end
+
+return 1
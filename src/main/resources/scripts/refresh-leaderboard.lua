@@ -0,0 +1,26 @@
+-- Scores a batch of players on the live leaderboard with the totalScore in their hash. Hash and
+-- leaderboard are read and written together, so a score can only be replaced by a newer one.
+--
+-- KEYS: 1 live leaderboard, then one player hash per name
+-- ARGV: the player names, in the order of their hashes
+--
+-- Returns the number of scores that changed.
+
+local refreshed = 0
+
+for i, name in ipairs(ARGV) do
+	local total = redis.call('HGET', KEYS[i + 1], 'totalScore')
+	local ranked = redis.call('ZSCORE', KEYS[1], name)
+
+	if not total then
+		if ranked then
+			redis.call('ZREM', KEYS[1], name)
+			refreshed = refreshed + 1
+		end
+	elseif not ranked or tonumber(ranked) ~= tonumber(total) then
+		redis.call('ZADD', KEYS[1], total, name)
+		refreshed = refreshed + 1
+	end
+end
+
+return refreshed
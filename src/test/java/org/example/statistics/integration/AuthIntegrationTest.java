@@ -17,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -142,6 +143,40 @@ class AuthIntegrationTest {
 				.andExpect(status().isForbidden());
 	}
 
+	@Test
+	void login_Again_InvalidatesPreviousToken() throws Exception {
+		// Given
+		createUser("admin", "password123", UserType.ADMIN);
+		String firstToken = login("admin", "password123");
+		mockMvc.perform(get("/servers/info")
+						.header("Authorization", "Bearer " + firstToken))
+				.andExpect(status().isOk());
+
+		// When
+		String secondToken = login("admin", "password123");
+
+		// Then
+		mockMvc.perform(get("/servers/info")
+						.header("Authorization", "Bearer " + firstToken))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/servers/info")
+						.header("Authorization", "Bearer " + secondToken))
+				.andExpect(status().isOk());
+		assertThat(sessionRepository.findAllByUserName("admin")).hasSize(1);
+	}
+
+	private String login(String username, String password) throws Exception {
+		String response = mockMvc.perform(post("/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new LoginRequestDto(username, password))))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		return objectMapper.readTree(response).get("token").asText();
+	}
+
 	private User createUser(String username, String password, UserType userType) {
 		User user = User.builder()
 				.userName(username)
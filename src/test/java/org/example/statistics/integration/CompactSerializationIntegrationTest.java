@@ -0,0 +1,84 @@
+package org.example.statistics.integration;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Server;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CompactSerializationIntegrationTest {
+
+	private static final String MATCH_ID = "compact-serialization-test";
+	private static final String ENDPOINT = "compact-serialization-test:27015";
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private ServerRepository serverRepository;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@AfterEach
+	void tearDown() {
+		matchRepository.deleteById(MATCH_ID);
+		serverRepository.deleteById(ENDPOINT);
+	}
+
+	@Test
+	void save_shouldStoreMatchesAndServersAsASingleCompactField() {
+		// Arrange
+		Match match = Match.builder()
+				.id(MATCH_ID)
+				.serverEndpoint(ENDPOINT)
+				.timestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 5))
+				.playerScores(Map.of("PlayerOne", 120, "PlayerTwo", 95))
+				.build();
+		Server server = new Server(ENDPOINT, "Compact Test", "EU", 4.5);
+
+		// Act
+		matchRepository.save(match);
+		serverRepository.save(server);
+
+		// Assert
+		assertThat(stringRedisTemplate.opsForHash().keys("Match:" + MATCH_ID)).containsExactly("_raw");
+		assertThat(stringRedisTemplate.opsForHash().keys("Server:" + ENDPOINT)).containsExactly("_raw");
+		assertThat(matchRepository.findById(MATCH_ID)).contains(match);
+		assertThat(serverRepository.findById(ENDPOINT)).contains(server);
+	}
+
+	@Test
+	void findById_shouldReadHashesWrittenInTheLegacyLayout() {
+		// Arrange
+		stringRedisTemplate.opsForHash().putAll("Match:" + MATCH_ID, Map.of(
+				"_class", Match.class.getName(),
+				"id", MATCH_ID,
+				"serverEndpoint", ENDPOINT,
+				"timestamp", "2024-03-01T12:30:05",
+				"playerScores.[PlayerOne]", "120"));
+		stringRedisTemplate.opsForHash().putAll("Server:" + ENDPOINT, Map.of(
+				"_class", Server.class.getName(),
+				"endpoint", ENDPOINT,
+				"name", "Compact Test",
+				"region", "EU",
+				"rating", "4.5"));
+
+		// Act & Assert
+		assertThat(matchRepository.findById(MATCH_ID)).contains(new Match(MATCH_ID, ENDPOINT,
+				LocalDateTime.of(2024, 3, 1, 12, 30, 5), Map.of("PlayerOne", 120)));
+		assertThat(serverRepository.findById(ENDPOINT)).contains(new Server(ENDPOINT, "Compact Test", "EU", 4.5));
+	}
+}
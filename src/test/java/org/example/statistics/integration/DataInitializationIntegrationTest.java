@@ -3,6 +3,7 @@ package org.example.statistics.integration;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
+import org.example.statistics.repository.MatchIndexRepository;
 import org.example.statistics.repository.MatchRepository;
 import org.example.statistics.repository.PlayerRepository;
 import org.example.statistics.repository.ServerRepository;
@@ -28,6 +29,9 @@ class DataInitializationIntegrationTest {
 	@Autowired
 	private MatchRepository matchRepository;
 
+	@Autowired
+	private MatchIndexRepository matchIndexRepository;
+
 	@Autowired
 	private MatchGeneratorJob matchGeneratorJob;
 
@@ -86,13 +90,15 @@ class DataInitializationIntegrationTest {
 
 		Server server = serverRepository.findById(generated.getServerEndpoint()).orElse(null);
 		assertThat(server).isNotNull();
-		assertThat(server.getMatchIds()).contains(generated.getId());
+		assertThat(matchIndexRepository.findIdsByServerAndDay(server.getEndpoint(), generated.getTimestamp().toLocalDate().toString()))
+				.contains(generated.getId());
 
 		List<Player> playersAfter = new ArrayList<>();
 		playerRepository.findAll().forEach(playersAfter::add);
 
 		long playersUpdated = playersAfter.stream()
-				.filter(p -> p.getMatchIds() != null && p.getMatchIds().contains(generated.getId()))
+				.filter(p -> matchIndexRepository.findPlayerMatches(p.getName(), 1).stream()
+						.anyMatch(match -> generated.getId().equals(match.getValue())))
 				.count();
 
 		assertThat(playersUpdated).isEqualTo(2);
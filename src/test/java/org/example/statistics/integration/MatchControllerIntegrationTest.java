@@ -0,0 +1,290 @@
+package org.example.statistics.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.domain.Session;
+import org.example.statistics.domain.TimeSeriesPoint;
+import org.example.statistics.dto.match.MatchBatchResultDto;
+import org.example.statistics.dto.server.ServerTimeSeriesDto;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRankingRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.repository.ServerTimeSeriesRepository;
+import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.service.server.ServerDistributionRecorder;
+import org.example.statistics.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MatchControllerIntegrationTest {
+
+	private static final String ENDPOINT = "ingest-test:9000";
+	private static final List<String> PLAYERS = List.of("IngestOne", "IngestTwo");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private ServerRepository serverRepository;
+
+	@Autowired
+	private SessionRepository sessionRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ServerRankingRepository serverRankingRepository;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private ServerDistributionRecorder serverDistributionRecorder;
+
+	@Autowired
+	private ServerTimeSeriesRepository serverTimeSeriesRepository;
+
+	private final List<String> matchIds = new ArrayList<>();
+	private String token;
+
+	@BeforeEach
+	void setUp() {
+		serverRepository.save(Server.builder().endpoint(ENDPOINT).name("Ingest").region("test").build());
+		PLAYERS.forEach(name -> playerRepository.save(Player.builder().name(name).build()));
+
+		sessionRepository.save(Session.builder().id("IngestAdmin").userName("IngestAdmin").sessionId("ingest").build());
+		token = jwtUtil.generateToken("IngestAdmin", "ADMIN", "ingest");
+	}
+
+	@AfterEach
+	void tearDown() {
+		serverDistributionRecorder.flush();
+		matchRepository.deleteAllById(matchIds);
+		playerRepository.deleteAllById(PLAYERS);
+		serverRepository.deleteById(ENDPOINT);
+		sessionRepository.deleteById("IngestAdmin");
+		stringRedisTemplate.keys("Server:popularity*").forEach(key -> stringRedisTemplate.opsForZSet().remove(key, ENDPOINT));
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:server:" + ENDPOINT + ":*"));
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Server:sketch:" + ENDPOINT + "*"));
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Server:players:" + ENDPOINT + "*"));
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Server:series:" + ENDPOINT + "*"));
+		PLAYERS.forEach(name -> stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:player:" + name + ":*")));
+	}
+
+	@Test
+	void recordBatch_shouldRecordValidMatches_andReportRejectedOnes() throws Exception {
+		// Arrange
+		List<Object> body = new ArrayList<>();
+		for (int i = 0; i < 1200; i++) {
+			body.add(match(ENDPOINT, i % 21, (i + 3) % 21));
+		}
+		body.add(match("unknown:1", 1, 2));
+		body.add(Map.of("id", "broken", "serverEndpoint", ENDPOINT));
+
+		// Act
+		MatchBatchResultDto result = postBatch(MediaType.APPLICATION_JSON, objectMapper.writeValueAsString(body));
+
+		// Assert
+		assertThat(result.getRecorded()).isEqualTo(1200);
+		assertThat(result.getRejected()).isEqualTo(2);
+		assertThat(result.getItems().get(1200).getResult()).isEqualTo(MatchRecordingResult.UNKNOWN_SERVER);
+		assertThat(result.getItems().get(1201).getResult()).isEqualTo(MatchRecordingResult.INVALID);
+		assertThat(result.getItems().get(1201).getId()).isEqualTo("broken");
+
+		assertThat(matchRepository.findAllByIdPipelined(matchIds.subList(0, 1200))).hasSize(1200);
+		assertThat(serverRankingRepository.getMatchCount(ENDPOINT)).isEqualTo(1200);
+		assertThat(PLAYERS).allSatisfy(name ->
+				assertThat(playerRepository.findById(name).orElseThrow().getMatchesPlayed()).isGreaterThanOrEqualTo(1200));
+	}
+
+	@Test
+	void recordStream_shouldRecordEachLine_andTreatRetriesAsDuplicates() throws Exception {
+		// Arrange
+		Map<String, Object> first = match(ENDPOINT, 5, 3);
+		Map<String, Object> second = match(ENDPOINT, 1, 8);
+		String body = objectMapper.writeValueAsString(first) + "\n"
+				+ objectMapper.writeValueAsString(second) + "\n"
+				+ objectMapper.writeValueAsString(first) + "\n";
+
+		// Act
+		MatchBatchResultDto result = postBatch(MediaType.APPLICATION_NDJSON, body);
+
+		// Assert
+		assertThat(result.getRecorded()).isEqualTo(2);
+		assertThat(result.getDuplicates()).isEqualTo(1);
+		assertThat(matchRepository.findById((String) first.get("id")))
+				.map(Match::getServerEndpoint)
+				.contains(ENDPOINT);
+	}
+
+	@Test
+	void stream_shouldPushRecordedMatches_ofTheRequestedServerOnly() throws Exception {
+		// Arrange
+		MvcResult stream = mockMvc.perform(
+						get("/matches/stream")
+								.param("server", ENDPOINT)
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+								.accept(MediaType.TEXT_EVENT_STREAM)
+				)
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		Map<String, Object> recorded = match(ENDPOINT, 7, 2);
+		Map<String, Object> otherServer = match("unknown:1", 1, 2);
+
+		// Act
+		postBatch(MediaType.APPLICATION_JSON, objectMapper.writeValueAsString(List.of(otherServer, recorded)));
+
+		// Assert
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!stream.getResponse().getContentAsString().contains((String) recorded.get("id"))
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		String events = stream.getResponse().getContentAsString();
+		assertThat(events)
+				.contains("event:match")
+				.contains("\"id\":\"" + recorded.get("id") + "\"")
+				.doesNotContain((String) otherServer.get("id"));
+		stream.getRequest().getAsyncContext().complete();
+	}
+
+	@Test
+	void recordBatch_shouldFeedTheDistinctPlayersAndScoreDistributionOfTheServer() throws Exception {
+		// Arrange
+		List<Object> body = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			body.add(match(ENDPOINT, 10 + i % 10, 10));
+		}
+		postBatch(MediaType.APPLICATION_JSON, objectMapper.writeValueAsString(body));
+		serverDistributionRecorder.flush();
+
+		// Act & Assert
+		mockMvc.perform(
+						get("/servers/{endpoint}/stats", ENDPOINT)
+								.param("window", "HOUR")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.window").value("HOUR"))
+				.andExpect(jsonPath("$.matchCount").value(200))
+				.andExpect(jsonPath("$.uniquePlayers").value(PLAYERS.size()))
+				.andExpect(jsonPath("$.scores.count").value(400))
+				.andExpect(jsonPath("$.scores.p50").value(closeTo(10.0, 0.5)))
+				.andExpect(jsonPath("$.margins.count").value(200))
+				.andExpect(jsonPath("$.margins.p99").value(closeTo(9.0, 0.5)));
+	}
+
+	@Test
+	void recordBatch_shouldFeedTheTimeSeriesOfTheServer_atEveryStep() throws Exception {
+		// Arrange
+		List<Object> body = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			body.add(match(ENDPOINT, i, 10));
+		}
+		postBatch(MediaType.APPLICATION_JSON, objectMapper.writeValueAsString(body));
+		serverTimeSeriesRepository.compact();
+
+		for (String step : List.of("MINUTE", "HOUR", "DAY")) {
+			// Act
+			String response = mockMvc.perform(
+							get("/servers/{endpoint}/timeseries", ENDPOINT)
+									.param("step", step)
+									.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+					)
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.points.length()").value(60))
+					.andReturn()
+					.getResponse()
+					.getContentAsString();
+			List<TimeSeriesPoint> points = objectMapper.readValue(response, ServerTimeSeriesDto.class).getPoints();
+
+			// Assert
+			// The batch may straddle a bucket boundary, so only the totals are exact
+			assertThat(points.stream().mapToLong(TimeSeriesPoint::matches).sum()).as(step).isEqualTo(30);
+			assertThat(points.stream().mapToLong(TimeSeriesPoint::totalScore).sum()).as(step).isEqualTo(435 + 300);
+			assertThat(points.stream().mapToLong(TimeSeriesPoint::activePlayers).max().orElseThrow()).as(step).isEqualTo(PLAYERS.size());
+		}
+	}
+
+	@Test
+	void timeSeries_shouldRejectTooManyPoints() throws Exception {
+		// Act & Assert
+		mockMvc.perform(
+						get("/servers/{endpoint}/timeseries", ENDPOINT)
+								.param("from", "2024-01-01T00:00:00")
+								.param("to", "2024-02-01T00:00:00")
+								.param("step", "MINUTE")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(status().isBadRequest());
+	}
+
+	private Map<String, Object> match(String endpoint, int firstScore, int secondScore) {
+		String id = UUID.randomUUID().toString();
+		matchIds.add(id);
+
+		Map<String, Object> match = new LinkedHashMap<>();
+		match.put("id", id);
+		match.put("serverEndpoint", endpoint);
+		match.put("timestamp", LocalDateTime.now().toString());
+		match.put("playerScores", PLAYERS.stream().collect(Collectors.toMap(
+				name -> name, name -> name.equals(PLAYERS.getFirst()) ? firstScore : secondScore, (a, b) -> a, LinkedHashMap::new)));
+		return match;
+	}
+
+	private MatchBatchResultDto postBatch(MediaType contentType, String body) throws Exception {
+		String response = mockMvc.perform(
+						post("/matches/batch")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+								.contentType(contentType)
+								.content(body)
+				)
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		return objectMapper.readValue(response, MatchBatchResultDto.class);
+	}
+}
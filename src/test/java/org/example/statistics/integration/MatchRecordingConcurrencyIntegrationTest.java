@@ -0,0 +1,246 @@
+package org.example.statistics.integration;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.example.statistics.repository.MatchIndexRepository;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.service.match.MatchRecordingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MatchRecordingConcurrencyIntegrationTest {
+
+	private static final String ENDPOINT = "concurrency-test:7777";
+	private static final List<String> PLAYERS = List.of("ConcurrencyOne", "ConcurrencyTwo", "ConcurrencyThree", "ConcurrencyFour");
+	private static final int MATCH_COUNT = 2000;
+	private static final int THREADS = 16;
+
+	@Autowired
+	private MatchRecordingService matchRecordingService;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private MatchIndexRepository matchIndexRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private ServerRepository serverRepository;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private final List<String> matchIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		serverRepository.save(Server.builder().endpoint(ENDPOINT).name("Concurrency").region("test").build());
+		PLAYERS.forEach(name -> playerRepository.save(Player.builder().name(name).build()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchRepository.deleteAllById(matchIds);
+		playerRepository.deleteAllById(PLAYERS);
+		serverRepository.deleteById(ENDPOINT);
+		stringRedisTemplate.opsForZSet().remove("Player:leaderboard", PLAYERS.toArray());
+		stringRedisTemplate.opsForZSet().remove("Player:rating", PLAYERS.toArray());
+		stringRedisTemplate.opsForZSet().remove("Server:popularity", ENDPOINT);
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:server:" + ENDPOINT + ":*"));
+		PLAYERS.forEach(name -> stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:player:" + name + ":*")));
+	}
+
+	@Test
+	void record_shouldNotLoseUpdates_whenMatchesAreRecordedInParallel() throws Exception {
+		// Arrange
+		List<Match> matches = new ArrayList<>();
+		for (int i = 0; i < MATCH_COUNT; i++) {
+			String first = PLAYERS.get(i % PLAYERS.size());
+			String second = PLAYERS.get((i + 1) % PLAYERS.size());
+
+			Map<String, Integer> scores = new LinkedHashMap<>();
+			scores.put(first, i % 21);
+			scores.put(second, (i + 1 + i % 5) % 21);
+
+			matches.add(Match.builder()
+					.id(UUID.randomUUID().toString())
+					.serverEndpoint(ENDPOINT)
+					.timestamp(LocalDateTime.now())
+					.playerScores(scores)
+					.build());
+		}
+		matches.forEach(match -> matchIds.add(match.getId()));
+
+		// Act
+		List<MatchRecordingResult> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+			List<Future<MatchRecordingResult>> futures = new ArrayList<>();
+			matches.forEach(match -> futures.add(executor.submit(() -> matchRecordingService.record(match))));
+
+			for (Future<MatchRecordingResult> future : futures) {
+				results.add(future.get());
+			}
+		}
+
+		// Assert
+		assertThat(results).containsOnly(MatchRecordingResult.RECORDED);
+
+		// The scheduled generator may pick the same server and players meanwhile, so totals are checked
+		// against the matches the indexes actually hold, and counters read separately are bracketed
+		double rankedBefore = stringRedisTemplate.opsForZSet().score("Server:popularity", ENDPOINT);
+		List<String> serverMatchIds = matches.stream()
+				.map(match -> match.getTimestamp().toLocalDate().toString())
+				.distinct()
+				.flatMap(day -> matchIndexRepository.findIdsByServerAndDay(ENDPOINT, day).stream())
+				.toList();
+		double rankedAfter = stringRedisTemplate.opsForZSet().score("Server:popularity", ENDPOINT);
+
+		assertThat(serverMatchIds).containsAll(matchIds);
+		assertThat((double) serverMatchIds.size()).isBetween(rankedBefore, rankedAfter);
+
+		Map<String, Integer> appearances = new HashMap<>();
+		double ratingSum = 0;
+		for (String name : PLAYERS) {
+			// The index only grows, so an unchanged index around the hash read means both are in step
+			List<String> playedIds;
+			Player player;
+			double leaderboardBefore;
+			double leaderboardAfter;
+			do {
+				playedIds = playerMatchIds(name);
+				leaderboardBefore = stringRedisTemplate.opsForZSet().score("Player:leaderboard", name);
+				player = playerRepository.findById(name).orElseThrow();
+				leaderboardAfter = stringRedisTemplate.opsForZSet().score("Player:leaderboard", name);
+			}
+			while (!playedIds.equals(playerMatchIds(name)));
+			List<Match> playedMatches = matchRepository.findAllByIdPipelined(playedIds);
+
+			int expectedScore = 0;
+			int expectedWins = 0;
+			for (Match match : playedMatches) {
+				boolean won = name.equals(winnerOf(match));
+				expectedScore += won ? 100 : 30;
+				expectedWins += won ? 1 : 0;
+			}
+
+			assertThat(playedMatches).hasSize(player.getMatchesPlayed());
+			assertThat(player.getTotalScore()).isEqualTo(expectedScore);
+			assertThat(player.getWinRate()).isEqualTo(Math.round(expectedWins * 100f / player.getMatchesPlayed()));
+			assertThat(player.getWins()).isEqualTo(expectedWins);
+			assertThat(player.getLosses()).isEqualTo(player.getMatchesPlayed() - expectedWins);
+			assertThat((double) player.getTotalScore()).isBetween(leaderboardBefore, leaderboardAfter);
+
+			ratingSum += player.getRating();
+			playedIds.forEach(id -> appearances.merge(id, 1, Integer::sum));
+		}
+
+		assertThat(matchIds).allMatch(id -> appearances.getOrDefault(id, 0) == 2);
+
+		// Two-player Elo moves rating from the loser to the winner, so a lost update would show in the sum
+		if (matchIds.containsAll(appearances.keySet())) {
+			assertThat(ratingSum).isCloseTo(PLAYERS.size() * 1500.0, within(1e-6));
+		}
+	}
+
+	private List<String> playerMatchIds(String name) {
+		return matchIndexRepository.findPlayerMatches(name, Integer.MAX_VALUE).stream()
+				.map(TypedTuple::getValue)
+				.toList();
+	}
+
+	// Test matches never tie, so the winner does not depend on the order scores are read back in
+	private static String winnerOf(Match match) {
+		return match.getPlayerScores().entrySet().stream()
+				.max(Map.Entry.comparingByValue())
+				.orElseThrow()
+				.getKey();
+	}
+
+	@Test
+	void record_shouldIgnoreDuplicate_whenMatchIsRecordedTwice() {
+		// Arrange
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put(PLAYERS.get(0), 10);
+		scores.put(PLAYERS.get(1), 5);
+		Match match = Match.builder()
+				.id(UUID.randomUUID().toString())
+				.serverEndpoint(ENDPOINT)
+				.timestamp(LocalDateTime.now())
+				.playerScores(scores)
+				.build();
+		matchIds.add(match.getId());
+
+		// Act
+		MatchRecordingResult first = matchRecordingService.record(match);
+		MatchRecordingResult second = matchRecordingService.record(match);
+
+		// Assert
+		assertThat(first).isEqualTo(MatchRecordingResult.RECORDED);
+		assertThat(second).isEqualTo(MatchRecordingResult.DUPLICATE);
+		assertThat(matchRepository.findById(match.getId())).contains(match);
+
+		Player winner = playerRepository.findById(PLAYERS.get(0)).orElseThrow();
+		assertThat(winner.getMatchesPlayed()).isEqualTo(1);
+		assertThat(winner.getTotalScore()).isEqualTo(100);
+		assertThat(winner.getWinRate()).isEqualTo(100);
+		assertThat(winner.getWins()).isEqualTo(1);
+		assertThat(winner.getLosses()).isZero();
+		assertThat(winner.getRating()).isEqualTo(1516.0);
+		assertThat(playerRepository.findById(PLAYERS.get(1)).orElseThrow().getRating()).isEqualTo(1484.0);
+		assertThat(stringRedisTemplate.opsForZSet().score("Player:rating", PLAYERS.get(0))).isEqualTo(1516.0);
+		assertThat(playerMatchIds(PLAYERS.get(0))).containsExactly(match.getId());
+	}
+
+	@Test
+	void record_shouldRejectMatch_whenServerOrPlayerIsUnknown() {
+		// Arrange
+		Match unknownServer = Match.builder()
+				.id(UUID.randomUUID().toString())
+				.serverEndpoint("unknown:1")
+				.timestamp(LocalDateTime.now())
+				.playerScores(Map.of(PLAYERS.get(0), 1, PLAYERS.get(1), 2))
+				.build();
+		Match unknownPlayer = Match.builder()
+				.id(UUID.randomUUID().toString())
+				.serverEndpoint(ENDPOINT)
+				.timestamp(LocalDateTime.now())
+				.playerScores(Map.of(PLAYERS.get(0), 1, "NobodyAtAll", 2))
+				.build();
+
+		// Act & Assert
+		assertThat(matchRecordingService.record(unknownServer)).isEqualTo(MatchRecordingResult.UNKNOWN_SERVER);
+		assertThat(matchRecordingService.record(unknownPlayer)).isEqualTo(MatchRecordingResult.UNKNOWN_PLAYER);
+		assertThat(matchRepository.existsById(unknownServer.getId())).isFalse();
+		assertThat(matchRepository.existsById(unknownPlayer.getId())).isFalse();
+		assertThat(playerRepository.findById(PLAYERS.get(0)).orElseThrow().getMatchesPlayed()).isZero();
+	}
+}
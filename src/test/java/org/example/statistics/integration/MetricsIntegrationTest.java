@@ -0,0 +1,44 @@
+package org.example.statistics.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.statistics.service.server.ServerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Metrics export, and with it the Prometheus endpoint, is disabled in tests; the meters are checked on the registry
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsIntegrationTest {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ServerService serverService;
+
+	@Test
+	void servicesAndRepositories_shouldBeTimed_andEntitiesCounted() {
+		// Act
+		serverService.getServers(1, null);
+
+		// Assert
+		assertThat(meterRegistry.find("service")
+				.tag("class", "org.example.statistics.service.server.ServerServiceImpl")
+				.tag("method", "getServers")
+				.timer())
+				.isNotNull()
+				.satisfies(timer -> assertThat(timer.count()).isPositive());
+		assertThat(meterRegistry.find("redis.repository")
+				.tags("keys", "entities", "method", "scanIds")
+				.timer())
+				.isNotNull();
+		assertThat(meterRegistry.find("redis.entities").tag("type", "Server").gauge())
+				.isNotNull()
+				.satisfies(gauge -> assertThat(gauge.value()).isGreaterThanOrEqualTo(0));
+		assertThat(meterRegistry.find("match.index.recent.size").gauge()).isNotNull();
+	}
+}
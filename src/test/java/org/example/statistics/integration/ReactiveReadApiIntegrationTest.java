@@ -0,0 +1,171 @@
+package org.example.statistics.integration;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.domain.Session;
+import org.example.statistics.dto.player.PlayerStatsDto;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.security.SessionCache;
+import org.example.statistics.service.match.MatchRecordingService;
+import org.example.statistics.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs on its own Redis port: this context lives next to the servlet one, which owns the default port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.data.redis.port=6390")
+@ActiveProfiles("reactive")
+class ReactiveReadApiIntegrationTest {
+
+	private static final String ENDPOINT = "reactive-test:9000";
+	private static final List<String> PLAYERS = List.of("ReactiveOne", "ReactiveTwo");
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private MatchRecordingService matchRecordingService;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private ServerRepository serverRepository;
+
+	@Autowired
+	private SessionRepository sessionRepository;
+
+	@Autowired
+	private SessionCache sessionCache;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private final List<Match> matches = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		serverRepository.save(Server.builder().endpoint(ENDPOINT).name("Reactive").region("test").build());
+		PLAYERS.forEach(name -> playerRepository.save(Player.builder().name(name).build()));
+
+		LocalDateTime start = LocalDateTime.now().withHour(1);
+		for (int i = 0; i < 3; i++) {
+			Map<String, Integer> scores = new LinkedHashMap<>();
+			scores.put(PLAYERS.get(0), 10 + i);
+			scores.put(PLAYERS.get(1), i);
+			matches.add(Match.builder()
+					.id("reactive-" + System.nanoTime() + "-" + i)
+					.serverEndpoint(ENDPOINT)
+					.timestamp(start.plusMinutes(i))
+					.playerScores(scores)
+					.build());
+		}
+		matchRecordingService.recordAll(matches);
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchRepository.deleteAll(matches);
+		playerRepository.deleteAllById(PLAYERS);
+		serverRepository.deleteById(ENDPOINT);
+		stringRedisTemplate.opsForZSet().remove("Match:idx:recent", matches.stream().map(Match::getId).toArray());
+		stringRedisTemplate.opsForZSet().remove("Server:popularity", ENDPOINT);
+		stringRedisTemplate.opsForZSet().remove("Player:leaderboard", PLAYERS.toArray());
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:server:" + ENDPOINT + ":*"));
+		PLAYERS.forEach(name -> stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:player:" + name + ":*")));
+	}
+
+	@Test
+	void getMatches_shouldStreamTheMatchesOfTheDay_asNdjson() {
+		// Act
+		List<Match> streamed = webTestClient.get()
+				.uri("/servers/{endpoint}/matches/{day}", ENDPOINT, matches.getFirst().getTimestamp().toLocalDate())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ReactiveAdmin", "ADMIN"))
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(Match.class)
+				.getResponseBody()
+				.collectList()
+				.block();
+
+		// Assert
+		assertThat(streamed).map(Match::getId).containsExactlyElementsOf(matches.stream().map(Match::getId).toList());
+	}
+
+	@Test
+	void getStats_shouldReturnThePlayersOwnStats_withALatestFirstPage() {
+		// Act
+		PlayerStatsDto stats = webTestClient.get()
+				.uri("/players/{name}/stats?limit=2", PLAYERS.getFirst())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token(PLAYERS.getFirst(), "PLAYER"))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(PlayerStatsDto.class)
+				.returnResult()
+				.getResponseBody();
+
+		// Assert
+		assertThat(stats).isNotNull();
+		assertThat(stats.getRecentMatches()).map(Match::getId).containsExactly(matches.get(1).getId(), matches.get(2).getId());
+		assertThat(stats.getNextCursor()).isNotNull();
+	}
+
+	@Test
+	void getServer_shouldReturn400_whenServerDoesNotExist() {
+		// Act & Assert
+		webTestClient.get()
+				.uri("/servers/{endpoint}/info", "missing:1")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ReactiveAdmin", "ADMIN"))
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void getServers_shouldReturn401_whenSessionWasReplaced() {
+		// Arrange
+		String token = token("ReactiveAdmin", "ADMIN");
+		sessionRepository.save(Session.builder().id("ReactiveAdmin").userName("ReactiveAdmin").sessionId("replaced").build());
+		sessionCache.invalidate("ReactiveAdmin");
+
+		// Act & Assert
+		webTestClient.get()
+				.uri("/servers/info")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+	private String token(String userName, String role) {
+		sessionRepository.save(Session.builder().id(userName).userName(userName).sessionId("reactive").build());
+		return jwtUtil.generateToken(userName, role, "reactive");
+	}
+}
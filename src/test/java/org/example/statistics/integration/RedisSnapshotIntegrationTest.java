@@ -0,0 +1,93 @@
+package org.example.statistics.integration;
+
+import org.example.statistics.repository.RedisSnapshotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RedisSnapshotIntegrationTest {
+
+	private static final String PREFIX = "SnapshotTest:";
+
+	@Autowired
+	private RedisSnapshotRepository snapshotRepository;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@TempDir
+	private Path tempDir;
+
+	@AfterEach
+	void tearDown() {
+		deleteTestKeys();
+	}
+
+	@Test
+	void writeAndRestore_shouldRoundTripEveryDataType_andKeepTtls() throws Exception {
+		// Arrange
+		stringRedisTemplate.opsForHash().putAll(PREFIX + "hash", Map.of("name", "Europe Alpha", "rating", "4.5"));
+		stringRedisTemplate.opsForZSet().add(PREFIX + "zset", "PlayerOne", 1200);
+		stringRedisTemplate.opsForZSet().add(PREFIX + "zset", "PlayerTwo", 800);
+		stringRedisTemplate.opsForSet().add(PREFIX + "set", "a", "b");
+		stringRedisTemplate.opsForValue().set(PREFIX + "volatile", "value", Duration.ofMinutes(10));
+		for (int i = 0; i < 2500; i++) {
+			stringRedisTemplate.opsForValue().set(PREFIX + "bulk:" + i, String.valueOf(i));
+		}
+		Path file = tempDir.resolve("redis.snapshot");
+
+		// Act
+		long written = snapshotRepository.write(file, PREFIX + "*");
+		deleteTestKeys();
+		long restored = snapshotRepository.restore(file);
+
+		// Assert
+		assertThat(written).isEqualTo(2504);
+		assertThat(restored).isEqualTo(2504);
+		assertThat(stringRedisTemplate.opsForHash().entries(PREFIX + "hash"))
+				.containsEntry("name", "Europe Alpha")
+				.containsEntry("rating", "4.5");
+		assertThat(stringRedisTemplate.opsForZSet().reverseRange(PREFIX + "zset", 0, -1)).containsExactly("PlayerOne", "PlayerTwo");
+		assertThat(stringRedisTemplate.opsForSet().members(PREFIX + "set")).containsExactlyInAnyOrder("a", "b");
+		assertThat(stringRedisTemplate.opsForValue().get(PREFIX + "bulk:2499")).isEqualTo("2499");
+		assertThat(stringRedisTemplate.getExpire(PREFIX + "volatile", TimeUnit.SECONDS)).isBetween(1L, 600L);
+		assertThat(stringRedisTemplate.getExpire(PREFIX + "hash")).isEqualTo(-1);
+	}
+
+	@Test
+	void restore_shouldSkipKeys_whoseTtlRanOutSinceTheSnapshot() throws Exception {
+		// Arrange
+		stringRedisTemplate.opsForValue().set(PREFIX + "short-lived", "value", Duration.ofMillis(300));
+		stringRedisTemplate.opsForValue().set(PREFIX + "durable", "value");
+		Path file = tempDir.resolve("redis.snapshot");
+
+		snapshotRepository.write(file, PREFIX + "*");
+		deleteTestKeys();
+		Thread.sleep(400);
+
+		// Act
+		long restored = snapshotRepository.restore(file);
+
+		// Assert
+		assertThat(restored).isEqualTo(1);
+		assertThat(stringRedisTemplate.hasKey(PREFIX + "short-lived")).isFalse();
+		assertThat(stringRedisTemplate.hasKey(PREFIX + "durable")).isTrue();
+	}
+
+	private void deleteTestKeys() {
+		stringRedisTemplate.delete(stringRedisTemplate.keys(PREFIX + "*"));
+	}
+}
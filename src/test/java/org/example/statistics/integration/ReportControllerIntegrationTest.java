@@ -0,0 +1,222 @@
+package org.example.statistics.integration;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.example.statistics.domain.Session;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.service.match.MatchRecordingService;
+import org.example.statistics.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReportControllerIntegrationTest {
+
+	private static final String ENDPOINT = "report-test:9000";
+	private static final List<String> PLAYERS = List.of("ReportOne", "ReportTwo");
+	private static final String MATCH_ID = "report-test-match";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MatchRecordingService matchRecordingService;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private ServerRepository serverRepository;
+
+	@Autowired
+	private SessionRepository sessionRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private String token;
+
+	@BeforeEach
+	void setUp() {
+		serverRepository.save(Server.builder().endpoint(ENDPOINT).name("Report").region("test").build());
+		PLAYERS.forEach(name -> playerRepository.save(Player.builder().name(name).build()));
+		sessionRepository.save(Session.builder().id("ReportAdmin").userName("ReportAdmin").sessionId("report").build());
+		token = jwtUtil.generateToken("ReportAdmin", "ADMIN", "report");
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchRepository.deleteById(MATCH_ID);
+		playerRepository.deleteAllById(PLAYERS);
+		serverRepository.deleteById(ENDPOINT);
+		sessionRepository.deleteById("ReportAdmin");
+		stringRedisTemplate.opsForZSet().remove("Match:idx:recent", MATCH_ID);
+		stringRedisTemplate.opsForZSet().remove("Server:popularity", ENDPOINT);
+		stringRedisTemplate.opsForZSet().remove("Player:leaderboard", PLAYERS.toArray());
+		stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:server:" + ENDPOINT + ":*"));
+		PLAYERS.forEach(name -> stringRedisTemplate.delete(stringRedisTemplate.keys("Match:idx:player:" + name + ":*")));
+	}
+
+	@Test
+	void getRecentMatches_shouldServeJson_andPickUpANewlyRecordedMatch() throws Exception {
+		// Arrange
+		getRecentMatches()
+				.andExpect(jsonPath("$").isArray())
+				.andExpect(jsonPath("$[?(@.id == '" + MATCH_ID + "')]").isEmpty());
+
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put(PLAYERS.get(0), 10);
+		scores.put(PLAYERS.get(1), 4);
+		// Later than anything the match generator records while the test runs
+		matchRecordingService.record(Match.builder()
+				.id(MATCH_ID)
+				.serverEndpoint(ENDPOINT)
+				.timestamp(LocalDateTime.now().plusHours(1))
+				.playerScores(scores)
+				.build());
+
+		// Act & Assert
+		getRecentMatches()
+				.andExpect(jsonPath("$[0].id").value(MATCH_ID))
+				.andExpect(jsonPath("$[0].playerScores.ReportOne").value(10));
+	}
+
+	@Test
+	void getBestPlayers_shouldReturn400_whenCountIsNegative() throws Exception {
+		// Act & Assert
+		mockMvc.perform(
+						get("/reports/best-players")
+								.param("count", "-1")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getRecentMatches_shouldReturnAPage_whenLimitIsGiven() throws Exception {
+		// Arrange
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put(PLAYERS.get(0), 3);
+		scores.put(PLAYERS.get(1), 8);
+		matchRecordingService.record(Match.builder()
+				.id(MATCH_ID)
+				.serverEndpoint(ENDPOINT)
+				.timestamp(LocalDateTime.now().plusHours(1))
+				.playerScores(scores)
+				.build());
+
+		// Act & Assert
+		mockMvc.perform(
+						get("/reports/recent-matches")
+								.param("limit", "1")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].id").value(MATCH_ID));
+	}
+
+	@Test
+	void getRecentMatches_shouldStreamNdjson_whenAskedFor() throws Exception {
+		// Arrange
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put(PLAYERS.get(0), 6);
+		scores.put(PLAYERS.get(1), 2);
+		matchRecordingService.record(Match.builder()
+				.id(MATCH_ID)
+				.serverEndpoint(ENDPOINT)
+				.timestamp(LocalDateTime.now().plusHours(1))
+				.playerScores(scores)
+				.build());
+
+		// Act
+		MvcResult result = mockMvc.perform(
+						get("/reports/recent-matches")
+								.param("count", "1")
+								.accept(MediaType.APPLICATION_NDJSON)
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// Assert
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		assertThat(body.lines().toList()).singleElement().asString()
+				.contains("\"id\":\"" + MATCH_ID + "\"")
+				.contains("\"ReportOne\":6");
+	}
+
+	@Test
+	void getRecentMatches_shouldReturn400_whenStreamedCountIsNegative() throws Exception {
+		// Act & Assert
+		mockMvc.perform(
+						get("/reports/recent-matches")
+								.param("count", "-1")
+								.accept(MediaType.APPLICATION_NDJSON)
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getBestPlayers_shouldReturn400_whenCursorIsInvalid() throws Exception {
+		// Act & Assert
+		mockMvc.perform(
+						get("/reports/best-players")
+								.param("cursor", "not a cursor")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(status().isBadRequest());
+	}
+
+	private ResultActions getRecentMatches() throws Exception {
+		return mockMvc.perform(
+						get("/reports/recent-matches")
+								.param("count", "1")
+								.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				)
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON));
+	}
+}
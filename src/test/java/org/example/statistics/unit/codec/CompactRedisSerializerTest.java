@@ -0,0 +1,63 @@
+package org.example.statistics.unit.codec;
+
+import org.example.statistics.codec.CompactRedisSerializer;
+import org.example.statistics.codec.MatchCodec;
+import org.example.statistics.codec.PlayerCodec;
+import org.example.statistics.codec.ServerCodec;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.Server;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactRedisSerializer Unit Tests")
+class CompactRedisSerializerTest {
+
+	private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+	@Test
+	void serialize_shouldRoundTripEntitiesWithTheirIds() {
+		// Arrange
+		CompactRedisSerializer serializer = serializer(true);
+		Server server = new Server("eu-alpha:27015", "Europe Alpha", "EU", 4.5);
+		Player player = new Player("PlayerOne", -20, 12, 50, 6, 6, 1512.25);
+
+		// Act & Assert
+		assertThat(serializer.deserialize(serializer.serialize(server))).isEqualTo(server);
+		assertThat(serializer.deserialize(serializer.serialize(player))).isEqualTo(player);
+		assertThat(serializer.serialize(server).length).isLessThan(json.serialize(server).length / 2);
+	}
+
+	@Test
+	void deserialize_shouldStillReadJson_writtenBeforeTheCodec() {
+		// Arrange
+		CompactRedisSerializer serializer = serializer(true);
+		Server server = new Server("eu-alpha:27015", "Europe Alpha", "EU", 4.5);
+
+		// Act & Assert
+		assertThat(serializer.deserialize(json.serialize(server))).isEqualTo(server);
+		assertThat(serializer.deserialize(json.serialize("plain value"))).isEqualTo("plain value");
+	}
+
+	@Test
+	void serialize_shouldWriteJson_whenCompactWritesAreDisabled() {
+		// Arrange
+		CompactRedisSerializer serializer = serializer(false);
+		Server server = new Server("eu-alpha:27015", "Europe Alpha", "EU", 4.5);
+
+		// Act
+		byte[] bytes = serializer.serialize(server);
+
+		// Assert
+		assertThat(bytes).isEqualTo(json.serialize(server));
+		assertThat(serializer.deserialize(bytes)).isEqualTo(server);
+	}
+
+	private CompactRedisSerializer serializer(boolean writeCompact) {
+		return new CompactRedisSerializer(List.of(new MatchCodec(), new ServerCodec(), new PlayerCodec()), json, writeCompact);
+	}
+}
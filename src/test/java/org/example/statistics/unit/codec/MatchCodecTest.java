@@ -0,0 +1,103 @@
+package org.example.statistics.unit.codec;
+
+import org.example.statistics.codec.MatchCodec;
+import org.example.statistics.domain.Match;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MatchCodec Unit Tests")
+class MatchCodecTest {
+
+	private final MatchCodec codec = new MatchCodec();
+
+	@Test
+	void encodeAndDecode_shouldRoundTrip_includingNegativeScoresAndPlayerOrder() {
+		// Arrange
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put("Zed", -15);
+		scores.put("Ábel", 2_000_000);
+		scores.put("Anna", 0);
+		Match match = Match.builder()
+				.id("ignored")
+				.serverEndpoint("eu-alpha:27015")
+				.timestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 5, 123_456_789))
+				.playerScores(scores)
+				.build();
+
+		// Act
+		Match decoded = codec.decode(codec.encode(match));
+
+		// Assert
+		assertThat(decoded.getId()).isNull();
+		assertThat(decoded.getServerEndpoint()).isEqualTo("eu-alpha:27015");
+		assertThat(decoded.getTimestamp()).isEqualTo(match.getTimestamp());
+		assertThat(decoded.getPlayerScores()).containsExactly(
+				Map.entry("Zed", -15), Map.entry("Ábel", 2_000_000), Map.entry("Anna", 0));
+	}
+
+	@Test
+	void encode_shouldBeFarSmallerThanTheJsonOfTheSameMatch() {
+		// Arrange
+		Match match = Match.builder()
+				.serverEndpoint("eu-alpha:27015")
+				.timestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 5))
+				.playerScores(Map.of("PlayerOne", 120, "PlayerTwo", 95))
+				.build();
+		String json = "{\"serverEndpoint\":\"eu-alpha:27015\",\"timestamp\":\"2024-03-01T12:30:05\","
+				+ "\"playerScores\":{\"PlayerOne\":120,\"PlayerTwo\":95}}";
+
+		// Act
+		byte[] payload = codec.encode(match);
+
+		// Assert
+		assertThat(payload.length).isLessThan(json.length() / 2);
+	}
+
+	@Test
+	void decodeLegacy_shouldReadTheFieldPerPropertyHash() {
+		// Arrange
+		Map<String, byte[]> fields = Map.of(
+				"_class", bytes("org.example.statistics.domain.Match"),
+				"serverEndpoint", bytes("eu-alpha:27015"),
+				"timestamp", bytes("2024-03-01T12:30:05"),
+				"playerScores.[PlayerOne]", bytes("120"),
+				"playerScores.[PlayerTwo]", bytes("-3"));
+
+		// Act
+		Match decoded = codec.decodeLegacy(fields);
+
+		// Assert
+		assertThat(decoded.getServerEndpoint()).isEqualTo("eu-alpha:27015");
+		assertThat(decoded.getTimestamp()).isEqualTo(LocalDateTime.of(2024, 3, 1, 12, 30, 5));
+		assertThat(decoded.getPlayerScores()).containsOnly(Map.entry("PlayerOne", 120), Map.entry("PlayerTwo", -3));
+	}
+
+	@Test
+	void decode_shouldRejectUnknownVersionsAndTruncatedPayloads() {
+		// Arrange
+		byte[] payload = codec.encode(Match.builder().serverEndpoint("eu-alpha:27015").playerScores(Map.of()).build());
+		byte[] futureVersion = payload.clone();
+		futureVersion[0] = 99;
+
+		// Act & Assert
+		assertThatThrownBy(() -> codec.decode(futureVersion))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("version 99");
+		assertThatThrownBy(() -> codec.decode(Arrays.copyOf(payload, payload.length - 1)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Truncated");
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,151 @@
+package org.example.statistics.unit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.statistics.config.DataInitializer;
+import org.example.statistics.domain.Player;
+import org.example.statistics.domain.User;
+import org.example.statistics.repository.DataImportCheckpointRepository;
+import org.example.statistics.repository.LeaderboardRepository;
+import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRankingRepository;
+import org.example.statistics.repository.ServerRepository;
+import org.example.statistics.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataInitializer Unit Tests")
+class DataInitializerTest {
+
+	@Mock
+	private ServerRepository serverRepository;
+
+	@Mock
+	private ServerRankingRepository serverRankingRepository;
+
+	@Mock
+	private PlayerRepository playerRepository;
+
+	@Mock
+	private LeaderboardRepository leaderboardRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private DataImportCheckpointRepository checkpointRepository;
+
+	private DataInitializer dataInitializer;
+
+	@BeforeEach
+	void setUp() {
+		dataInitializer = new DataInitializer(new ObjectMapper(), serverRepository, serverRankingRepository,
+				playerRepository, leaderboardRepository, userRepository, passwordEncoder, checkpointRepository);
+
+		ReflectionTestUtils.setField(dataInitializer, "dataServers", json("""
+				[{"endpoint": "eu-1.game.net", "name": "Europe Alpha"}]"""));
+		ReflectionTestUtils.setField(dataInitializer, "dataPlayers", json("""
+				[{"name": "P1"}, {"name": "P2"}, {"name": "P3"}, {"name": "P4"}, {"name": "P5"}]"""));
+		ReflectionTestUtils.setField(dataInitializer, "dataUsers", json("""
+				[{"id": "1", "userName": "Admin", "password": "admin"}, {"id": "2", "userName": "P1", "password": "p1"}]"""));
+		ReflectionTestUtils.setField(dataInitializer, "batchSize", 2);
+		ReflectionTestUtils.setField(dataInitializer, "hashThreads", 2);
+	}
+
+	private static ByteArrayResource json(String content) {
+		return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("Should write every file in batches and checkpoint after each batch")
+	void initData_WhenRedisIsEmpty_ShouldImportInBatches() throws Exception {
+		// Given
+		when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+		List<List<String>> playerBatches = capturePlayerBatches();
+
+		// When
+		dataInitializer.initData();
+
+		// Then
+		assertThat(playerBatches).containsExactly(List.of("P1", "P2"), List.of("P3", "P4"), List.of("P5"));
+		verify(checkpointRepository).setImported("players", 2);
+		verify(checkpointRepository).setImported("players", 4);
+		verify(checkpointRepository).setImported("players", 5);
+		verify(checkpointRepository).setImported("servers", 1);
+		verify(checkpointRepository).markCompleted();
+
+		ArgumentCaptor<Collection<User>> users = ArgumentCaptor.captor();
+		verify(userRepository).saveAllPipelined(users.capture());
+		assertThat(users.getValue()).extracting(User::getPassword).containsExactly("hashed-admin", "hashed-p1");
+	}
+
+	@Test
+	@DisplayName("Should skip the entities a previous run already imported")
+	void initData_WhenCheckpointExists_ShouldResumeAfterIt() throws Exception {
+		// Given
+		when(checkpointRepository.exists()).thenReturn(true);
+		when(checkpointRepository.getImported("servers")).thenReturn(1L);
+		when(checkpointRepository.getImported("players")).thenReturn(4L);
+		when(checkpointRepository.getImported("users")).thenReturn(2L);
+		List<List<String>> playerBatches = capturePlayerBatches();
+
+		// When
+		dataInitializer.initData();
+
+		// Then
+		assertThat(playerBatches).containsExactly(List.of("P5"));
+		verify(serverRepository, never()).saveAllPipelined(any());
+		verify(userRepository, never()).saveAllPipelined(any());
+		verify(passwordEncoder, never()).encode(anyString());
+		verify(checkpointRepository).markCompleted();
+	}
+
+	@Test
+	@DisplayName("Should not import anything once a previous import completed")
+	void initData_WhenImportCompleted_ShouldSkip() throws Exception {
+		// Given
+		when(checkpointRepository.isCompleted()).thenReturn(true);
+
+		// When
+		dataInitializer.initData();
+
+		// Then
+		verify(checkpointRepository, never()).markStarted();
+		verify(serverRepository, never()).saveAllPipelined(any());
+		verify(playerRepository, never()).saveAllPipelined(any());
+	}
+
+	private List<List<String>> capturePlayerBatches() {
+		List<List<String>> batches = new ArrayList<>();
+		doAnswer(invocation -> {
+			Collection<Player> players = invocation.getArgument(0);
+			batches.add(players.stream().map(Player::getName).toList());
+			return null;
+		}).when(playerRepository).saveAllPipelined(any());
+		return batches;
+	}
+}
@@ -0,0 +1,148 @@
+package org.example.statistics.unit.domain;
+
+import com.tdunning.math.stats.ScaleFunction;
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.ServerDistribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ServerDistribution Unit Tests")
+class ServerDistributionTest {
+
+	@Test
+	@DisplayName("Should record every score and the margin between the two best")
+	void add_WhenMatchHasSeveralPlayers_ShouldRecordScoresAndMargin() {
+		// Given
+		ServerDistribution distribution = new ServerDistribution();
+
+		// When
+		distribution.add(match(10, 4, 7));
+
+		// Then
+		assertThat(distribution.getScores().size()).isEqualTo(3);
+		assertThat(distribution.getMargins().size()).isEqualTo(1);
+		assertThat(distribution.getMargins().quantile(0.5)).isEqualTo(3.0);
+		assertThat(distribution.getScores().getMin()).isEqualTo(4.0);
+		assertThat(distribution.getScores().getMax()).isEqualTo(10.0);
+	}
+
+	@Test
+	@DisplayName("Should record no margin for a match without an opponent")
+	void add_WhenMatchHasOnePlayer_ShouldRecordNoMargin() {
+		// Given
+		ServerDistribution distribution = new ServerDistribution();
+
+		// When
+		distribution.add(match(12));
+
+		// Then
+		assertThat(distribution.getScores().size()).isEqualTo(1);
+		assertThat(distribution.getMargins().size()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should count a tie for the best score as a zero margin")
+	void add_WhenBestScoresTie_ShouldRecordZeroMargin() {
+		// Given
+		ServerDistribution distribution = new ServerDistribution();
+
+		// When
+		distribution.add(match(8, 8, 3));
+
+		// Then
+		assertThat(distribution.getMargins().quantile(0.5)).isEqualTo(0.0);
+	}
+
+	@Test
+	@DisplayName("Should merge into the distribution of all matches of both")
+	void add_WhenMergingDistributions_ShouldMatchTheUnion() {
+		// Given
+		ServerDistribution first = new ServerDistribution();
+		ServerDistribution second = new ServerDistribution();
+		List<Double> scores = new ArrayList<>();
+		List<Double> margins = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			(i % 2 == 0 ? first : second).add(match(i, i / 2));
+			scores.addAll(List.of((double) i, (double) (i / 2)));
+			margins.add((double) (i - i / 2));
+		}
+		first.addMatchCounts(List.of(10, 20), ChronoUnit.HOURS);
+		second.addMatchCounts(List.of(30), ChronoUnit.HOURS);
+
+		// When
+		ServerDistribution merged = new ServerDistribution();
+		merged.add(first);
+		merged.add(second);
+
+		// Then
+		assertThat(merged.getScores().size()).isEqualTo(scores.size());
+		assertThat(merged.getMargins().size()).isEqualTo(margins.size());
+		assertThat(merged.getMatchesPerHour().size()).isEqualTo(3);
+		for (double q : new double[]{0.5, 0.9, 0.99}) {
+			assertThat(rank(scores, merged.getScores().quantile(q))).isCloseTo(q, within(rankError(q, scores.size())));
+			assertThat(rank(margins, merged.getMargins().quantile(q))).isCloseTo(q, within(rankError(q, margins.size())));
+		}
+		assertThat(merged.getMatchesPerHour().quantile(0.5)).isCloseTo(20.0, within(5.0));
+	}
+
+	@Test
+	@DisplayName("Should leave the merge target unchanged when merging an empty distribution")
+	void add_WhenMergingEmptyDistribution_ShouldKeepQuantiles() {
+		// Given
+		ServerDistribution distribution = new ServerDistribution();
+		distribution.add(match(10, 2));
+
+		// When
+		distribution.add(new ServerDistribution());
+
+		// Then
+		assertThat(distribution.getScores().size()).isEqualTo(2);
+		assertThat(distribution.getMargins().quantile(0.5)).isEqualTo(8.0);
+	}
+
+	@Test
+	@DisplayName("Should scale bucket match counts to matches per hour")
+	void addMatchCounts_WhenBucketsAreMinutes_ShouldScaleToHours() {
+		// Given
+		ServerDistribution distribution = new ServerDistribution();
+
+		// When
+		distribution.addMatchCounts(List.of(2, 2, 2), ChronoUnit.MINUTES);
+
+		// Then
+		assertThat(distribution.getMatchesPerHour().size()).isEqualTo(3);
+		assertThat(distribution.getMatchesPerHour().quantile(0.5)).isEqualTo(120.0);
+	}
+
+	/**
+	 * Share of {@code values} at or below {@code value}.
+	 */
+	private static double rank(List<Double> values, double value) {
+		return (double) values.stream().filter(v -> v <= value).count() / values.size();
+	}
+
+	/**
+	 * How far off in rank a quantile of {@code n} values may be: the largest centroid the scale function of the
+	 * sketch allows at {@code q}. t-digest bounds its error in rank, tighter towards the tails, not in value.
+	 */
+	private static double rankError(double q, int n) {
+		return ScaleFunction.K_2.max(q, ServerDistribution.COMPRESSION, n);
+	}
+
+	private Match match(int... scores) {
+		Map<String, Integer> playerScores = new LinkedHashMap<>();
+		for (int i = 0; i < scores.length; i++) {
+			playerScores.put("Player" + i, scores[i]);
+		}
+		return Match.builder().id("match").serverEndpoint("server:1").playerScores(playerScores).build();
+	}
+}
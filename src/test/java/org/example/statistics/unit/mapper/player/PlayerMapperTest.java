@@ -42,6 +42,35 @@ class PlayerMapperTest {
 		assertThat(result.getWinRate()).isEqualTo("75%");
 	}
 
+	@Test
+	@DisplayName("Should map exact win and loss counts and the rating")
+	void toPlayerStatsDto_WithRatedPlayer_ShouldMapCountersAndRating() {
+		// Given
+		testPlayer.setWins(3);
+		testPlayer.setLosses(1);
+		testPlayer.setRating(1523.5);
+
+		// When
+		PlayerStatsDto result = playerMapper.toPlayerStatsDto(testPlayer);
+
+		// Then
+		assertThat(result.getWins()).isEqualTo(3);
+		assertThat(result.getLosses()).isEqualTo(1);
+		assertThat(result.getRating()).isEqualTo(1523.5);
+	}
+
+	@Test
+	@DisplayName("Should leave counters and rating empty for an unrated player")
+	void toPlayerStatsDto_WithUnratedPlayer_ShouldMapNulls() {
+		// When
+		PlayerStatsDto result = playerMapper.toPlayerStatsDto(testPlayer);
+
+		// Then
+		assertThat(result.getWins()).isNull();
+		assertThat(result.getLosses()).isNull();
+		assertThat(result.getRating()).isNull();
+	}
+
 	@ParameterizedTest
 	@CsvSource({
 			"0, 0%",
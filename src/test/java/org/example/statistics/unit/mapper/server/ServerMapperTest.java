@@ -1,18 +1,22 @@
 package org.example.statistics.unit.mapper.server;
 
+import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Server;
+import org.example.statistics.domain.ServerDistribution;
 import org.example.statistics.dto.server.ServerStatsDto;
+import org.example.statistics.enums.TimeWindow;
 import org.example.statistics.mapper.server.ServerMapper;
 import org.example.statistics.mapper.server.ServerMapperImpl;
-import org.example.statistics.utils.HelperUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collections;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @DisplayName("ServerMapper Unit Tests")
 class ServerMapperTest {
@@ -28,14 +32,13 @@ class ServerMapperTest {
 		testServer = new Server();
 		testServer.setEndpoint("test.server.com");
 		testServer.setName("Test Server");
-		testServer.setMatchIds(List.of("match1", "match2", "match3"));
 	}
 
 	@Test
 	@DisplayName("Should map Server to ServerStatsDto correctly")
 	void toServerStatsDto_WithValidServer_ShouldMapCorrectly() {
 		// When
-		ServerStatsDto result = serverMapper.toServerStatsDto(testServer);
+		ServerStatsDto result = serverMapper.toServerStatsDto(testServer, 3, 0, TimeWindow.ALL, new ServerDistribution());
 
 		// Then
 		assertThat(result).isNotNull();
@@ -44,26 +47,20 @@ class ServerMapperTest {
 	}
 
 	@Test
-	@DisplayName("Should return zero match count when match IDs is null")
-	void toServerStatsDto_WithNullMatchIds_ShouldReturnZeroMatchCount() {
-		// Given
-		testServer.setMatchIds(null);
-
+	@DisplayName("Should take match count from the counter")
+	void toServerStatsDto_ShouldUseGivenMatchCount() {
 		// When
-		ServerStatsDto result = serverMapper.toServerStatsDto(testServer);
+		ServerStatsDto result = serverMapper.toServerStatsDto(testServer, 42, 0, TimeWindow.ALL, new ServerDistribution());
 
 		// Then
-		assertThat(result.getMatchCount()).isEqualTo(0);
+		assertThat(result.getMatchCount()).isEqualTo(42);
 	}
 
 	@Test
-	@DisplayName("Should return zero match count when match IDs is empty")
-	void toServerStatsDto_WithEmptyMatchIds_ShouldReturnZeroMatchCount() {
-		// Given
-		testServer.setMatchIds(Collections.emptyList());
-
+	@DisplayName("Should return zero match count when counter is zero")
+	void toServerStatsDto_WithZeroCount_ShouldReturnZeroMatchCount() {
 		// When
-		ServerStatsDto result = serverMapper.toServerStatsDto(testServer);
+		ServerStatsDto result = serverMapper.toServerStatsDto(testServer, 0, 0, TimeWindow.ALL, new ServerDistribution());
 
 		// Then
 		assertThat(result.getMatchCount()).isEqualTo(0);
@@ -76,34 +73,54 @@ class ServerMapperTest {
 		testServer.setName(null);
 
 		// When
-		ServerStatsDto result = serverMapper.toServerStatsDto(testServer);
+		ServerStatsDto result = serverMapper.toServerStatsDto(testServer, 3, 0, TimeWindow.ALL, new ServerDistribution());
 
 		// Then
 		assertThat(result.getName()).isNull();
 	}
 
 	@Test
-	@DisplayName("Should use HelperUtils to calculate match count")
-	void toServerStatsDto_ShouldUseHelperUtils() {
+	@DisplayName("Should return null when server is null")
+	void toServerStatsDto_WithNullServer_ShouldReturnNull() {
+		// When
+		ServerStatsDto result = serverMapper.toServerStatsDto(null, 0, 0, null, null);
+
+		// Then
+		assertThat(result).isNull();
+	}
+
+	@Test
+	@DisplayName("Should map the sketched scores, margins and match rate to percentiles")
+	void toServerStatsDto_WithDistribution_ShouldMapQuantiles() {
 		// Given
-		testServer.setMatchIds(List.of("m1", "m2", "m3"));
+		ServerDistribution distribution = new ServerDistribution();
+		for (int i = 1; i <= 100; i++) {
+			distribution.add(Match.builder().playerScores(Map.of("One", i, "Two", i + 5, "Three", 0)).build());
+		}
+		distribution.addMatchCounts(List.of(2, 2, 2), ChronoUnit.MINUTES);
 
 		// When
-		ServerStatsDto result = serverMapper.toServerStatsDto(testServer);
+		ServerStatsDto result = serverMapper.toServerStatsDto(testServer, 100, 3, TimeWindow.HOUR, distribution);
 
 		// Then
-		// Verify that the match count matches what HelperUtils would return
-		int expectedCount = HelperUtils.getServerMatchCount(testServer);
-		assertThat(result.getMatchCount()).isEqualTo(expectedCount);
+		assertThat(result.getWindow()).isEqualTo(TimeWindow.HOUR);
+		assertThat(result.getUniquePlayers()).isEqualTo(3);
+		assertThat(result.getScores().getCount()).isEqualTo(300);
+		assertThat(result.getScores().getP50()).isCloseTo(28.0, within(2.0));
+		assertThat(result.getMargins().getCount()).isEqualTo(100);
+		assertThat(result.getMargins().getP99()).isEqualTo(5.0);
+		assertThat(result.getMatchesPerHour().getP50()).isEqualTo(120.0);
 	}
 
 	@Test
-	@DisplayName("Should return null when server is null")
-	void toServerStatsDto_WithNullServer_ShouldReturnNull() {
+	@DisplayName("Should leave percentiles empty when nothing was sketched")
+	void toServerStatsDto_WithEmptyDistribution_ShouldMapNullPercentiles() {
 		// When
-		ServerStatsDto result = serverMapper.toServerStatsDto(null);
+		ServerStatsDto result = serverMapper.toServerStatsDto(testServer, 0, 0, TimeWindow.DAY, new ServerDistribution());
 
 		// Then
-		assertThat(result).isNull();
+		assertThat(result.getScores().getCount()).isZero();
+		assertThat(result.getScores().getP50()).isNull();
+		assertThat(result.getMatchesPerHour().getP99()).isNull();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package org.example.statistics.unit.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.statistics.domain.Session;
+import org.example.statistics.repository.SessionRepository;
+import org.example.statistics.security.SessionCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionCache Unit Tests")
+class SessionCacheTest {
+
+	@Mock
+	private SessionRepository sessionRepository;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	private MeterRegistry meterRegistry;
+	private SessionCache sessionCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		sessionCache = new SessionCache(sessionRepository, stringRedisTemplate, meterRegistry, 100, Duration.ofMinutes(1));
+	}
+
+	@Test
+	@DisplayName("Should read the session from Redis only once for repeated requests")
+	void isCurrent_WhenCalledRepeatedly_ShouldHitCache() {
+		// Given
+		when(sessionRepository.findByUserName("TestPlayer")).thenReturn(Optional.of(session("sid-1")));
+
+		// When
+		boolean first = sessionCache.isCurrent("TestPlayer", "sid-1");
+		boolean second = sessionCache.isCurrent("TestPlayer", "sid-1");
+
+		// Then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		verify(sessionRepository, times(1)).findByUserName("TestPlayer");
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "sessions").tag("result", "hit").functionCounter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should reload the session when the token carries a different session id")
+	void isCurrent_WhenSessionIdDiffers_ShouldReload() {
+		// Given
+		when(sessionRepository.findByUserName("TestPlayer"))
+				.thenReturn(Optional.of(session("sid-1")))
+				.thenReturn(Optional.of(session("sid-2")));
+		sessionCache.isCurrent("TestPlayer", "sid-1");
+
+		// When
+		boolean current = sessionCache.isCurrent("TestPlayer", "sid-2");
+
+		// Then
+		assertThat(current).isTrue();
+		assertThat(sessionCache.isCurrent("TestPlayer", "sid-1")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should reject a session id when the user has no session")
+	void isCurrent_WhenNoSession_ShouldReturnFalse() {
+		// Given
+		when(sessionRepository.findByUserName("TestPlayer")).thenReturn(Optional.empty());
+
+		// When & Then
+		assertThat(sessionCache.isCurrent("TestPlayer", "sid-1")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should broadcast and drop the cached session on invalidation")
+	void invalidate_ShouldPublishAndDropLocalEntry() {
+		// Given
+		when(sessionRepository.findByUserName("TestPlayer"))
+				.thenReturn(Optional.of(session("sid-1")))
+				.thenReturn(Optional.of(session("sid-2")));
+		sessionCache.isCurrent("TestPlayer", "sid-1");
+
+		// When
+		sessionCache.invalidate("TestPlayer");
+
+		// Then
+		verify(stringRedisTemplate).convertAndSend(SessionCache.INVALIDATION_CHANNEL, "TestPlayer");
+		assertThat(sessionCache.isCurrent("TestPlayer", "sid-1")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should drop the cached session when another node publishes an invalidation")
+	void onMessage_ShouldDropLocalEntry() {
+		// Given
+		when(sessionRepository.findByUserName("TestPlayer"))
+				.thenReturn(Optional.of(session("sid-1")))
+				.thenReturn(Optional.of(session("sid-2")));
+		sessionCache.isCurrent("TestPlayer", "sid-1");
+
+		// When
+		sessionCache.onMessage(new DefaultMessage(
+				SessionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+				"TestPlayer".getBytes(StandardCharsets.UTF_8)), null);
+
+		// Then
+		assertThat(sessionCache.isCurrent("TestPlayer", "sid-1")).isFalse();
+		verify(sessionRepository, times(2)).findByUserName("TestPlayer");
+	}
+
+	private static Session session(String sessionId) {
+		return Session.builder().id("TestPlayer").userName("TestPlayer").sessionId(sessionId).build();
+	}
+}
@@ -0,0 +1,149 @@
+package org.example.statistics.unit.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.statistics.domain.Match;
+import org.example.statistics.dto.match.MatchBatchItemDto;
+import org.example.statistics.dto.match.MatchBatchResultDto;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.example.statistics.service.match.MatchIngestionServiceImpl;
+import org.example.statistics.service.match.MatchRecordingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchIngestionService Unit Tests")
+class MatchIngestionServiceImplTest {
+
+	private static final String VALID = """
+			{"id": "%s", "serverEndpoint": "127.0.0.1:8080", "timestamp": "2024-03-01T10:15:00",
+			 "playerScores": {"PlayerOne": 10, "PlayerTwo": 4}}""";
+
+	@Mock
+	private MatchRecordingService matchRecordingService;
+
+	private MatchIngestionServiceImpl matchIngestionService;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		matchIngestionService = new MatchIngestionServiceImpl(objectMapper, matchRecordingService);
+		ReflectionTestUtils.setField(matchIngestionService, "batchSize", 2);
+	}
+
+	@Test
+	@DisplayName("Should record valid matches in batches and report a result per item")
+	void ingestJsonArray_ShouldRecordInBatches() throws Exception {
+		// Given
+		String body = "[" + VALID.formatted("m1") + "," + VALID.formatted("m2") + "," + VALID.formatted("m3") + "]";
+		when(matchRecordingService.recordAll(anyList())).thenAnswer(invocation ->
+				Collections.nCopies(invocation.<List<Match>>getArgument(0).size(), MatchRecordingResult.RECORDED));
+
+		// When
+		MatchBatchResultDto result = matchIngestionService.ingestJsonArray(stream(body));
+
+		// Then
+		assertThat(result.getRecorded()).isEqualTo(3);
+		assertThat(result.getRejected()).isZero();
+		assertThat(result.getItems()).extracting(MatchBatchItemDto::getId).containsExactly("m1", "m2", "m3");
+		verify(matchRecordingService, times(2)).recordAll(anyList());
+	}
+
+	@Test
+	@DisplayName("Should reject invalid items without rejecting the rest of the batch")
+	void ingestJsonArray_WhenSomeItemsAreInvalid_ShouldRejectOnlyThem() throws Exception {
+		// Given
+		String body = "["
+				+ VALID.formatted("m1") + ","
+				+ "{\"id\": \"m2\", \"timestamp\": \"2024-03-01T10:15:00\", \"playerScores\": {\"PlayerOne\": 1, \"PlayerTwo\": 2}},"
+				+ "{\"id\": \"m3\", \"serverEndpoint\": \"127.0.0.1:8080\", \"timestamp\": \"yesterday\"},"
+				+ VALID.formatted("m4")
+				+ "]";
+		when(matchRecordingService.recordAll(anyList()))
+				.thenReturn(List.of(MatchRecordingResult.RECORDED, MatchRecordingResult.UNKNOWN_PLAYER));
+
+		// When
+		MatchBatchResultDto result = matchIngestionService.ingestJsonArray(stream(body));
+
+		// Then
+		assertThat(result.getItems()).extracting(MatchBatchItemDto::getResult).containsExactly(
+				MatchRecordingResult.RECORDED,
+				MatchRecordingResult.INVALID,
+				MatchRecordingResult.INVALID,
+				MatchRecordingResult.UNKNOWN_PLAYER);
+		assertThat(result.getItems().get(1).getError()).isEqualTo("serverEndpoint is required");
+		assertThat(result.getItems().get(2).getId()).isEqualTo("m3");
+		assertThat(result.getRecorded()).isEqualTo(1);
+		assertThat(result.getRejected()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("Should generate an id for matches sent without one")
+	void ingestJsonArray_WhenIdMissing_ShouldGenerateId() throws Exception {
+		// Given
+		String body = "[" + VALID.replace("\"id\": \"%s\", ", "") + "]";
+		when(matchRecordingService.recordAll(anyList())).thenReturn(List.of(MatchRecordingResult.RECORDED));
+
+		// When
+		MatchBatchResultDto result = matchIngestionService.ingestJsonArray(stream(body));
+
+		// Then
+		assertThat(result.getItems().getFirst().getId()).isNotBlank();
+		assertThat(result.getRecorded()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when body is not an array")
+	void ingestJsonArray_WhenBodyIsNotArray_ShouldThrowIllegalArgumentException() {
+		// When & Then
+		assertThatThrownBy(() -> matchIngestionService.ingestJsonArray(stream(VALID.formatted("m1"))))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		verify(matchRecordingService, never()).recordAll(anyList());
+	}
+
+	@Test
+	@DisplayName("Should report malformed NDJSON lines and record the others")
+	void ingestNdjson_WhenLineIsMalformed_ShouldRejectOnlyThatLine() throws Exception {
+		// Given
+		String body = VALID.formatted("m1").replace("\n", "") + "\n"
+				+ "{not json\n"
+				+ "\n"
+				+ VALID.formatted("m2").replace("\n", "") + "\n";
+		when(matchRecordingService.recordAll(anyList()))
+				.thenReturn(List.of(MatchRecordingResult.RECORDED, MatchRecordingResult.DUPLICATE));
+
+		// When
+		MatchBatchResultDto result = matchIngestionService.ingestNdjson(stream(body));
+
+		// Then
+		assertThat(result.getItems()).extracting(MatchBatchItemDto::getResult).containsExactly(
+				MatchRecordingResult.RECORDED,
+				MatchRecordingResult.INVALID,
+				MatchRecordingResult.DUPLICATE);
+		assertThat(result.getDuplicates()).isEqualTo(1);
+	}
+
+	private static InputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,158 @@
+package org.example.statistics.unit.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.statistics.domain.Match;
+import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.service.match.MatchListingWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchListingWriter Unit Tests")
+class MatchListingWriterTest {
+
+	private static final List<String> IDS = IntStream.rangeClosed(1, 5).mapToObj(i -> "m" + i).toList();
+
+	@Mock
+	private MatchRepository matchRepository;
+
+	private ObjectMapper objectMapper;
+	private MatchListingWriter matchListingWriter;
+	private ByteArrayOutputStream out;
+	private List<Integer> requestedChunks;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		matchListingWriter = new MatchListingWriter(matchRepository, objectMapper, 2);
+		out = new ByteArrayOutputStream();
+		requestedChunks = new ArrayList<>();
+	}
+
+	@Test
+	@DisplayName("Should write every match on its own line, reading the ids in chunks")
+	void write_ShouldWriteOneMatchPerLineInChunks() throws Exception {
+		// Given
+		stubMatches();
+
+		// When
+		long written = matchListingWriter.write(out, Long.MAX_VALUE, this::nextIds);
+
+		// Then
+		assertThat(written).isEqualTo(5);
+		assertThat(lines()).extracting(line -> objectMapper.readValue(line, Match.class).getId()).containsExactlyElementsOf(IDS);
+		// The last chunk is shorter than requested, so no empty chunk is read after it
+		assertThat(requestedChunks).containsExactly(2, 2, 2);
+	}
+
+	@Test
+	@DisplayName("Should start every line with its match rather than a root value separator")
+	void write_ShouldNotSeparateLinesWithSpaces() throws Exception {
+		// Given
+		stubMatches();
+
+		// When
+		matchListingWriter.write(out, 3, this::nextIds);
+
+		// Then
+		assertThat(lines()).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{"));
+	}
+
+	@Test
+	@DisplayName("Should write nothing until a deferred listing is given a stream")
+	void listing_ShouldWriteOnlyWhenWrittenTo() throws Exception {
+		// Given
+		stubMatches();
+		MatchListingWriter.Listing listing = matchListingWriter.listing(2, this::nextIds);
+		assertThat(requestedChunks).isEmpty();
+
+		// When
+		listing.writeTo(out);
+
+		// Then
+		assertThat(lines()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Should stop at the limit and only read the ids it needs")
+	void write_WithLimit_ShouldStopAtLimit() throws Exception {
+		// Given
+		stubMatches();
+
+		// When
+		long written = matchListingWriter.write(out, 3, this::nextIds);
+
+		// Then
+		assertThat(written).isEqualTo(3);
+		assertThat(lines()).hasSize(3);
+		assertThat(requestedChunks).containsExactly(2, 1);
+	}
+
+	@Test
+	@DisplayName("Should write nothing for an empty listing")
+	void write_WhenNoIds_ShouldWriteNothing() throws Exception {
+		// When
+		long written = matchListingWriter.write(out, Long.MAX_VALUE, (afterId, count) -> List.of());
+
+		// Then
+		assertThat(written).isZero();
+		assertThat(out.toByteArray()).isEmpty();
+		verify(matchRepository, never()).findAllByIdPipelined(anyCollection());
+	}
+
+	@Test
+	@DisplayName("Should end the listing when the id source stops")
+	void write_WhenIdSourceEnds_ShouldStop() throws Exception {
+		// Given
+		stubMatches();
+
+		// When
+		long written = matchListingWriter.write(out, Long.MAX_VALUE, (afterId, count) -> afterId == null ? List.of("m1", "m2") : null);
+
+		// Then
+		assertThat(written).isEqualTo(2);
+	}
+
+	private List<String> nextIds(String afterId, int count) {
+		requestedChunks.add(count);
+		int from = afterId == null ? 0 : IDS.indexOf(afterId) + 1;
+		return IDS.subList(from, Math.min(from + count, IDS.size()));
+	}
+
+	private void stubMatches() {
+		when(matchRepository.findAllByIdPipelined(anyCollection())).thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0)
+				.stream()
+				.map(id -> Match.builder()
+						.id(id)
+						.serverEndpoint("127.0.0.1:8080")
+						.timestamp(LocalDateTime.of(2024, 3, 1, 10, 15))
+						.playerScores(Map.of("PlayerOne", 10))
+						.build())
+				.toList());
+	}
+
+	private List<String> lines() {
+		return out.toString(StandardCharsets.UTF_8).lines().toList();
+	}
+}
@@ -0,0 +1,135 @@
+package org.example.statistics.unit.service.match;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.MatchOutcome;
+import org.example.statistics.domain.MatchesRecordedEvent;
+import org.example.statistics.enums.MatchRecordingResult;
+import org.example.statistics.repository.MatchRecordingRepository;
+import org.example.statistics.service.match.MatchRecordingServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchRecordingService Unit Tests")
+class MatchRecordingServiceImplTest {
+
+	@Mock
+	private MatchRecordingRepository matchRecordingRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private MatchRecordingServiceImpl matchRecordingService;
+
+	@Test
+	@DisplayName("Should credit the highest score as the win")
+	void record_ShouldCreditHighestScoreAsWinner() {
+		// Given
+		Match match = match(Map.entry("PlayerOne", 5), Map.entry("PlayerTwo", 12));
+		when(matchRecordingRepository.record(any())).thenReturn(MatchRecordingResult.RECORDED);
+
+		// When
+		MatchRecordingResult result = matchRecordingService.record(match);
+
+		// Then
+		assertThat(result).isEqualTo(MatchRecordingResult.RECORDED);
+		verify(matchRecordingRepository).record(new MatchOutcome(match, "PlayerTwo", Map.of("PlayerOne", 30, "PlayerTwo", 100)));
+		verify(eventPublisher).publishEvent(new MatchesRecordedEvent(List.of(match)));
+	}
+
+	@Test
+	@DisplayName("Should give a tie to the player listed first")
+	void record_WhenScoresTie_ShouldCreditFirstPlayer() {
+		// Given
+		Match match = match(Map.entry("PlayerOne", 7), Map.entry("PlayerTwo", 7));
+		when(matchRecordingRepository.record(any())).thenReturn(MatchRecordingResult.RECORDED);
+
+		// When
+		matchRecordingService.record(match);
+
+		// Then
+		verify(matchRecordingRepository).record(new MatchOutcome(match, "PlayerOne", Map.of("PlayerOne", 100, "PlayerTwo", 30)));
+	}
+
+	@Test
+	@DisplayName("Should pass through the repository result")
+	void record_WhenRepositoryRejects_ShouldReturnItsResult() {
+		// Given
+		Match match = match(Map.entry("PlayerOne", 1), Map.entry("Unknown", 2));
+		when(matchRecordingRepository.record(any())).thenReturn(MatchRecordingResult.UNKNOWN_PLAYER);
+
+		// When
+		MatchRecordingResult result = matchRecordingService.record(match);
+
+		// Then
+		assertThat(result).isEqualTo(MatchRecordingResult.UNKNOWN_PLAYER);
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when match has no players")
+	void record_WhenNoPlayers_ShouldThrowIllegalArgumentException() {
+		// Given
+		Match match = match();
+
+		// When & Then
+		assertThatThrownBy(() -> matchRecordingService.record(match))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		verify(matchRecordingRepository, never()).record(any());
+	}
+
+	@Test
+	@DisplayName("Should record every match of a batch in one call, keeping the order")
+	void recordAll_ShouldRecordOutcomesInOrder() {
+		// Given
+		Match first = match(Map.entry("PlayerOne", 3), Map.entry("PlayerTwo", 1));
+		Match second = match(Map.entry("PlayerOne", 0), Map.entry("PlayerThree", 9));
+		when(matchRecordingRepository.recordAll(anyList()))
+				.thenReturn(List.of(MatchRecordingResult.RECORDED, MatchRecordingResult.DUPLICATE));
+
+		// When
+		List<MatchRecordingResult> results = matchRecordingService.recordAll(List.of(first, second));
+
+		// Then
+		assertThat(results).containsExactly(MatchRecordingResult.RECORDED, MatchRecordingResult.DUPLICATE);
+		verify(matchRecordingRepository).recordAll(List.of(
+				new MatchOutcome(first, "PlayerOne", Map.of("PlayerOne", 100, "PlayerTwo", 30)),
+				new MatchOutcome(second, "PlayerThree", Map.of("PlayerOne", 30, "PlayerThree", 100))));
+		verify(eventPublisher).publishEvent(new MatchesRecordedEvent(List.of(first)));
+	}
+
+	@SafeVarargs
+	private static Match match(Map.Entry<String, Integer>... scores) {
+		Map<String, Integer> playerScores = new LinkedHashMap<>();
+		for (Map.Entry<String, Integer> score : scores) {
+			playerScores.put(score.getKey(), score.getValue());
+		}
+
+		return Match.builder()
+				.id("match1")
+				.serverEndpoint("127.0.0.1:8080")
+				.timestamp(LocalDateTime.now())
+				.playerScores(playerScores)
+				.build();
+	}
+}
@@ -0,0 +1,81 @@
+package org.example.statistics.unit.service.match;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.enums.StreamOverflowPolicy;
+import org.example.statistics.service.match.MatchSubscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MatchSubscription Unit Tests")
+class MatchSubscriptionTest {
+
+	@Test
+	@DisplayName("Should accept only matches on the requested server with the requested player")
+	void accepts_ShouldApplyServerAndPlayerFilters() {
+		// Given
+		MatchSubscription any = new MatchSubscription(null, null, 4, StreamOverflowPolicy.DROP_OLDEST);
+		MatchSubscription server = new MatchSubscription("eu-1.game.net", null, 4, StreamOverflowPolicy.DROP_OLDEST);
+		MatchSubscription both = new MatchSubscription("eu-1.game.net", "PlayerOne", 4, StreamOverflowPolicy.DROP_OLDEST);
+
+		// When
+		Match onServer = match("eu-1.game.net", "PlayerTwo");
+		Match elsewhere = match("us-1.game.net", "PlayerOne");
+
+		// Then
+		assertThat(any.accepts(onServer)).isTrue();
+		assertThat(any.accepts(elsewhere)).isTrue();
+		assertThat(server.accepts(onServer)).isTrue();
+		assertThat(server.accepts(elsewhere)).isFalse();
+		assertThat(both.accepts(onServer)).isFalse();
+		assertThat(both.accepts(match("eu-1.game.net", "PlayerOne"))).isTrue();
+	}
+
+	@Test
+	@DisplayName("Should evict the oldest match when the buffer is full and count it")
+	void offer_WhenFullAndDropOldest_ShouldKeepNewest() throws Exception {
+		// Given
+		MatchSubscription subscription = new MatchSubscription(null, null, 2, StreamOverflowPolicy.DROP_OLDEST);
+
+		// When
+		boolean first = subscription.offer("1");
+		boolean second = subscription.offer("2");
+		boolean third = subscription.offer("3");
+
+		// Then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		assertThat(third).isFalse();
+		assertThat(subscription.poll(Duration.ZERO)).isEqualTo("2");
+		assertThat(subscription.poll(Duration.ZERO)).isEqualTo("3");
+		assertThat(subscription.takeDropped()).isEqualTo(1);
+		assertThat(subscription.takeDropped()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should discard the incoming match when the buffer is full and count it")
+	void offer_WhenFullAndDropNewest_ShouldKeepOldest() throws Exception {
+		// Given
+		MatchSubscription subscription = new MatchSubscription(null, null, 2, StreamOverflowPolicy.DROP_NEWEST);
+
+		// When
+		subscription.offer("1");
+		subscription.offer("2");
+		boolean third = subscription.offer("3");
+
+		// Then
+		assertThat(third).isFalse();
+		assertThat(subscription.poll(Duration.ZERO)).isEqualTo("1");
+		assertThat(subscription.poll(Duration.ZERO)).isEqualTo("2");
+		assertThat(subscription.poll(Duration.ZERO)).isNull();
+		assertThat(subscription.takeDropped()).isEqualTo(1);
+	}
+
+	private static Match match(String endpoint, String playerName) {
+		return Match.builder().serverEndpoint(endpoint).playerScores(Map.of(playerName, 1, "Other", 2)).build();
+	}
+}
@@ -0,0 +1,103 @@
+package org.example.statistics.unit.service.player;
+
+import org.example.statistics.service.player.EloRating;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("EloRating Unit Tests")
+class EloRatingTest {
+
+	private EloRating eloRating;
+	private Map<String, Double> ratings;
+
+	@BeforeEach
+	void setUp() {
+		eloRating = new EloRating(1500, 32);
+		ratings = new HashMap<>();
+	}
+
+	@Test
+	@DisplayName("Should move half the k-factor between new players of equal rating")
+	void apply_WhenNewPlayersMeet_ShouldUseInitialRating() {
+		// When
+		eloRating.apply(scores("Winner", 10, "Loser", 5), ratings);
+
+		// Then
+		assertThat(ratings).containsEntry("Winner", 1516.0).containsEntry("Loser", 1484.0);
+	}
+
+	@Test
+	@DisplayName("Should gain little for beating a much weaker player")
+	void apply_WhenFavouriteWins_ShouldChangeRatingsSlightly() {
+		// Given
+		ratings.put("Strong", 1900.0);
+		ratings.put("Weak", 1500.0);
+
+		// When
+		eloRating.apply(scores("Strong", 10, "Weak", 5), ratings);
+
+		// Then
+		// The favourite is expected to win with 10/11 probability
+		assertThat(ratings.get("Strong")).isCloseTo(1900 + 32.0 / 11, within(1e-9));
+		assertThat(ratings.get("Weak")).isCloseTo(1500 - 32.0 / 11, within(1e-9));
+	}
+
+	@Test
+	@DisplayName("Should leave equal ratings unchanged on a draw")
+	void apply_WhenScoresTie_ShouldCountAsDraw() {
+		// Given
+		ratings.put("One", 1600.0);
+		ratings.put("Two", 1600.0);
+
+		// When
+		eloRating.apply(scores("One", 7, "Two", 7), ratings);
+
+		// Then
+		assertThat(ratings).containsEntry("One", 1600.0).containsEntry("Two", 1600.0);
+	}
+
+	@Test
+	@DisplayName("Should conserve the rating sum of a multi-player match")
+	void apply_WithSeveralPlayers_ShouldConserveRatingSum() {
+		// Given
+		ratings.put("First", 1550.0);
+		ratings.put("Second", 1450.0);
+		Map<String, Integer> playerScores = new LinkedHashMap<>();
+		playerScores.put("First", 3);
+		playerScores.put("Second", 9);
+		playerScores.put("Third", 6);
+
+		// When
+		eloRating.apply(playerScores, ratings);
+
+		// Then
+		assertThat(ratings.values().stream().mapToDouble(Double::doubleValue).sum()).isCloseTo(4500, within(1e-9));
+		assertThat(ratings.get("Second")).isGreaterThan(1450.0);
+		assertThat(ratings.get("First")).isLessThan(1550.0);
+	}
+
+	@Test
+	@DisplayName("Should not rate a match without an opponent")
+	void apply_WithSinglePlayer_ShouldNotChangeRatings() {
+		// When
+		eloRating.apply(Map.of("Alone", 20), ratings);
+
+		// Then
+		assertThat(ratings).isEmpty();
+	}
+
+	private static Map<String, Integer> scores(String first, int firstScore, String second, int secondScore) {
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put(first, firstScore);
+		scores.put(second, secondScore);
+		return scores;
+	}
+}
@@ -5,9 +5,11 @@ import org.example.statistics.domain.Player;
 import org.example.statistics.dto.player.PlayerStatsDto;
 import org.example.statistics.exception.EntityNotFoundException;
 import org.example.statistics.mapper.player.PlayerMapper;
+import org.example.statistics.repository.MatchIndexRepository;
 import org.example.statistics.repository.MatchRepository;
 import org.example.statistics.repository.PlayerRepository;
 import org.example.statistics.service.player.PlayerServiceImpl;
+import org.example.statistics.utils.PageCursor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,17 +17,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -39,9 +52,15 @@ class PlayerServiceImplTest {
 	@Mock
 	private MatchRepository matchRepository;
 
+	@Mock
+	private MatchIndexRepository matchIndexRepository;
+
 	@Mock
 	private PlayerMapper playerMapper;
 
+	@Spy
+	private Executor applicationTaskExecutor = new SyncTaskExecutor();
+
 	@InjectMocks
 	private PlayerServiceImpl playerService;
 
@@ -62,6 +81,9 @@ class PlayerServiceImplTest {
 		when(authentication.getName()).thenReturn("TestPlayer");
 		SecurityContextHolder.setContext(securityContext);
 
+		ReflectionTestUtils.setField(playerService, "defaultLimit", 20);
+		ReflectionTestUtils.setField(playerService, "maxLimit", 100);
+
 		testPlayer = new Player();
 		testPlayer.setName("TestPlayer");
 		testPlayer.setTotalScore(1000);
@@ -84,43 +106,71 @@ class PlayerServiceImplTest {
 		SecurityContextHolder.clearContext();
 	}
 
+	/**
+	 * Stubs the player's match index; ids are given newest first and scored 3000, 2000, 1000...
+	 */
+	private void stubIndex(String... newestFirst) {
+		List<TypedTuple<String>> matches = new ArrayList<>();
+		for (int i = 0; i < newestFirst.length; i++) {
+			matches.add(TypedTuple.of(newestFirst[i], (newestFirst.length - i) * 1000.0));
+		}
+		stubIndex(matches);
+	}
+
+	/**
+	 * Stubs the player's match index with the given matches, newest first.
+	 */
+	private void stubIndex(List<TypedTuple<String>> matches) {
+		lenient().when(matchIndexRepository.findPlayerMatches(eq("TestPlayer"), anyInt()))
+				.thenAnswer(invocation -> matches.stream().limit(invocation.<Integer>getArgument(1)).toList());
+		lenient().when(matchIndexRepository.findPlayerMatchesAfter(eq("TestPlayer"), anyString(), anyLong(), anyInt()))
+				.thenAnswer(invocation -> {
+					String afterId = invocation.getArgument(1);
+					long afterTimestamp = invocation.getArgument(2);
+					int count = invocation.getArgument(3);
+					int rank = matches.indexOf(TypedTuple.of(afterId, (double) afterTimestamp));
+					return rank < 0 ? null : matches.stream().skip(rank + 1).limit(count).toList();
+				});
+	}
+
 	@Test
 	@DisplayName("Should return player stats when player exists with matches")
 	void getStats_WhenPlayerExistsWithMatches_ShouldReturnPlayerStatsWithMatches() {
 		// Given
 		List<String> matchIds = List.of("match1", "match2");
-		testPlayer.setMatchIds(matchIds);
+		stubIndex("match2", "match1");
 
 		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
 		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
-		when(matchRepository.findById("match1")).thenReturn(Optional.of(testMatch1));
-		when(matchRepository.findById("match2")).thenReturn(Optional.of(testMatch2));
+		when(matchRepository.findAllByIdPipelined(matchIds)).thenReturn(List.of(testMatch1, testMatch2));
 
 		// When
-		PlayerStatsDto result = playerService.getStats("TestPlayer");
+		PlayerStatsDto result = playerService.getStats("TestPlayer", null, null);
 
 		// Then
 		assertThat(result).isNotNull();
 		assertThat(result.getName()).isEqualTo("TestPlayer");
 		assertThat(result.getRecentMatches()).hasSize(2);
 		assertThat(result.getRecentMatches()).containsExactly(testMatch1, testMatch2);
+		assertThat(result.getNextCursor()).isNull();
 
 		verify(playerRepository).findById(eq("TestPlayer"));
 		verify(playerMapper).toPlayerStatsDto(testPlayer);
-		verify(matchRepository, times(2)).findById(anyString());
+		verify(matchRepository).findAllByIdPipelined(matchIds);
+		verify(matchRepository, never()).findById(anyString());
 	}
 
 	@Test
 	@DisplayName("Should return player stats with empty matches when player has no match IDs")
 	void getStats_WhenPlayerHasNoMatchIds_ShouldReturnPlayerStatsWithEmptyMatches() {
 		// Given
-		testPlayer.setMatchIds(null);
+		stubIndex();
 
 		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
 		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
 
 		// When
-		PlayerStatsDto result = playerService.getStats("TestPlayer");
+		PlayerStatsDto result = playerService.getStats("TestPlayer", null, null);
 
 		// Then
 		assertThat(result).isNotNull();
@@ -129,7 +179,7 @@ class PlayerServiceImplTest {
 
 		verify(playerRepository).findById(eq("TestPlayer"));
 		verify(playerMapper).toPlayerStatsDto(testPlayer);
-		verify(matchRepository, never()).findById(anyString());
+		verify(matchRepository, never()).findAllByIdPipelined(anyCollection());
 	}
 
 	@Test
@@ -137,73 +187,215 @@ class PlayerServiceImplTest {
 	void getStats_WhenSomeMatchesDoNotExist_ShouldFilterThemOut() {
 		// Given
 		List<String> matchIds = List.of("match1", "nonexistent", "match2");
-		testPlayer.setMatchIds(matchIds);
+		stubIndex("match2", "nonexistent", "match1");
 
 		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
 		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
-		when(matchRepository.findById("match1")).thenReturn(Optional.of(testMatch1));
-		when(matchRepository.findById("nonexistent")).thenReturn(Optional.empty());
-		when(matchRepository.findById("match2")).thenReturn(Optional.of(testMatch2));
+		when(matchRepository.findAllByIdPipelined(matchIds)).thenReturn(List.of(testMatch1, testMatch2));
 
 		// When
-		PlayerStatsDto result = playerService.getStats("TestPlayer");
+		PlayerStatsDto result = playerService.getStats("TestPlayer", null, null);
 
 		// Then
 		assertThat(result).isNotNull();
 		assertThat(result.getRecentMatches()).hasSize(2);
 		assertThat(result.getRecentMatches()).containsExactly(testMatch1, testMatch2);
 
-		verify(matchRepository, times(3)).findById(anyString());
+		verify(matchRepository).findAllByIdPipelined(matchIds);
 	}
 
 	@Test
 	@DisplayName("Should throw EntityNotFoundException when player does not exist")
 	void getStats_WhenPlayerDoesNotExist_ShouldThrowEntityNotFoundException() {
 		// Given
+		doReturn(List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))).when(authentication).getAuthorities();
 		when(playerRepository.findById("NonExistentPlayer")).thenReturn(Optional.empty());
 
 		// When & Then
-		assertThatThrownBy(() -> playerService.getStats("NonExistentPlayer"))
+		assertThatThrownBy(() -> playerService.getStats("NonExistentPlayer", null, null))
 				.isInstanceOf(EntityNotFoundException.class)
-				.hasMessage("Bad request");
+				.hasMessage("Player not found");
 
 		verify(playerRepository).findById("NonExistentPlayer");
 		verify(playerMapper, never()).toPlayerStatsDto(any());
-		verify(matchRepository, never()).findById(anyString());
+		verify(matchRepository, never()).findAllByIdPipelined(anyCollection());
 	}
 
 	@Test
-	@DisplayName("Should preserve match order from player's match IDs")
-	void getStats_ShouldPreserveMatchOrder() {
+	@DisplayName("Should reject another player's name before reading anything, whether or not the player exists")
+	void getStats_WhenNonOwnerAsksForUnknownPlayer_ShouldNotTouchRepositories() {
+		// When & Then
+		assertThatThrownBy(() -> playerService.getStats("NonExistentPlayer", null, null))
+				.isInstanceOf(EntityNotFoundException.class)
+				.hasMessage("Bad request");
+
+		verifyNoInteractions(playerRepository, matchIndexRepository, matchRepository, playerMapper);
+	}
+
+	@Test
+	@DisplayName("Should return matches oldest first")
+	void getStats_ShouldReturnMatchesInChronologicalOrder() {
 		// Given
 		List<String> matchIds = List.of("match2", "match1");
-		testPlayer.setMatchIds(matchIds);
+		stubIndex("match1", "match2");
 
 		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
 		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
-		when(matchRepository.findById("match2")).thenReturn(Optional.of(testMatch2));
-		when(matchRepository.findById("match1")).thenReturn(Optional.of(testMatch1));
+		when(matchRepository.findAllByIdPipelined(matchIds)).thenReturn(List.of(testMatch2, testMatch1));
 
 		// When
-		PlayerStatsDto result = playerService.getStats("TestPlayer");
+		PlayerStatsDto result = playerService.getStats("TestPlayer", null, null);
 
 		// Then
 		assertThat(result.getRecentMatches()).containsExactly(testMatch2, testMatch1);
 	}
 
+	@Test
+	@DisplayName("Should return the latest page and a cursor to the older matches")
+	void getStats_WhenMoreMatchesThanLimit_ShouldReturnLatestPageWithCursor() {
+		// Given
+		stubIndex("match2", "match1", "match0");
+
+		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
+		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
+		when(matchRepository.findAllByIdPipelined(List.of("match1", "match2"))).thenReturn(List.of(testMatch1, testMatch2));
+
+		// When
+		PlayerStatsDto result = playerService.getStats("TestPlayer", 2, null);
+
+		// Then
+		assertThat(result.getRecentMatches()).containsExactly(testMatch1, testMatch2);
+		assertThat(PageCursor.decode(result.getNextCursor())).isEqualTo("2000:match1");
+	}
+
+	@Test
+	@DisplayName("Should return the page before the cursor and no cursor on the last page")
+	void getStats_WhenCursorGiven_ShouldReturnOlderPage() {
+		// Given
+		Match testMatch0 = new Match();
+		testMatch0.setId("match0");
+		stubIndex("match2", "match1", "match0");
+
+		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
+		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
+		when(matchRepository.findAllByIdPipelined(List.of("match0"))).thenReturn(List.of(testMatch0));
+
+		// When
+		PlayerStatsDto result = playerService.getStats("TestPlayer", 2, PageCursor.encode("2000:match1"));
+
+		// Then
+		assertThat(result.getRecentMatches()).containsExactly(testMatch0);
+		assertThat(result.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("Should continue after the cursor match when several matches share its timestamp")
+	void getStats_WhenPageEndsWithinSameTimestamp_ShouldNotSkipMatches() {
+		// Given
+		Match testMatch3 = new Match();
+		testMatch3.setId("match3");
+		stubIndex(List.of(TypedTuple.of("match3", 2000.0), TypedTuple.of("match2", 1000.0),
+				TypedTuple.of("match1", 1000.0)));
+
+		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
+		// A DTO per call, so the second page does not overwrite the first
+		when(playerMapper.toPlayerStatsDto(testPlayer)).thenAnswer(invocation -> new PlayerStatsDto());
+		when(matchRepository.findAllByIdPipelined(List.of("match2", "match3"))).thenReturn(List.of(testMatch2, testMatch3));
+		when(matchRepository.findAllByIdPipelined(List.of("match1"))).thenReturn(List.of(testMatch1));
+
+		// When
+		PlayerStatsDto first = playerService.getStats("TestPlayer", 2, null);
+		PlayerStatsDto second = playerService.getStats("TestPlayer", 2, first.getNextCursor());
+
+		// Then
+		assertThat(second).isNotSameAs(first);
+		assertThat(first.getRecentMatches()).containsExactly(testMatch2, testMatch3);
+		// The cursor names the match it stopped at, not only its timestamp, which match1 shares
+		assertThat(PageCursor.decode(first.getNextCursor())).isEqualTo("1000:match2");
+		assertThat(second.getRecentMatches()).containsExactly(testMatch1);
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when the cursor match is not in the index")
+	void getStats_WhenCursorMatchUnknown_ShouldThrowIllegalArgumentException() {
+		// Given
+		stubIndex("match2", "match1");
+
+		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
+		lenient().when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
+
+		// When & Then
+		assertThatThrownBy(() -> playerService.getStats("TestPlayer", 2, PageCursor.encode("2000:missing")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid cursor");
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when the cursor cannot be decoded")
+	void getStats_WhenCursorMalformed_ShouldThrowIllegalArgumentException() {
+		// When & Then
+		assertThatThrownBy(() -> playerService.getStats("TestPlayer", 2, PageCursor.encode("2000")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid cursor");
+
+		verifyNoInteractions(playerRepository, matchIndexRepository);
+	}
+
+	@Test
+	@DisplayName("Should fail with the exception of the match index read itself")
+	void getStats_WhenMatchIndexReadFails_ShouldThrowItUnwrapped() {
+		// Given
+		when(matchIndexRepository.findPlayerMatches("TestPlayer", 21))
+				.thenThrow(new RedisConnectionFailureException("Redis is down"));
+		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
+
+		// When & Then
+		assertThatThrownBy(() -> playerService.getStats("TestPlayer", null, null))
+				.isInstanceOf(RedisConnectionFailureException.class)
+				.hasMessage("Redis is down");
+	}
+
+	@Test
+	@DisplayName("Should cap the page size at the configured maximum")
+	void getStats_WhenLimitAboveMax_ShouldCapPageSize() {
+		// Given
+		ReflectionTestUtils.setField(playerService, "maxLimit", 1);
+		stubIndex("match2", "match1");
+
+		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
+		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(testPlayerStatsDto);
+		when(matchRepository.findAllByIdPipelined(List.of("match2"))).thenReturn(List.of(testMatch2));
+
+		// When
+		PlayerStatsDto result = playerService.getStats("TestPlayer", 50, null);
+
+		// Then
+		assertThat(result.getRecentMatches()).containsExactly(testMatch2);
+		assertThat(PageCursor.decode(result.getNextCursor())).isEqualTo("2000:match2");
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when limit is not positive")
+	void getStats_WhenLimitNotPositive_ShouldThrowIllegalArgumentException() {
+		// When & Then
+		assertThatThrownBy(() -> playerService.getStats("TestPlayer", 0, null))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		verifyNoInteractions(playerRepository, matchIndexRepository, matchRepository);
+	}
+
 	@Test
 	@DisplayName("Should throw EntityNotFoundException when authenticated user doesn't match player name")
 	void getStats_WhenAuthenticatedUserDoesNotMatchPlayerName_ShouldThrowException() {
 		// Given
 		when(authentication.getName()).thenReturn("DifferentUser");
-		when(playerRepository.findById("TestPlayer")).thenReturn(Optional.of(testPlayer));
 
 		// When & Then
-		assertThatThrownBy(() -> playerService.getStats("TestPlayer"))
+		assertThatThrownBy(() -> playerService.getStats("TestPlayer", null, null))
 				.isInstanceOf(EntityNotFoundException.class)
 				.hasMessage("Bad request");
 
-		verify(playerRepository).findById("TestPlayer");
-		verify(playerMapper, never()).toPlayerStatsDto(any());
+		verifyNoInteractions(playerRepository, matchIndexRepository, playerMapper);
 	}
 }
\ No newline at end of file
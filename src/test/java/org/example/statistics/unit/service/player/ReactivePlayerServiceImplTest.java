@@ -0,0 +1,153 @@
+package org.example.statistics.unit.service.player;
+
+import org.example.statistics.domain.Match;
+import org.example.statistics.domain.Player;
+import org.example.statistics.dto.player.PlayerStatsDto;
+import org.example.statistics.exception.EntityNotFoundException;
+import org.example.statistics.mapper.player.PlayerMapper;
+import org.example.statistics.repository.ReactiveIndexRepository;
+import org.example.statistics.repository.ReactiveRedisBatchReader;
+import org.example.statistics.service.player.ReactivePlayerServiceImpl;
+import org.example.statistics.utils.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactivePlayerService Unit Tests")
+class ReactivePlayerServiceImplTest {
+
+	@Mock
+	private ReactiveRedisBatchReader reactiveRedisBatchReader;
+
+	@Mock
+	private ReactiveIndexRepository reactiveIndexRepository;
+
+	@Mock
+	private PlayerMapper playerMapper;
+
+	@InjectMocks
+	private ReactivePlayerServiceImpl reactivePlayerService;
+
+	private Player testPlayer;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(reactivePlayerService, "defaultLimit", 20);
+		ReflectionTestUtils.setField(reactivePlayerService, "maxLimit", 100);
+
+		testPlayer = new Player();
+		testPlayer.setName("TestPlayer");
+	}
+
+	@Test
+	@DisplayName("Should return the latest page oldest first, with a cursor to the older matches")
+	void getStats_WhenMoreMatchesThanLimit_ShouldReturnLatestPageWithCursor() {
+		// Given
+		Match match1 = match("match1");
+		Match match2 = match("match2");
+		PlayerStatsDto playerStatsDto = new PlayerStatsDto();
+
+		when(reactiveRedisBatchReader.findById(Player.class, "TestPlayer")).thenReturn(Mono.just(testPlayer));
+		when(reactiveIndexRepository.findPlayerMatches("TestPlayer", 3))
+				.thenReturn(Flux.just(tuple("match2", 2000), tuple("match1", 1000), tuple("match0", 500)));
+		when(playerMapper.toPlayerStatsDto(testPlayer)).thenReturn(playerStatsDto);
+		when(reactiveRedisBatchReader.findAllById(eq(Match.class), any())).thenAnswer(invocation -> {
+			Flux<String> ids = invocation.getArgument(1);
+			return ids.map(this::match);
+		});
+
+		// When
+		Mono<PlayerStatsDto> result = reactivePlayerService.getStats("TestPlayer", 2, null)
+				.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("TestPlayer", "ROLE_PLAYER")));
+
+		// Then
+		StepVerifier.create(result)
+				.assertNext(stats -> {
+					assertThat(stats.getRecentMatches()).containsExactly(match1, match2);
+					assertThat(PageCursor.decode(stats.getNextCursor())).isEqualTo("1000:match1");
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Should report a missing player as a bad request to non-admins")
+	void getStats_WhenPlayerDoesNotExist_ShouldFailWithEntityNotFoundException() {
+		// Given
+		when(reactiveRedisBatchReader.findById(Player.class, "Missing")).thenReturn(Mono.empty());
+		when(reactiveIndexRepository.findPlayerMatches("Missing", 21)).thenReturn(Flux.empty());
+
+		// When
+		Mono<PlayerStatsDto> result = reactivePlayerService.getStats("Missing", null, null)
+				.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("Missing", "ROLE_PLAYER")));
+
+		// Then
+		StepVerifier.create(result)
+				.expectErrorSatisfies(error -> assertThat(error)
+						.isInstanceOf(EntityNotFoundException.class)
+						.hasMessage("Bad request"))
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Should refuse the stats of another player to non-admins")
+	void getStats_WhenAuthenticatedUserDoesNotMatchPlayerName_ShouldFail() {
+		// When
+		Mono<PlayerStatsDto> result = reactivePlayerService.getStats("TestPlayer", null, null)
+				.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("DifferentUser", "ROLE_PLAYER")));
+
+		// Then
+		StepVerifier.create(result)
+				.expectError(EntityNotFoundException.class)
+				.verify();
+		verifyNoInteractions(reactiveRedisBatchReader, reactiveIndexRepository);
+	}
+
+	@Test
+	@DisplayName("Should fail with IllegalArgumentException when limit is not positive")
+	void getStats_WhenLimitNotPositive_ShouldFailWithIllegalArgumentException() {
+		// When
+		Mono<PlayerStatsDto> result = reactivePlayerService.getStats("TestPlayer", 0, null)
+				.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("Admin", "ROLE_ADMIN")));
+
+		// Then
+		StepVerifier.create(result)
+				.expectError(IllegalArgumentException.class)
+				.verify();
+		verifyNoInteractions(reactiveRedisBatchReader, reactiveIndexRepository);
+	}
+
+	private Match match(String id) {
+		Match match = new Match();
+		match.setId(id);
+		return match;
+	}
+
+	private static TypedTuple<String> tuple(String id, double score) {
+		return TypedTuple.of(id, score);
+	}
+
+	private static UsernamePasswordAuthenticationToken authentication(String name, String authority) {
+		return new UsernamePasswordAuthenticationToken(name, null, List.of(new SimpleGrantedAuthority(authority)));
+	}
+}
@@ -0,0 +1,181 @@
+package org.example.statistics.unit.service.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.statistics.domain.MatchesRecordedEvent;
+import org.example.statistics.domain.Player;
+import org.example.statistics.service.report.ReportCache;
+import org.example.statistics.service.report.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportCache Unit Tests")
+class ReportCacheTest {
+
+	@Mock
+	private ReportService reportService;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	private MeterRegistry meterRegistry;
+	private ReportCache reportCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		// Publishes run inline, so they can be verified right away
+		reportCache = new ReportCache(reportService, new ObjectMapper(), stringRedisTemplate, meterRegistry, Runnable::run,
+				DataSize.ofMegabytes(1));
+	}
+
+	@Test
+	@DisplayName("Should compute a report once and serve the same JSON bytes afterwards")
+	void getBestPlayers_WhenCalledRepeatedly_ShouldHitCache() {
+		// Given
+		when(reportService.getBestPlayers(2)).thenReturn(List.of(player("PlayerOne"), player("PlayerTwo")));
+
+		// When
+		byte[] first = reportCache.getBestPlayers(2);
+		byte[] second = reportCache.getBestPlayers(2);
+
+		// Then
+		assertThat(second).isSameAs(first);
+		assertThat(new String(first, StandardCharsets.UTF_8)).startsWith("[{\"name\":\"PlayerOne\"");
+		verify(reportService, times(1)).getBestPlayers(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "reports").tag("result", "hit").functionCounter().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.get("reports.recompute").tag("report", "best-players").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should recompute after a match was recorded and tell the other nodes")
+	void onMatchesRecorded_ShouldInvalidateAndPublish() {
+		// Given
+		when(reportService.getBestPlayers(1))
+				.thenReturn(List.of(player("PlayerOne")))
+				.thenReturn(List.of(player("PlayerTwo")));
+		reportCache.getBestPlayers(1);
+
+		// When
+		reportCache.onMatchesRecorded(new MatchesRecordedEvent(List.of()));
+		byte[] refreshed = reportCache.getBestPlayers(1);
+
+		// Then
+		assertThat(new String(refreshed, StandardCharsets.UTF_8)).contains("PlayerTwo");
+		verify(stringRedisTemplate).convertAndSend(ReportCache.INVALIDATION_CHANNEL, "");
+	}
+
+	@Test
+	@DisplayName("Should drop cached reports when another node recorded a match")
+	void onMessage_ShouldInvalidate() {
+		// Given
+		when(reportService.getBestPlayers(1)).thenReturn(List.of(player("PlayerOne")));
+		reportCache.getBestPlayers(1);
+
+		// When
+		reportCache.onMessage(new DefaultMessage(ReportCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), new byte[0]), null);
+		reportCache.getBestPlayers(1);
+
+		// Then
+		verify(reportService, times(2)).getBestPlayers(1);
+	}
+
+	@Test
+	@DisplayName("Should run a single computation for concurrent misses")
+	void getBestPlayers_WhenMissedConcurrently_ShouldComputeOnce() throws Exception {
+		// Given
+		CountDownLatch computing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(reportService.getBestPlayers(3)).thenAnswer(invocation -> {
+			computing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of(player("PlayerOne"));
+		});
+
+		try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+			Future<byte[]> first = callers.submit(() -> reportCache.getBestPlayers(3));
+			assertThat(computing.await(5, TimeUnit.SECONDS)).isTrue();
+			List<Future<byte[]>> waiting = List.of(
+					callers.submit(() -> reportCache.getBestPlayers(3)),
+					callers.submit(() -> reportCache.getBestPlayers(3)));
+
+			// When
+			release.countDown();
+
+			// Then
+			for (Future<byte[]> other : waiting) {
+				assertThat(other.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+			}
+		}
+		verify(reportService, times(1)).getBestPlayers(3);
+	}
+
+	@Test
+	@DisplayName("Should not keep a report whose computation a recorded match overtook")
+	void getBestPlayers_WhenInvalidatedWhileComputing_ShouldRecomputeForLaterRequests() throws Exception {
+		// Given
+		CountDownLatch computing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(reportService.getBestPlayers(1))
+				.thenAnswer(invocation -> {
+					computing.countDown();
+					release.await(5, TimeUnit.SECONDS);
+					return List.of(player("PlayerOne"));
+				})
+				.thenReturn(List.of(player("PlayerTwo")));
+
+		try (ExecutorService callers = Executors.newSingleThreadExecutor()) {
+			Future<byte[]> stale = callers.submit(() -> reportCache.getBestPlayers(1));
+			assertThat(computing.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// When
+			reportCache.onMatchesRecorded(new MatchesRecordedEvent(List.of()));
+			release.countDown();
+
+			// Then: the request made before the match still gets its report, later ones do not
+			assertThat(new String(stale.get(5, TimeUnit.SECONDS), StandardCharsets.UTF_8)).contains("PlayerOne");
+		}
+		assertThat(new String(reportCache.getBestPlayers(1), StandardCharsets.UTF_8)).contains("PlayerTwo");
+		verify(reportService, times(2)).getBestPlayers(1);
+	}
+
+	@Test
+	@DisplayName("Should not cache a rejected request")
+	void getBestPlayers_WhenServiceThrows_ShouldNotCache() {
+		// Given
+		when(reportService.getBestPlayers(-1)).thenThrow(new IllegalArgumentException("count must not be negative"));
+
+		// When & Then
+		assertThatThrownBy(() -> reportCache.getBestPlayers(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> reportCache.getBestPlayers(-1)).isInstanceOf(IllegalArgumentException.class);
+		verify(reportService, times(2)).getBestPlayers(-1);
+	}
+
+	private static Player player(String name) {
+		return Player.builder().name(name).totalScore(100).build();
+	}
+}
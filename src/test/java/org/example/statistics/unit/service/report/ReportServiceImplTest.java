@@ -3,28 +3,47 @@ package org.example.statistics.unit.service.report;
 import org.example.statistics.domain.Match;
 import org.example.statistics.domain.Player;
 import org.example.statistics.domain.Server;
+import org.example.statistics.dto.page.PageDto;
+import org.example.statistics.enums.TimeWindow;
+import org.example.statistics.repository.LeaderboardRepository;
+import org.example.statistics.repository.MatchIndexRepository;
 import org.example.statistics.repository.MatchRepository;
+import org.example.statistics.repository.PlayerRatingRepository;
 import org.example.statistics.repository.PlayerRepository;
+import org.example.statistics.repository.ServerRankingRepository;
 import org.example.statistics.repository.ServerRepository;
 import org.example.statistics.service.report.ReportServiceImpl;
+import org.example.statistics.utils.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,21 +54,38 @@ class ReportServiceImplTest {
 	@Mock
 	private MatchRepository matchRepository;
 
+	@Mock
+	private MatchIndexRepository matchIndexRepository;
+
 	@Mock
 	private PlayerRepository playerRepository;
 
 	@Mock
 	private ServerRepository serverRepository;
 
+	@Mock
+	private LeaderboardRepository leaderboardRepository;
+
+	@Mock
+	private PlayerRatingRepository playerRatingRepository;
+
+	@Mock
+	private ServerRankingRepository serverRankingRepository;
+
 	@InjectMocks
 	private ReportServiceImpl reportService;
 
 	private Match match1, match2, match3, match4;
 	private Player player1, player2, player3, player4;
 	private Server server1, server2, server3;
+	private final Map<String, Integer> matchCounts = new HashMap<>();
 
 	@BeforeEach
 	void setUp() {
+		ReflectionTestUtils.setField(reportService, "defaultLimit", 50);
+		ReflectionTestUtils.setField(reportService, "maxLimit", 1000);
+		ReflectionTestUtils.setField(reportService, "unpagedMaxSize", 1000);
+
 		// Setup matches with different timestamps
 		match1 = createMatch("match1", LocalDateTime.of(2024, 1, 1, 10, 0));
 		match2 = createMatch("match2", LocalDateTime.of(2024, 1, 2, 11, 0));
@@ -63,9 +99,9 @@ class ReportServiceImplTest {
 		player4 = createPlayer("Player4", 400);
 
 		// Setup servers with different match counts
-		server1 = createServer("server1.com", List.of("m1", "m2", "m3"));
-		server2 = createServer("server2.com", List.of("m4", "m5"));
-		server3 = createServer("server3.com", List.of("m6"));
+		server1 = createServer("server1.com", 3);
+		server2 = createServer("server2.com", 2);
+		server3 = createServer("server3.com", 1);
 	}
 
 	private Match createMatch(String id, LocalDateTime timestamp) {
@@ -82,10 +118,67 @@ class ReportServiceImplTest {
 		return player;
 	}
 
-	private Server createServer(String endpoint, List<String> matchIds) {
+	private void stubTimeline(Match... matches) {
+		List<Match> timeline = Stream.of(matches)
+				.sorted(Comparator.comparing(Match::getTimestamp).reversed())
+				.toList();
+
+		when(matchIndexRepository.findRecentIds(anyInt(), any(), any())).thenAnswer(invocation -> {
+			LocalDateTime since = invocation.getArgument(1);
+			LocalDateTime before = invocation.getArgument(2);
+			return timeline.stream()
+					.filter(m -> since == null || !m.getTimestamp().isBefore(since))
+					.filter(m -> before == null || m.getTimestamp().isBefore(before))
+					.limit(invocation.<Integer>getArgument(0))
+					.map(Match::getId)
+					.toList();
+		});
+		when(matchRepository.findAllByIdPipelined(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> ids = invocation.getArgument(0);
+			return ids.stream()
+					.flatMap(id -> timeline.stream().filter(m -> m.getId().equals(id)))
+					.toList();
+		});
+	}
+
+	private void stubLeaderboard(Player... players) {
+		List<Player> ranked = Stream.of(players)
+				.sorted(Comparator.comparingInt(Player::getTotalScore).reversed())
+				.toList();
+
+		when(leaderboardRepository.findTopPlayerNames(anyInt())).thenAnswer(invocation -> ranked.stream()
+				.limit(invocation.<Integer>getArgument(0))
+				.map(Player::getName)
+				.toList());
+		when(playerRepository.findAllByIdPipelined(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> names = invocation.getArgument(0);
+			return names.stream()
+					.flatMap(name -> ranked.stream().filter(p -> p.getName().equals(name)))
+					.toList();
+		});
+	}
+
+	private void stubRanking(Server... servers) {
+		List<Server> ranked = Stream.of(servers)
+				.sorted(Comparator.comparingInt((Server server) -> matchCounts.get(server.getEndpoint())).reversed())
+				.toList();
+
+		when(serverRankingRepository.findTopServerEndpoints(anyInt(), any())).thenAnswer(invocation -> ranked.stream()
+				.limit(invocation.<Integer>getArgument(0))
+				.map(Server::getEndpoint)
+				.toList());
+		when(serverRepository.findAllByIdPipelined(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> endpoints = invocation.getArgument(0);
+			return endpoints.stream()
+					.flatMap(endpoint -> ranked.stream().filter(s -> s.getEndpoint().equals(endpoint)))
+					.toList();
+		});
+	}
+
+	private Server createServer(String endpoint, int matchCount) {
 		Server server = new Server();
 		server.setEndpoint(endpoint);
-		server.setMatchIds(matchIds);
+		matchCounts.put(endpoint, matchCount);
 		return server;
 	}
 
@@ -95,16 +188,16 @@ class ReportServiceImplTest {
 	@DisplayName("Should return recent matches sorted by timestamp descending")
 	void getRecentMatches_WhenMatchesExist_ShouldReturnSortedByTimestampDesc() {
 		// Given
-		List<Match> allMatches = List.of(match1, match3, match2, match4);
-		when(matchRepository.findAll()).thenReturn(allMatches);
+		stubTimeline(match1, match3, match2, match4);
 
 		// When
-		List<Match> result = reportService.getRecentMatches(4);
+		List<Match> result = reportService.getRecentMatches(4, null, null);
 
 		// Then
 		assertThat(result).hasSize(4);
 		assertThat(result).containsExactly(match4, match3, match2, match1);
-		verify(matchRepository).findAll();
+		verify(matchIndexRepository).findRecentIds(4, null, null);
+		verify(matchRepository, never()).findAll();
 	}
 
 	@ParameterizedTest
@@ -112,38 +205,95 @@ class ReportServiceImplTest {
 	@DisplayName("Should limit results to requested count")
 	void getRecentMatches_WithDifferentCounts_ShouldLimitResults(int count) {
 		// Given
-		List<Match> allMatches = List.of(match1, match2, match3, match4);
-		when(matchRepository.findAll()).thenReturn(allMatches);
+		stubTimeline(match1, match2, match3, match4);
 
 		// When
-		List<Match> result = reportService.getRecentMatches(count);
+		List<Match> result = reportService.getRecentMatches(count, null, null);
 
 		// Then
 		assertThat(result).hasSize(count);
 		assertThat(result.getFirst()).isEqualTo(match4); // Most recent should be first
 	}
 
+	@Test
+	@DisplayName("Should page backwards from the before cursor")
+	void getRecentMatches_WithBeforeCursor_ShouldReturnOlderMatches() {
+		// Given
+		stubTimeline(match1, match2, match3, match4);
+
+		// When
+		List<Match> firstPage = reportService.getRecentMatches(2, null, null);
+		List<Match> secondPage = reportService.getRecentMatches(2, null, firstPage.getLast().getTimestamp());
+
+		// Then
+		assertThat(firstPage).containsExactly(match4, match3);
+		assertThat(secondPage).containsExactly(match2, match1);
+	}
+
+	@Test
+	@DisplayName("Should only return matches at or after the since bound")
+	void getRecentMatches_WithSince_ShouldExcludeOlderMatches() {
+		// Given
+		stubTimeline(match1, match2, match3, match4);
+
+		// When
+		List<Match> result = reportService.getRecentMatches(5, match3.getTimestamp(), null);
+
+		// Then
+		assertThat(result).containsExactly(match4, match3);
+	}
+
 	@Test
 	@DisplayName("Should return empty list when no matches exist")
 	void getRecentMatches_WhenNoMatchesExist_ShouldReturnEmptyList() {
 		// Given
-		when(matchRepository.findAll()).thenReturn(Collections.emptyList());
+		stubTimeline();
 
 		// When
-		List<Match> result = reportService.getRecentMatches(5);
+		List<Match> result = reportService.getRecentMatches(5, null, null);
 
 		// Then
 		assertThat(result).isEmpty();
 	}
 
+	@Test
+	@DisplayName("Should continue recent match pages after the last match returned")
+	void getRecentMatches_WithCursor_ShouldContinueAfterLastMatch() {
+		// Given
+		when(matchIndexRepository.findRecentIds(3, null, null)).thenReturn(List.of("match4", "match3", "match2"));
+		when(matchIndexRepository.findRecentIdsAfter("match3", 3, null)).thenReturn(List.of("match2", "match1"));
+		when(matchRepository.findAllByIdPipelined(List.of("match4", "match3"))).thenReturn(List.of(match4, match3));
+		when(matchRepository.findAllByIdPipelined(List.of("match2", "match1"))).thenReturn(List.of(match2, match1));
+
+		// When
+		PageDto<Match> first = reportService.getRecentMatches(2, null, null, null);
+		PageDto<Match> second = reportService.getRecentMatches(2, first.getNextCursor(), null, null);
+
+		// Then
+		assertThat(first.getItems()).containsExactly(match4, match3);
+		assertThat(PageCursor.decode(first.getNextCursor())).isEqualTo("match3");
+		assertThat(second.getItems()).containsExactly(match2, match1);
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("Should reject a cursor that has left the recent matches timeline")
+	void getRecentMatches_WithTrimmedCursor_ShouldThrowIllegalArgumentException() {
+		// Given
+		when(matchIndexRepository.findRecentIdsAfter("trimmed", 51, null)).thenReturn(null);
+
+		// When & Then
+		assertThatThrownBy(() -> reportService.getRecentMatches(null, PageCursor.encode("trimmed"), null, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	// ==================== getBestPlayers Tests ====================
 
 	@Test
-	@DisplayName("Should return players sorted by total score descending")
+	@DisplayName("Should return players in leaderboard order")
 	void getBestPlayers_WhenPlayersExist_ShouldReturnSortedByScoreDesc() {
 		// Given
-		List<Player> allPlayers = List.of(player3, player1, player4, player2);
-		when(playerRepository.findAll()).thenReturn(allPlayers);
+		stubLeaderboard(player3, player1, player4, player2);
 
 		// When
 		List<Player> result = reportService.getBestPlayers(4);
@@ -151,7 +301,8 @@ class ReportServiceImplTest {
 		// Then
 		assertThat(result).hasSize(4);
 		assertThat(result).containsExactly(player1, player2, player3, player4);
-		verify(playerRepository).findAll();
+		verify(leaderboardRepository).findTopPlayerNames(4);
+		verify(playerRepository, never()).findAll();
 	}
 
 	@Test
@@ -162,7 +313,7 @@ class ReportServiceImplTest {
 		Player playerB = createPlayer("PlayerB", 500);
 		Player playerC = createPlayer("PlayerC", 600);
 
-		when(playerRepository.findAll()).thenReturn(List.of(playerA, playerB, playerC));
+		stubLeaderboard(playerA, playerB, playerC);
 
 		// When
 		List<Player> result = reportService.getBestPlayers(3);
@@ -172,22 +323,120 @@ class ReportServiceImplTest {
 		assertThat(result.getFirst()).isEqualTo(playerC);
 	}
 
+	@Test
+	@DisplayName("Should skip leaderboard entries whose player no longer exists")
+	void getBestPlayers_WhenRankedPlayerIsMissing_ShouldSkipIt() {
+		// Given
+		when(leaderboardRepository.findTopPlayerNames(2)).thenReturn(List.of("Ghost", "Player1"));
+		when(playerRepository.findAllByIdPipelined(List.of("Ghost", "Player1"))).thenReturn(List.of(player1));
+
+		// When
+		List<Player> result = reportService.getBestPlayers(2);
+
+		// Then
+		assertThat(result).containsExactly(player1);
+	}
+
+	@Test
+	@DisplayName("Should reject a negative count before the listing is written")
+	void streamRecentMatches_WithNegativeCount_ShouldThrowIllegalArgumentException() {
+		assertThatThrownBy(() -> reportService.streamRecentMatches(-1, null, null))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		verify(matchIndexRepository, never()).findRecentIds(anyInt(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Should reject negative count")
+	void getBestPlayers_WithNegativeCount_ShouldThrowIllegalArgumentException() {
+		assertThatThrownBy(() -> reportService.getBestPlayers(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("Should refuse an unpaged count above the cap")
+	void getBestPlayers_WithCountAboveCap_ShouldThrowIllegalArgumentException() {
+		assertThatThrownBy(() -> reportService.getBestPlayers(1001))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("limit and cursor");
+		verify(leaderboardRepository, never()).findTopPlayerNames(anyInt());
+	}
+
+	@Test
+	@DisplayName("Should walk the leaderboard in pages by offset")
+	void getBestPlayers_WithLimit_ShouldPageByOffset() {
+		// Given
+		List<Player> ranked = List.of(player1, player2, player3);
+		when(leaderboardRepository.findTopPlayerNames(anyLong(), anyInt())).thenAnswer(invocation -> ranked.stream()
+				.skip(invocation.<Long>getArgument(0))
+				.limit(invocation.<Integer>getArgument(1))
+				.map(Player::getName)
+				.toList());
+		when(playerRepository.findAllByIdPipelined(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> names = invocation.getArgument(0);
+			return ranked.stream().filter(p -> names.contains(p.getName())).toList();
+		});
+
+		// When
+		PageDto<Player> first = reportService.getBestPlayers(2, null);
+		PageDto<Player> second = reportService.getBestPlayers(2, first.getNextCursor());
+
+		// Then
+		assertThat(first.getItems()).containsExactly(player1, player2);
+		assertThat(second.getItems()).containsExactly(player3);
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"not base64!", "LTE", "YWJj"})
+	@DisplayName("Should reject a cursor that is not a ranking offset")
+	void getBestPlayers_WithInvalidCursor_ShouldThrowIllegalArgumentException(String cursor) {
+		assertThatThrownBy(() -> reportService.getBestPlayers(2, cursor))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(leaderboardRepository, never()).findTopPlayerNames(anyLong(), anyInt());
+	}
+
+	// ==================== getTopRatedPlayers Tests ====================
+
+	@Test
+	@DisplayName("Should return players in rating order")
+	void getTopRatedPlayers_WhenPlayersAreRated_ShouldReturnRatingOrder() {
+		// Given
+		when(playerRatingRepository.findTopPlayerNames(2)).thenReturn(List.of("Player4", "Player1"));
+		when(playerRepository.findAllByIdPipelined(List.of("Player4", "Player1"))).thenReturn(List.of(player4, player1));
+
+		// When
+		List<Player> result = reportService.getTopRatedPlayers(2);
+
+		// Then
+		assertThat(result).containsExactly(player4, player1);
+		verify(leaderboardRepository, never()).findTopPlayerNames(anyInt());
+	}
+
+	@Test
+	@DisplayName("Should reject negative count for top rated players")
+	void getTopRatedPlayers_WithNegativeCount_ShouldThrowIllegalArgumentException() {
+		assertThatThrownBy(() -> reportService.getTopRatedPlayers(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(playerRatingRepository, never()).findTopPlayerNames(anyInt());
+	}
+
 	// ==================== getPopularServers Tests ====================
 
 	@Test
 	@DisplayName("Should return servers sorted by match count descending")
 	void getPopularServers_WhenServersExist_ShouldReturnSortedByMatchCountDesc() {
 		// Given
-		List<Server> allServers = List.of(server2, server3, server1);
-		when(serverRepository.findAll()).thenReturn(allServers);
+		stubRanking(server2, server3, server1);
 
 		// When
-		List<Server> result = reportService.getPopularServers(3);
+		List<Server> result = reportService.getPopularServers(3, TimeWindow.ALL);
 
 		// Then
 		assertThat(result).hasSize(3);
 		assertThat(result).containsExactly(server1, server2, server3);
-		verify(serverRepository).findAll();
+		verify(serverRankingRepository).findTopServerEndpoints(3, TimeWindow.ALL);
+		verify(serverRepository, never()).findAll();
 	}
 
 	@ParameterizedTest
@@ -195,11 +444,10 @@ class ReportServiceImplTest {
 	@DisplayName("Should limit server results to requested count")
 	void getPopularServers_WithDifferentCounts_ShouldLimitResults(int count) {
 		// Given
-		List<Server> allServers = List.of(server1, server2, server3);
-		when(serverRepository.findAll()).thenReturn(allServers);
+		stubRanking(server1, server2, server3);
 
 		// When
-		List<Server> result = reportService.getPopularServers(count);
+		List<Server> result = reportService.getPopularServers(count, TimeWindow.ALL);
 
 		// Then
 		assertThat(result).hasSize(count);
@@ -207,15 +455,14 @@ class ReportServiceImplTest {
 	}
 
 	@Test
-	@DisplayName("Should handle servers with null match IDs")
-	void getPopularServers_WhenServerHasNullMatchIds_ShouldTreatAsZero() {
+	@DisplayName("Should rank servers without matches last")
+	void getPopularServers_WhenServerHasNoMatches_ShouldRankItLast() {
 		// Given
-		Server serverWithNull = createServer("nullserver.com", null);
-		List<Server> allServers = List.of(server1, serverWithNull);
-		when(serverRepository.findAll()).thenReturn(allServers);
+		Server serverWithNull = createServer("nullserver.com", 0);
+		stubRanking(server1, serverWithNull);
 
 		// When
-		List<Server> result = reportService.getPopularServers(2);
+		List<Server> result = reportService.getPopularServers(2, TimeWindow.ALL);
 
 		// Then
 		assertThat(result).hasSize(2);
@@ -223,6 +470,21 @@ class ReportServiceImplTest {
 		assertThat(result.get(1)).isEqualTo(serverWithNull);
 	}
 
+	@ParameterizedTest
+	@EnumSource(TimeWindow.class)
+	@DisplayName("Should rank servers within the requested window")
+	void getPopularServers_WithWindow_ShouldQueryThatWindow(TimeWindow window) {
+		// Given
+		when(serverRankingRepository.findTopServerEndpoints(5, window)).thenReturn(List.of("server2.com"));
+		when(serverRepository.findAllByIdPipelined(List.of("server2.com"))).thenReturn(List.of(server2));
+
+		// When
+		List<Server> result = reportService.getPopularServers(5, window);
+
+		// Then
+		assertThat(result).containsExactly(server2);
+	}
+
 	// ==================== Parameterized Tests for All Methods ====================
 
 	@ParameterizedTest
@@ -230,14 +492,14 @@ class ReportServiceImplTest {
 	@DisplayName("Should handle various count scenarios for all report methods")
 	void allReportMethods_WithVariousCounts_ShouldHandleCorrectly(int count, int expectedSize) {
 		// Given
-		when(matchRepository.findAll()).thenReturn(List.of(match1, match2, match3));
-		when(playerRepository.findAll()).thenReturn(List.of(player1, player2, player3));
-		when(serverRepository.findAll()).thenReturn(List.of(server1, server2, server3));
+		stubTimeline(match1, match2, match3);
+		stubLeaderboard(player1, player2, player3);
+		stubRanking(server1, server2, server3);
 
 		// When & Then
-		assertThat(reportService.getRecentMatches(count)).hasSize(expectedSize);
+		assertThat(reportService.getRecentMatches(count, null, null)).hasSize(expectedSize);
 		assertThat(reportService.getBestPlayers(count)).hasSize(expectedSize);
-		assertThat(reportService.getPopularServers(count)).hasSize(expectedSize);
+		assertThat(reportService.getPopularServers(count, TimeWindow.ALL)).hasSize(expectedSize);
 	}
 
 	private static Stream<Arguments> provideCountScenarios() {
@@ -2,12 +2,25 @@
 
 	import org.example.statistics.domain.Match;
 	import org.example.statistics.domain.Server;
+	import org.example.statistics.domain.ServerDistribution;
+	import org.example.statistics.domain.TimeSeriesPoint;
+	import org.example.statistics.dto.page.PageDto;
 	import org.example.statistics.dto.server.ServerStatsDto;
+	import org.example.statistics.dto.server.ServerTimeSeriesDto;
+	import org.example.statistics.enums.TimeStep;
+	import org.example.statistics.enums.TimeWindow;
 	import org.example.statistics.exception.EntityNotFoundException;
 	import org.example.statistics.mapper.server.ServerMapper;
+	import org.example.statistics.repository.MatchIndexRepository;
 	import org.example.statistics.repository.MatchRepository;
+	import org.example.statistics.repository.RedisBatchReader;
+	import org.example.statistics.repository.ServerDistributionRepository;
+	import org.example.statistics.repository.ServerPlayersRepository;
+	import org.example.statistics.repository.ServerRankingRepository;
 	import org.example.statistics.repository.ServerRepository;
+	import org.example.statistics.repository.ServerTimeSeriesRepository;
 	import org.example.statistics.service.server.ServerServiceImpl;
+	import org.example.statistics.utils.PageCursor;
 	import org.junit.jupiter.api.BeforeEach;
 	import org.junit.jupiter.api.DisplayName;
 	import org.junit.jupiter.api.Test;
@@ -19,8 +32,10 @@
 	import org.mockito.InjectMocks;
 	import org.mockito.Mock;
 	import org.mockito.junit.jupiter.MockitoExtension;
+	import org.springframework.test.util.ReflectionTestUtils;
 
 	import java.time.LocalDateTime;
+	import java.util.Collection;
 	import java.util.Collections;
 	import java.util.List;
 	import java.util.Optional;
@@ -29,6 +44,9 @@
 	import static org.assertj.core.api.Assertions.assertThat;
 	import static org.assertj.core.api.Assertions.assertThatThrownBy;
 	import static org.mockito.ArgumentMatchers.any;
+	import static org.mockito.ArgumentMatchers.anyCollection;
+	import static org.mockito.ArgumentMatchers.anyInt;
+	import static org.mockito.ArgumentMatchers.anyLong;
 	import static org.mockito.Mockito.*;
 
 	@ExtendWith(MockitoExtension.class)
@@ -41,6 +59,24 @@
 		@Mock
 		private MatchRepository matchRepository;
 
+		@Mock
+		private MatchIndexRepository matchIndexRepository;
+
+		@Mock
+		private ServerRankingRepository serverRankingRepository;
+
+		@Mock
+		private ServerDistributionRepository serverDistributionRepository;
+
+		@Mock
+		private ServerPlayersRepository serverPlayersRepository;
+
+		@Mock
+		private ServerTimeSeriesRepository serverTimeSeriesRepository;
+
+		@Mock
+		private RedisBatchReader redisBatchReader;
+
 		@Mock
 		private ServerMapper serverMapper;
 
@@ -55,6 +91,12 @@
 
 		@BeforeEach
 		void setUp() {
+			ReflectionTestUtils.setField(serverService, "defaultPoints", 60);
+			ReflectionTestUtils.setField(serverService, "maxPoints", 1440);
+			ReflectionTestUtils.setField(serverService, "defaultLimit", 50);
+			ReflectionTestUtils.setField(serverService, "maxLimit", 1000);
+			ReflectionTestUtils.setField(serverService, "unpagedMaxSize", 1000);
+
 			testServer1 = new Server();
 			testServer1.setEndpoint("server1.com");
 			testServer1.setName("Test Server 1");
@@ -158,83 +200,160 @@
 			verify(serverRepository).findById(endpoint);
 		}
 
-		// ==================== getMatches Tests ====================
+		@Test
+		@DisplayName("Should refuse to return all servers above the unpaged cap")
+		void getServers_WhenAboveUnpagedCap_ShouldThrowIllegalArgumentException() {
+			// Given
+			when(serverRepository.count()).thenReturn(1001L);
+
+			// When & Then
+			assertThatThrownBy(() -> serverService.getServers())
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("limit and cursor");
+			verify(serverRepository, never()).findAll();
+		}
 
 		@Test
-		@DisplayName("Should return matches for specific server and date")
-		void getMatches_WhenMatchesExist_ShouldReturnFilteredMatches() {
+		@DisplayName("Should return a page of scanned servers with the cursor to continue from")
+		void getServers_WithLimit_ShouldReturnScannedPage() {
 			// Given
-			List<Match> allMatches = List.of(testMatch1, testMatch2, testMatch3);
-			when(matchRepository.findAll()).thenReturn(allMatches);
+			when(redisBatchReader.scanIds(Server.class, "0", 2))
+					.thenReturn(new RedisBatchReader.IdPage(List.of("server1.com", "server2.com"), "17"));
+			when(serverRepository.findAllByIdPipelined(List.of("server1.com", "server2.com"))).thenReturn(List.of(testServer1, testServer2));
 
 			// When
-			List<Match> result = serverService.getMatches("server1.com", "2024-01-15");
+			PageDto<Server> result = serverService.getServers(2, null);
 
 			// Then
-			assertThat(result).hasSize(2);
-			assertThat(result).containsExactly(testMatch1, testMatch2);
-			verify(matchRepository).findAll();
+			assertThat(result.getItems()).containsExactly(testServer1, testServer2);
+			assertThat(PageCursor.decode(result.getNextCursor())).isEqualTo("17");
+			verify(serverRepository, never()).findAll();
 		}
 
 		@Test
-		@DisplayName("Should return empty list when no matches for server and date")
-		void getMatches_WhenNoMatchesForServerAndDate_ShouldReturnEmptyList() {
+		@DisplayName("Should end the server pages when the scan is complete")
+		void getServers_WhenScanCompletes_ShouldReturnNoCursor() {
 			// Given
-			List<Match> allMatches = List.of(testMatch1, testMatch2, testMatch3);
-			when(matchRepository.findAll()).thenReturn(allMatches);
+			when(redisBatchReader.scanIds(Server.class, "17", 50))
+					.thenReturn(new RedisBatchReader.IdPage(List.of("server1.com"), "0"));
+			when(serverRepository.findAllByIdPipelined(List.of("server1.com"))).thenReturn(List.of(testServer1));
 
 			// When
-			List<Match> result = serverService.getMatches("server3.com", "2024-01-15");
+			PageDto<Server> result = serverService.getServers(null, PageCursor.encode("17"));
 
 			// Then
-			assertThat(result).isEmpty();
-			verify(matchRepository).findAll();
+			assertThat(result.getItems()).containsExactly(testServer1);
+			assertThat(result.getNextCursor()).isNull();
 		}
 
+		@ParameterizedTest
+		@ValueSource(strings = {"not base64!", "bm90LWEtbnVtYmVy"})
+		@DisplayName("Should reject a cursor that is not a scan position")
+		void getServers_WithInvalidCursor_ShouldThrowIllegalArgumentException(String cursor) {
+			assertThatThrownBy(() -> serverService.getServers(10, cursor))
+					.isInstanceOf(IllegalArgumentException.class);
+			verify(redisBatchReader, never()).scanIds(any(), any(), anyInt());
+		}
+
+		// ==================== getMatches Tests ====================
+
 		@Test
-		@DisplayName("Should return empty list when server matches but date does not")
-		void getMatches_WhenServerMatchesButDateDoesNot_ShouldReturnEmptyList() {
+		@DisplayName("Should page matches of a day after the last id of the previous page")
+		void getMatches_WithLimit_ShouldContinueAfterLastId() {
 			// Given
-			List<Match> allMatches = List.of(testMatch1, testMatch2, testMatch3);
-			when(matchRepository.findAll()).thenReturn(allMatches);
+			when(matchIndexRepository.findIdsByServerAndDay("server1.com", "2024-01-15", null, 2))
+					.thenReturn(List.of("match1", "match2"));
+			when(matchIndexRepository.findIdsByServerAndDay("server1.com", "2024-01-15", "match1", 2))
+					.thenReturn(List.of("match2"));
+			when(matchRepository.findAllByIdPipelined(List.of("match1"))).thenReturn(List.of(testMatch1));
+			when(matchRepository.findAllByIdPipelined(List.of("match2"))).thenReturn(List.of(testMatch2));
 
 			// When
-			List<Match> result = serverService.getMatches("server1.com", "2024-01-20");
+			PageDto<Match> first = serverService.getMatches("server1.com", "2024-01-15", 1, null);
+			PageDto<Match> second = serverService.getMatches("server1.com", "2024-01-15", 1, first.getNextCursor());
 
 			// Then
-			assertThat(result).isEmpty();
+			assertThat(first.getItems()).containsExactly(testMatch1);
+			assertThat(PageCursor.decode(first.getNextCursor())).isEqualTo("match1");
+			assertThat(second.getItems()).containsExactly(testMatch2);
+			assertThat(second.getNextCursor()).isNull();
 		}
 
 		@Test
-		@DisplayName("Should return empty list when date matches but server does not")
-		void getMatches_WhenDateMatchesButServerDoesNot_ShouldReturnEmptyList() {
+		@DisplayName("Should reject a cursor that is not a match of the day")
+		void getMatches_WithUnknownCursor_ShouldThrowIllegalArgumentException() {
 			// Given
-			List<Match> allMatches = List.of(testMatch1, testMatch2, testMatch3);
-			when(matchRepository.findAll()).thenReturn(allMatches);
+			when(matchIndexRepository.findIdsByServerAndDay("server1.com", "2024-01-15", "unknown", 51)).thenReturn(null);
+
+			// When & Then
+			assertThatThrownBy(() -> serverService.getMatches("server1.com", "2024-01-15", null, PageCursor.encode("unknown")))
+					.isInstanceOf(IllegalArgumentException.class);
+			verify(matchRepository, never()).findAllByIdPipelined(anyCollection());
+		}
+
+		@Test
+		@DisplayName("Should refuse to return all matches of a day above the unpaged cap")
+		void getMatches_WhenAboveUnpagedCap_ShouldThrowIllegalArgumentException() {
+			// Given
+			when(matchIndexRepository.countByServerAndDay("server1.com", "2024-01-15")).thenReturn(5000L);
+
+			// When & Then
+			assertThatThrownBy(() -> serverService.getMatches("server1.com", "2024-01-15"))
+					.isInstanceOf(IllegalArgumentException.class);
+			verify(matchIndexRepository, never()).findIdsByServerAndDay("server1.com", "2024-01-15");
+		}
+
+		@Test
+		@DisplayName("Should return matches for specific server and date")
+		void getMatches_WhenMatchesExist_ShouldReturnIndexedMatches() {
+			// Given
+			List<String> matchIds = List.of("match1", "match2");
+			when(matchIndexRepository.findIdsByServerAndDay("server1.com", "2024-01-15")).thenReturn(matchIds);
+			when(matchRepository.findAllByIdPipelined(matchIds)).thenReturn(List.of(testMatch1, testMatch2));
+
+			// When
+			List<Match> result = serverService.getMatches("server1.com", "2024-01-15");
+
+			// Then
+			assertThat(result).hasSize(2);
+			assertThat(result).containsExactly(testMatch1, testMatch2);
+			verify(matchRepository).findAllByIdPipelined(matchIds);
+			verify(matchRepository, never()).findAll();
+		}
+
+		@Test
+		@DisplayName("Should return empty list when no matches for server and date")
+		void getMatches_WhenNoMatchesForServerAndDate_ShouldReturnEmptyList() {
+			// Given
+			when(matchIndexRepository.findIdsByServerAndDay("server3.com", "2024-01-15")).thenReturn(List.of());
+			when(matchRepository.findAllByIdPipelined(List.of())).thenReturn(List.of());
 
 			// When
 			List<Match> result = serverService.getMatches("server3.com", "2024-01-15");
 
 			// Then
 			assertThat(result).isEmpty();
+			verify(matchRepository, never()).findAll();
 		}
 
 		@Test
-		@DisplayName("Should return empty list when no matches exist at all")
-		void getMatches_WhenNoMatchesExist_ShouldReturnEmptyList() {
+		@DisplayName("Should skip indexed ids whose match no longer exists")
+		void getMatches_WhenIndexedMatchIsMissing_ShouldReturnRemainingMatches() {
 			// Given
-			when(matchRepository.findAll()).thenReturn(Collections.emptyList());
+			List<String> matchIds = List.of("match1", "deleted", "match2");
+			when(matchIndexRepository.findIdsByServerAndDay("server1.com", "2024-01-15")).thenReturn(matchIds);
+			when(matchRepository.findAllByIdPipelined(matchIds)).thenReturn(List.of(testMatch1, testMatch2));
 
 			// When
 			List<Match> result = serverService.getMatches("server1.com", "2024-01-15");
 
 			// Then
-			assertThat(result).isEmpty();
+			assertThat(result).containsExactly(testMatch1, testMatch2);
 		}
 
 		@ParameterizedTest
 		@MethodSource("provideMatchFilteringScenarios")
-		@DisplayName("Should correctly filter matches based on server and date combinations")
+		@DisplayName("Should correctly resolve matches based on server and date combinations")
 		void getMatches_VariousScenarios_ShouldFilterCorrectly(
 				String serverEndpoint,
 				String date,
@@ -242,7 +361,15 @@
 				String description) {
 			// Given
 			List<Match> allMatches = List.of(testMatch1, testMatch2, testMatch3);
-			when(matchRepository.findAll()).thenReturn(allMatches);
+			when(matchIndexRepository.findIdsByServerAndDay(serverEndpoint, date)).thenReturn(allMatches.stream()
+					.filter(m -> m.getServerEndpoint().equals(serverEndpoint)
+							&& m.getTimestamp().toLocalDate().toString().equals(date))
+					.map(Match::getId)
+					.toList());
+			when(matchRepository.findAllByIdPipelined(anyCollection())).thenAnswer(invocation -> {
+				Collection<String> ids = invocation.getArgument(0);
+				return allMatches.stream().filter(m -> ids.contains(m.getId())).toList();
+			});
 
 			// When
 			List<Match> result = serverService.getMatches(serverEndpoint, date);
@@ -269,18 +396,62 @@
 			ServerStatsDto expectedDto = new ServerStatsDto();
 			expectedDto.setName("Test Server 1");
 
+			ServerDistribution distribution = new ServerDistribution();
+
 			when(serverRepository.findById("server1.com")).thenReturn(Optional.of(testServer1));
-			when(serverMapper.toServerStatsDto(testServer1)).thenReturn(expectedDto);
+			when(serverRankingRepository.getMatchCount("server1.com")).thenReturn(7);
+			when(serverDistributionRepository.find("server1.com", TimeWindow.ALL)).thenReturn(distribution);
+			when(serverMapper.toServerStatsDto(testServer1, 7, 0, TimeWindow.ALL, distribution)).thenReturn(expectedDto);
 
 			// When
-			ServerStatsDto result = serverService.getStats("server1.com");
+			ServerStatsDto result = serverService.getStats("server1.com", TimeWindow.ALL);
 
 			// Then
 			assertThat(result).isNotNull();
 			assertThat(result.getName()).isEqualTo("Test Server 1");
 
 			verify(serverRepository).findById("server1.com");
-			verify(serverMapper).toServerStatsDto(testServer1);
+			verify(serverRankingRepository).getMatchCount("server1.com");
+			verify(serverMapper).toServerStatsDto(testServer1, 7, 0, TimeWindow.ALL, distribution);
+		}
+
+		@Test
+		@DisplayName("Should count the matches and players of the window and rate only its complete buckets")
+		void getStats_WithWindow_ShouldSumBucketCounts_AndSkipTheCurrentBucketForTheRate() {
+			// Given
+			ServerDistribution distribution = new ServerDistribution();
+
+			when(serverRepository.findById("server1.com")).thenReturn(Optional.of(testServer1));
+			when(serverDistributionRepository.find("server1.com", TimeWindow.DAY)).thenReturn(distribution);
+			when(serverRankingRepository.getBucketCounts("server1.com", TimeWindow.DAY)).thenReturn(List.of(4, 0, 8, 100));
+			when(serverPlayersRepository.countPlayers("server1.com", TimeWindow.DAY)).thenReturn(35L);
+
+			// When
+			serverService.getStats("server1.com", TimeWindow.DAY);
+
+			// Then
+			verify(serverMapper).toServerStatsDto(testServer1, 112, 35, TimeWindow.DAY, distribution);
+			verify(serverRankingRepository, never()).getMatchCount(any());
+			assertThat(distribution.getMatchesPerHour().size()).isEqualTo(3);
+			assertThat(distribution.getMatchesPerHour().getMax()).isEqualTo(8);
+		}
+
+		@Test
+		@DisplayName("Should rate all-time stats per day from the match index")
+		void getStats_WithAllWindow_ShouldRateDailyCountsPerHour() {
+			// Given
+			ServerDistribution distribution = new ServerDistribution();
+
+			when(serverRepository.findById("server1.com")).thenReturn(Optional.of(testServer1));
+			when(serverDistributionRepository.find("server1.com", TimeWindow.ALL)).thenReturn(distribution);
+			when(matchIndexRepository.countServerMatchesByDay("server1.com")).thenReturn(List.of(48, 24));
+
+			// When
+			serverService.getStats("server1.com", TimeWindow.ALL);
+
+			// Then
+			assertThat(distribution.getMatchesPerHour().getMin()).isEqualTo(1);
+			assertThat(distribution.getMatchesPerHour().getMax()).isEqualTo(2);
 		}
 
 		@ParameterizedTest
@@ -291,12 +462,12 @@
 			when(serverRepository.findById(endpoint)).thenReturn(Optional.empty());
 
 			// When & Then
-			assertThatThrownBy(() -> serverService.getStats(endpoint))
+			assertThatThrownBy(() -> serverService.getStats(endpoint, TimeWindow.ALL))
 					.isInstanceOf(EntityNotFoundException.class)
 					.hasMessage("Server with endpoint " + endpoint + " not found");
 
 			verify(serverRepository).findById(endpoint);
-			verify(serverMapper, never()).toServerStatsDto(any());
+			verify(serverMapper, never()).toServerStatsDto(any(), anyInt(), anyLong(), any(), any());
 		}
 
 		@Test
@@ -304,13 +475,90 @@
 		void getStats_ShouldCallMapperOnce() {
 			// Given
 			ServerStatsDto expectedDto = new ServerStatsDto();
+			ServerDistribution distribution = new ServerDistribution();
 			when(serverRepository.findById("server1.com")).thenReturn(Optional.of(testServer1));
-			when(serverMapper.toServerStatsDto(testServer1)).thenReturn(expectedDto);
+			when(serverDistributionRepository.find("server1.com", TimeWindow.ALL)).thenReturn(distribution);
+			when(serverMapper.toServerStatsDto(testServer1, 0, 0, TimeWindow.ALL, distribution)).thenReturn(expectedDto);
 
 			// When
-			serverService.getStats("server1.com");
+			serverService.getStats("server1.com", TimeWindow.ALL);
 
 			// Then
-			verify(serverMapper, times(1)).toServerStatsDto(testServer1);
+			verify(serverMapper, times(1)).toServerStatsDto(testServer1, 0, 0, TimeWindow.ALL, distribution);
+		}
+	
+		// ==================== getTimeSeries Tests ====================
+
+		@Test
+		@DisplayName("Should return the points of the requested range and step")
+		void getTimeSeries_WithRange_ShouldReadThatRange() {
+			// Given
+			LocalDateTime from = LocalDateTime.of(2024, 1, 15, 10, 0);
+			LocalDateTime to = LocalDateTime.of(2024, 1, 15, 12, 0);
+			List<TimeSeriesPoint> points = List.of(new TimeSeriesPoint(from, 3, 45, 2));
+			when(serverRepository.existsById("server1.com")).thenReturn(true);
+			when(serverTimeSeriesRepository.find("server1.com", TimeStep.HOUR, from, to)).thenReturn(points);
+
+			// When
+			ServerTimeSeriesDto result = serverService.getTimeSeries("server1.com", from, to, TimeStep.HOUR);
+
+			// Then
+			assertThat(result.getEndpoint()).isEqualTo("server1.com");
+			assertThat(result.getStep()).isEqualTo(TimeStep.HOUR);
+			assertThat(result.getPoints()).isEqualTo(points);
+		}
+
+		@Test
+		@DisplayName("Should default to the last steps up to the given end")
+		void getTimeSeries_WithoutFrom_ShouldReadDefaultNumberOfSteps() {
+			// Given
+			LocalDateTime to = LocalDateTime.of(2024, 1, 15, 10, 0);
+			when(serverRepository.existsById("server1.com")).thenReturn(true);
+
+			// When
+			serverService.getTimeSeries("server1.com", null, to, TimeStep.MINUTE);
+
+			// Then
+			verify(serverTimeSeriesRepository).find("server1.com", TimeStep.MINUTE, to.minusMinutes(59), to);
+		}
+
+		@Test
+		@DisplayName("Should reject a range that ends before it starts")
+		void getTimeSeries_WhenFromIsAfterTo_ShouldThrowIllegalArgumentException() {
+			// Given
+			when(serverRepository.existsById("server1.com")).thenReturn(true);
+
+			// When & Then
+			assertThatThrownBy(() -> serverService.getTimeSeries("server1.com",
+					LocalDateTime.of(2024, 1, 16, 0, 0), LocalDateTime.of(2024, 1, 15, 0, 0), TimeStep.DAY))
+					.isInstanceOf(IllegalArgumentException.class);
+			verifyNoInteractions(serverTimeSeriesRepository);
+		}
+
+		@Test
+		@DisplayName("Should reject a range of more points than allowed")
+		void getTimeSeries_WhenRangeHasTooManyPoints_ShouldThrowIllegalArgumentException() {
+			// Given
+			LocalDateTime from = LocalDateTime.of(2024, 1, 15, 0, 0);
+			when(serverRepository.existsById("server1.com")).thenReturn(true);
+
+			// When & Then
+			assertThatThrownBy(() -> serverService.getTimeSeries("server1.com", from, from.plusDays(1), TimeStep.MINUTE))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThat(serverService.getTimeSeries("server1.com", from, from.plusDays(1).minusMinutes(1), TimeStep.MINUTE))
+					.isNotNull();
+		}
+
+		@Test
+		@DisplayName("Should throw EntityNotFoundException for the time series of a non-existent server")
+		void getTimeSeries_WhenServerDoesNotExist_ShouldThrowEntityNotFoundException() {
+			// Given
+			when(serverRepository.existsById("missing.server")).thenReturn(false);
+
+			// When & Then
+			assertThatThrownBy(() -> serverService.getTimeSeries("missing.server", null, null, TimeStep.HOUR))
+					.isInstanceOf(EntityNotFoundException.class)
+					.hasMessage("Server with endpoint missing.server not found");
+			verifyNoInteractions(serverTimeSeriesRepository);
 		}
-	}
\ No newline at end of file
+	}
@@ -0,0 +1,89 @@
+package org.example.statistics.unit.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.example.statistics.utils.JwtClaims;
+import org.example.statistics.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtUtil Unit Tests")
+class JwtUtilTest {
+
+	private JwtUtil jwtUtil;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(100);
+	}
+
+	@Test
+	@DisplayName("Should return all claims of a valid token")
+	void verify_WhenTokenIsValid_ShouldReturnClaims() {
+		// Given
+		String token = jwtUtil.generateToken("TestPlayer", "PLAYER", "session-1");
+
+		// When
+		Optional<JwtClaims> claims = jwtUtil.verify(token);
+
+		// Then
+		assertThat(claims).isPresent();
+		assertThat(claims.get().username()).isEqualTo("TestPlayer");
+		assertThat(claims.get().role()).isEqualTo("PLAYER");
+		assertThat(claims.get().sessionId()).isEqualTo("session-1");
+		assertThat(claims.get().expiresAt()).isAfter(Instant.now());
+	}
+
+	@Test
+	@DisplayName("Should return the same claims when a token is verified again")
+	void verify_WhenTokenVerifiedTwice_ShouldReturnCachedClaims() {
+		// Given
+		String token = jwtUtil.generateToken("TestPlayer", "PLAYER", "session-1");
+
+		// When
+		JwtClaims first = jwtUtil.verify(token).orElseThrow();
+		JwtClaims second = jwtUtil.verify(token).orElseThrow();
+
+		// Then
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("Should reject a token with a tampered signature")
+	void verify_WhenSignatureIsTampered_ShouldReturnEmpty() {
+		// Given
+		String token = jwtUtil.generateToken("TestPlayer", "PLAYER", "session-1");
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+		// When & Then
+		assertThat(jwtUtil.verify(tampered)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should reject an expired token")
+	void verify_WhenTokenIsExpired_ShouldReturnEmpty() {
+		// Given
+		String token = JWT.create()
+				.withSubject("TestPlayer")
+				.withClaim("role", "PLAYER")
+				.withClaim("sessionId", "session-1")
+				.withExpiresAt(Instant.now().minusSeconds(60))
+				.sign(Algorithm.HMAC256("secretKey"));
+
+		// When & Then
+		assertThat(jwtUtil.verify(token)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should reject a malformed token")
+	void verify_WhenTokenIsMalformed_ShouldReturnEmpty() {
+		// When & Then
+		assertThat(jwtUtil.verify("not-a-jwt")).isEmpty();
+	}
+}